@@ -20,19 +20,24 @@ import seedu.club.commons.util.ConfigUtil;
 import seedu.club.commons.util.StringUtil;
 import seedu.club.logic.Logic;
 import seedu.club.logic.LogicManager;
+import seedu.club.logic.UndoRedoStack;
 import seedu.club.model.ClubBook;
 import seedu.club.model.Model;
 import seedu.club.model.ModelManager;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.UserPrefs;
 //import seedu.club.model.util.SampleDataUtil;
+import seedu.club.storage.BinaryClubBookStorage;
 import seedu.club.storage.ClubBookStorage;
 import seedu.club.storage.CsvClubBookStorage;
+import seedu.club.storage.JournaledClubBookStorage;
 import seedu.club.storage.JsonUserPrefsStorage;
 import seedu.club.storage.ProfilePhotoStorage;
+import seedu.club.storage.SectionedClubBookStorage;
 import seedu.club.storage.Storage;
 import seedu.club.storage.StorageManager;
 import seedu.club.storage.UserPrefsStorage;
+import seedu.club.storage.WriteBehindClubBookStorage;
 import seedu.club.storage.XmlClubBookStorage;
 import seedu.club.ui.Ui;
 import seedu.club.ui.UiManager;
@@ -63,7 +68,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        ClubBookStorage clubBookStorage = new XmlClubBookStorage(userPrefs.getClubBookFilePath());
+        ClubBookStorage clubBookStorage = initClubBookStorage(userPrefs);
         ProfilePhotoStorage profilePhotoStorage = new ProfilePhotoStorage();
         CsvClubBookStorage csvClubBookStorage = new CsvClubBookStorage();
         storage = new StorageManager(clubBookStorage, userPrefsStorage, profilePhotoStorage, csvClubBookStorage);
@@ -72,7 +77,7 @@ public class MainApp extends Application {
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = initLogicManager(model, userPrefs);
 
         ui = new UiManager(logic, config, userPrefs);
 
@@ -84,6 +89,56 @@ public class MainApp extends Application {
         return applicationParameters.get(parameterName);
     }
 
+    /**
+     * Returns the storage for the club book, in the format given by {@code userPrefs}. <br>
+     * When the binary or sectioned format is chosen and there is no data file in that format yet,
+     * the existing xml data file is copied into that format next to it.
+     */
+    private ClubBookStorage initClubBookStorage(UserPrefs userPrefs) {
+        String xmlFilePath = userPrefs.getClubBookFilePath();
+        String storageFormat = userPrefs.getClubBookStorageFormat();
+        ClubBookStorage snapshotStorage = new XmlClubBookStorage(xmlFilePath);
+
+        if (BinaryClubBookStorage.FORMAT_NAME.equals(storageFormat)) {
+            BinaryClubBookStorage binaryStorage =
+                    new BinaryClubBookStorage(BinaryClubBookStorage.getBinaryFilePath(xmlFilePath));
+            try {
+                binaryStorage.migrateFrom(new JournaledClubBookStorage(snapshotStorage));
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Unable to copy the xml data file to the binary format: " + e.getMessage());
+            }
+            snapshotStorage = binaryStorage;
+        } else if (SectionedClubBookStorage.FORMAT_NAME.equals(storageFormat)) {
+            SectionedClubBookStorage sectionedStorage =
+                    new SectionedClubBookStorage(SectionedClubBookStorage.getManifestFilePath(xmlFilePath));
+            try {
+                sectionedStorage.migrateFrom(new JournaledClubBookStorage(snapshotStorage));
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Unable to copy the xml data file to the sectioned format: " + e.getMessage());
+            }
+            snapshotStorage = sectionedStorage;
+        } else if (!XmlClubBookStorage.FORMAT_NAME.equals(storageFormat)) {
+            logger.warning("Unknown club book storage format " + storageFormat + ". Using the xml format");
+        }
+
+        return new WriteBehindClubBookStorage(new JournaledClubBookStorage(snapshotStorage),
+                userPrefs.getClubBookSaveDelay());
+    }
+
+    /**
+     * Returns a {@code LogicManager} for {@code model} that allows as many commands to be undone as given by
+     * {@code userPrefs}.
+     */
+    private Logic initLogicManager(Model model, UserPrefs userPrefs) {
+        int undoLimit = userPrefs.getUndoLimit();
+        if (undoLimit <= 0) {
+            logger.warning("Invalid undo limit " + undoLimit + ". Using the default of "
+                    + UndoRedoStack.DEFAULT_UNDO_LIMIT);
+            undoLimit = UndoRedoStack.DEFAULT_UNDO_LIMIT;
+        }
+        return new LogicManager(model, undoLimit);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s club book and {@code userPrefs}. <br>
      * The data from the sample club book will be used instead if {@code storage}'s club book is not found,
@@ -195,6 +250,11 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Club Connect ] =============================");
         ui.stop();
+        try {
+            storage.flushClubBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save club book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
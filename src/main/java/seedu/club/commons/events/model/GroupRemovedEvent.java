@@ -0,0 +1,27 @@
+package seedu.club.commons.events.model;
+
+import java.util.List;
+
+import seedu.club.commons.events.BaseEvent;
+import seedu.club.model.group.Group;
+import seedu.club.model.member.Member;
+
+/**
+ * Indicates that a group has been removed from the ClubBook in the model.
+ * {@code affectedMembers} are the members that were in the group, as they are after its removal.
+ */
+public class GroupRemovedEvent extends BaseEvent {
+
+    public final Group group;
+    public final List<Member> affectedMembers;
+
+    public GroupRemovedEvent(Group group, List<Member> affectedMembers) {
+        this.group = group;
+        this.affectedMembers = affectedMembers;
+    }
+
+    @Override
+    public String toString() {
+        return "group removed " + group + ", number of members affected " + affectedMembers.size();
+    }
+}
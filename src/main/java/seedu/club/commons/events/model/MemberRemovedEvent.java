@@ -0,0 +1,19 @@
+package seedu.club.commons.events.model;
+
+import seedu.club.commons.events.BaseEvent;
+import seedu.club.model.member.Member;
+
+/** Indicates that a member, along with the tasks assigned to it, has been removed from the ClubBook in the model */
+public class MemberRemovedEvent extends BaseEvent {
+
+    public final Member member;
+
+    public MemberRemovedEvent(Member member) {
+        this.member = member;
+    }
+
+    @Override
+    public String toString() {
+        return "member removed " + member.getMatricNumber();
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.club.commons.events.model;
+
+import seedu.club.commons.events.BaseEvent;
+import seedu.club.model.member.Member;
+
+/**
+ * Indicates that {@code target} has been replaced by {@code editedMember} in the ClubBook in the model.
+ * Both refer to the same member if it was changed in place.
+ */
+public class MemberUpdatedEvent extends BaseEvent {
+
+    public final Member target;
+    public final Member editedMember;
+
+    public MemberUpdatedEvent(Member target, Member editedMember) {
+        this.target = target;
+        this.editedMember = editedMember;
+    }
+
+    @Override
+    public String toString() {
+        return "member updated " + editedMember.getMatricNumber();
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.club.commons.events.model;
+
+import java.util.List;
+
+import seedu.club.commons.events.BaseEvent;
+import seedu.club.model.member.Member;
+
+/** Indicates that members have been added to the ClubBook in the model */
+public class MembersAddedEvent extends BaseEvent {
+
+    public final List<Member> members;
+
+    public MembersAddedEvent(List<Member> members) {
+        this.members = members;
+    }
+
+    @Override
+    public String toString() {
+        return "number of members added " + members.size();
+    }
+}
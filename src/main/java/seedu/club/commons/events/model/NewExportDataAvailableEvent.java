@@ -2,21 +2,27 @@
 package seedu.club.commons.events.model;
 
 import java.io.File;
+import java.util.List;
 
 import seedu.club.commons.events.BaseEvent;
+import seedu.club.commons.util.CsvColumn;
+import seedu.club.model.member.Member;
 
 /**
- * Indicates that a new member to export is available.
+ * Indicates that members are to be exported.
+ * The members are written to the file while the event is handled, so they are not copied.
  */
 public class NewExportDataAvailableEvent extends BaseEvent {
 
     public final File exportFile;
-    public final String data;
+    public final List<Member> members;
+    public final List<CsvColumn> columns;
     private boolean isDataExported;
 
-    public NewExportDataAvailableEvent(File exportFile, String data) {
+    public NewExportDataAvailableEvent(File exportFile, List<Member> members, List<CsvColumn> columns) {
         this.exportFile = exportFile;
-        this.data = data;
+        this.members = members;
+        this.columns = columns;
         this.isDataExported = true;
     }
 
@@ -30,6 +36,6 @@ public class NewExportDataAvailableEvent extends BaseEvent {
 
     @Override
     public String toString() {
-        return "add " + data + " to file " + exportFile.getAbsolutePath();
+        return "add " + members.size() + " members to file " + exportFile.getAbsolutePath();
     }
 }
@@ -0,0 +1,25 @@
+package seedu.club.commons.events.model;
+
+import seedu.club.commons.events.BaseEvent;
+import seedu.club.model.poll.Poll;
+
+/**
+ * Indicates that {@code oldPoll} has been replaced by {@code newPoll} in the ClubBook in the model.
+ * {@code oldPoll} is null if a poll has been added, and {@code newPoll} is null if a poll has been removed.
+ */
+public class PollChangedEvent extends BaseEvent {
+
+    public final Poll oldPoll;
+    public final Poll newPoll;
+
+    public PollChangedEvent(Poll oldPoll, Poll newPoll) {
+        assert oldPoll != null || newPoll != null;
+        this.oldPoll = oldPoll;
+        this.newPoll = newPoll;
+    }
+
+    @Override
+    public String toString() {
+        return "poll changed from " + oldPoll + " to " + newPoll;
+    }
+}
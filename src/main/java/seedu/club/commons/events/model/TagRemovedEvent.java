@@ -0,0 +1,27 @@
+package seedu.club.commons.events.model;
+
+import java.util.List;
+
+import seedu.club.commons.events.BaseEvent;
+import seedu.club.model.member.Member;
+import seedu.club.model.tag.Tag;
+
+/**
+ * Indicates that a tag has been removed from the ClubBook in the model.
+ * {@code affectedMembers} are the members that had the tag, as they are after its removal.
+ */
+public class TagRemovedEvent extends BaseEvent {
+
+    public final Tag tag;
+    public final List<Member> affectedMembers;
+
+    public TagRemovedEvent(Tag tag, List<Member> affectedMembers) {
+        this.tag = tag;
+        this.affectedMembers = affectedMembers;
+    }
+
+    @Override
+    public String toString() {
+        return "tag removed " + tag + ", number of members affected " + affectedMembers.size();
+    }
+}
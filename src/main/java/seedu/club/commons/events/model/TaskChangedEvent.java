@@ -0,0 +1,25 @@
+package seedu.club.commons.events.model;
+
+import seedu.club.commons.events.BaseEvent;
+import seedu.club.model.task.Task;
+
+/**
+ * Indicates that {@code oldTask} has been replaced by {@code newTask} in the ClubBook in the model.
+ * {@code oldTask} is null if a task has been added, and {@code newTask} is null if a task has been removed.
+ */
+public class TaskChangedEvent extends BaseEvent {
+
+    public final Task oldTask;
+    public final Task newTask;
+
+    public TaskChangedEvent(Task oldTask, Task newTask) {
+        assert oldTask != null || newTask != null;
+        this.oldTask = oldTask;
+        this.newTask = newTask;
+    }
+
+    @Override
+    public String toString() {
+        return "task changed from " + oldTask + " to " + newTask;
+    }
+}
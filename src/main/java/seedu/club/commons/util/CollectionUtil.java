@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -48,4 +50,40 @@ public class CollectionUtil {
         }
         return true;
     }
+
+    /**
+     * Inserts {@code item} into {@code sortedList}, which is sorted by {@code order}, such that the list stays sorted.
+     * {@code item} is inserted after the elements that are equal to it by {@code order}.
+     * The insertion point is found by binary search, so {@code sortedList} should support fast random access.
+     */
+    public static <T> void addSorted(List<T> sortedList, T item, Comparator<? super T> order) {
+        int low = 0;
+        int high = sortedList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(sortedList.get(middle), item) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        sortedList.add(low, item);
+    }
+
+    /**
+     * Replaces the elements of {@code list} at positions {@code from} (inclusive) to {@code to} (exclusive) with
+     * {@code replacement}. Elements are set in place where the range and {@code replacement} overlap, so that
+     * replacing elements one for one does not shift the rest of the list.
+     */
+    public static <T> void replaceRange(List<T> list, int from, int to, List<? extends T> replacement) {
+        int overlap = Math.min(to - from, replacement.size());
+        for (int i = 0; i < overlap; i++) {
+            list.set(from + i, replacement.get(i));
+        }
+        if (to - from > overlap) {
+            list.subList(from + overlap, to).clear();
+        } else if (replacement.size() > overlap) {
+            list.addAll(from + overlap, replacement.subList(overlap, replacement.size()));
+        }
+    }
 }
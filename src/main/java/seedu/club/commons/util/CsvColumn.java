@@ -0,0 +1,52 @@
+package seedu.club.commons.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import seedu.club.model.member.Member;
+
+/**
+ * The columns of member data in a CSV file, in the order in which they are exported by default.
+ */
+public enum CsvColumn {
+    NAME("Name", member -> member.getName().toString()),
+    PHONE("Phone", member -> member.getPhone().toString()),
+    EMAIL("Email", member -> member.getEmail().toString()),
+    MATRIC_NUMBER("Matriculation Number", member -> member.getMatricNumber().toString()),
+    GROUP("Group", member -> member.getGroup().toString()),
+    TAGS("Tags", CsvColumn::getTagNames);
+
+    public static final List<CsvColumn> ALL_COLUMNS = Collections.unmodifiableList(Arrays.asList(values()));
+
+    private static final String TAG_SEPARATOR = ",";
+
+    private final String header;
+    private final Function<Member, String> valueExtractor;
+
+    CsvColumn(String header, Function<Member, String> valueExtractor) {
+        this.header = header;
+        this.valueExtractor = valueExtractor;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the value of {@code member} in this column.
+     */
+    public String getValue(Member member) {
+        return valueExtractor.apply(member);
+    }
+
+    /**
+     * Returns the names of the tags of {@code member}, each followed by a {@code TAG_SEPARATOR}.
+     */
+    private static String getTagNames(Member member) {
+        StringBuilder builder = new StringBuilder();
+        member.getTags().forEach(tag -> builder.append(tag.getTagName()).append(TAG_SEPARATOR));
+        return builder.toString();
+    }
+}
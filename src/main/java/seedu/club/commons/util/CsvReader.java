@@ -0,0 +1,155 @@
+package seedu.club.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a CSV file as described in RFC 4180, one record at a time.
+ *
+ * Fields are separated by commas and records by line breaks (CRLF, LF or CR). A field surrounded by double quotes
+ * may contain commas, line breaks, and double quotes written as two double quotes.
+ * Malformed input is read leniently: a double quote inside an unquoted field is kept as it is, and
+ * a quoted field that is still open at the end of the input ends there.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char FIELD_SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char LINE_FEED = '\n';
+    private static final int END_OF_INPUT = -1;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    /** A character that was read ahead of the current record, or {@code END_OF_INPUT} if there is none. */
+    private int pushedBack = END_OF_INPUT;
+    private int lineNumber = 1;
+    private int recordLineNumber = 0;
+
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = (reader instanceof BufferedReader) ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     * An empty line is read as a record with a single empty field.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == END_OF_INPUT) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        while (true) {
+            c = (c == QUOTE) ? readQuotedField() : readUnquotedField(c);
+            fields.add(field.toString());
+            field.setLength(0);
+
+            if (c == FIELD_SEPARATOR) {
+                c = read();
+                continue;
+            }
+            endLine(c);
+            return fields;
+        }
+    }
+
+    /**
+     * Returns the line number at which the record last returned by {@link #readRecord()} starts,
+     * counting from 1.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads an unquoted field that starts with {@code c} into {@code field}.
+     *
+     * @return the character that ends the field.
+     */
+    private int readUnquotedField(int c) throws IOException {
+        while (c != FIELD_SEPARATOR && c != CARRIAGE_RETURN && c != LINE_FEED && c != END_OF_INPUT) {
+            field.append((char) c);
+            c = read();
+        }
+        return c;
+    }
+
+    /**
+     * Reads a quoted field, whose opening double quote has been read, into {@code field}.
+     * Any characters between the closing double quote and the end of the field are added to it as well.
+     *
+     * @return the character that ends the field.
+     */
+    private int readQuotedField() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == END_OF_INPUT) {
+                return c;
+            }
+            if (c == LINE_FEED || (c == CARRIAGE_RETURN && peek() != LINE_FEED)) {
+                lineNumber++;
+            }
+            if (c != QUOTE) {
+                field.append((char) c);
+                continue;
+            }
+
+            c = read();
+            if (c == QUOTE) {
+                field.append(QUOTE);
+                continue;
+            }
+            return readUnquotedField(c);
+        }
+    }
+
+    /**
+     * Moves past the line break {@code c} that ends a record.
+     */
+    private void endLine(int c) throws IOException {
+        if (c == END_OF_INPUT) {
+            return;
+        }
+        lineNumber++;
+        if (c == CARRIAGE_RETURN && peek() == LINE_FEED) {
+            read();
+        }
+    }
+
+    /**
+     * Returns the next character of the input, or {@code END_OF_INPUT} if there are no more characters.
+     */
+    private int read() throws IOException {
+        if (pushedBack != END_OF_INPUT) {
+            int c = pushedBack;
+            pushedBack = END_OF_INPUT;
+            return c;
+        }
+        return reader.read();
+    }
+
+    /**
+     * Returns the next character of the input without moving past it.
+     */
+    private int peek() throws IOException {
+        if (pushedBack == END_OF_INPUT) {
+            pushedBack = reader.read();
+        }
+        return pushedBack;
+    }
+}
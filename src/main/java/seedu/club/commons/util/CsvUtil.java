@@ -2,27 +2,24 @@
 package seedu.club.commons.util;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.club.commons.core.Messages.MESSAGE_INVALID_MEMBER_FORMAT;
-import static seedu.club.logic.parser.CliSyntax.PREFIX_EMAIL;
-import static seedu.club.logic.parser.CliSyntax.PREFIX_GROUP;
-import static seedu.club.logic.parser.CliSyntax.PREFIX_MATRIC_NUMBER;
-import static seedu.club.logic.parser.CliSyntax.PREFIX_NAME;
-import static seedu.club.logic.parser.CliSyntax.PREFIX_PHONE;
-import static seedu.club.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.club.commons.util.AppUtil.checkArgument;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
 import seedu.club.commons.core.LogsCenter;
-import seedu.club.commons.exceptions.DataConversionException;
 import seedu.club.commons.exceptions.IllegalValueException;
-import seedu.club.logic.parser.ArgumentMultimap;
-import seedu.club.logic.parser.ArgumentTokenizer;
 import seedu.club.logic.parser.ParserUtil;
-import seedu.club.logic.parser.Prefix;
 import seedu.club.model.group.Group;
 import seedu.club.model.member.Email;
 import seedu.club.model.member.MatricNumber;
@@ -39,34 +36,32 @@ import seedu.club.model.tag.Tag;
  */
 public class CsvUtil {
 
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final String MESSAGE_INVALID_ROW = "Skipped line %1$d as it is not a valid member: %2$s";
+
+    private static final String MESSAGE_MISSING_FIELDS = "Some of the member's fields are missing.";
+
     private static final String CSV_FIELD_SEPARATOR = ",";
     private static final String CSV_FIELD_SURROUNDER = "\"";
     private static final String CSV_VALUE_SEPARATOR = ",";
     private static final String EMPTY_STRING = "";
     private static final String NEWLINE = System.lineSeparator();
-    private static final String SPACE = " ";
+
+    private static final int NUMBER_OF_REQUIRED_COLUMNS = 4;
+    private static final int[] DEFAULT_COLUMN_POSITIONS = { 0, 1, 2, 3, 4, 5 };
 
     private static final Logger logger = LogsCenter.getLogger(CsvUtil.class);
 
-    // ================ Import CSV data methods ==============================
+    // ================ Export CSV data methods ==============================
 
     /**
-     * Returns {@code this} Member's data in the format of a CSV record.
+     * Returns the headers of all the columns in the format of a CSV record.
      *
-     * @return {@code String} containing the data in CSV format.
+     * @return {@code String} containing the headers in CSV format.
      */
     public static String getHeaders() {
         final StringBuilder builder = new StringBuilder();
-
-        addFieldInCsv(builder, "Name");
-        addFieldInCsv(builder, "Phone");
-        addFieldInCsv(builder, "Email");
-        addFieldInCsv(builder, "Matriculation Number");
-        addFieldInCsv(builder, "Group");
-        addLastCsvField(builder, "Tags");
-
-        builder.append(NEWLINE);
-
+        addHeaders(builder, CsvColumn.ALL_COLUMNS);
         return builder.toString();
     }
 
@@ -89,17 +84,60 @@ public class CsvUtil {
         }
 
         StringBuilder builder = new StringBuilder();
+        addCsvRecord(builder, memberToConvert, CsvColumn.ALL_COLUMNS);
+        return builder.toString();
+    }
 
-        addFieldInCsv(builder, memberToConvert.getName().toString());
-        addFieldInCsv(builder, memberToConvert.getPhone().toString());
-        addFieldInCsv(builder, memberToConvert.getEmail().toString());
-        addFieldInCsv(builder, memberToConvert.getMatricNumber().toString());
-        addFieldInCsv(builder, memberToConvert.getGroup().toString());
-        addCsvTags(builder, memberToConvert);
+    /**
+     * Writes the headers of {@code columns}, followed by the data of {@code members} in those columns,
+     * to {@code writer} in CSV format.
+     * Only one record is held in memory at a time, so the memory used does not depend on the number of members.
+     *
+     * @param writer Writer to which the records are written. It is not closed.
+     * @param members Members whose data is to be written, in the order in which it is to be written.
+     * @param columns Columns which are to be written, in the order in which they are to be written.
+     * @throws IOException Thrown if there is an error writing to {@code writer}.
+     */
+    public static void writeMembers(Writer writer, Iterable<Member> members, List<CsvColumn> columns)
+            throws IOException {
+        requireNonNull(writer);
+        requireNonNull(members);
+        requireNonNull(columns);
+        checkArgument(!columns.isEmpty());
+
+        StringBuilder record = new StringBuilder();
+        addHeaders(record, columns);
+        writer.append(record);
+
+        for (Member member : members) {
+            record.setLength(0);
+            addCsvRecord(record, member, columns);
+            writer.append(record);
+        }
+    }
+
+    /**
+     * Appends {@code builder} with the headers of {@code columns} in the format of a CSV record.
+     */
+    private static void addHeaders(StringBuilder builder, List<CsvColumn> columns) {
+        for (int i = 0; i < columns.size() - 1; i++) {
+            addFieldInCsv(builder, columns.get(i).getHeader());
+        }
+        addLastCsvField(builder, columns.get(columns.size() - 1).getHeader());
 
         builder.append(NEWLINE);
+    }
 
-        return builder.toString();
+    /**
+     * Appends {@code builder} with the data of {@code member} in {@code columns} in the format of a CSV record.
+     */
+    private static void addCsvRecord(StringBuilder builder, Member member, List<CsvColumn> columns) {
+        for (int i = 0; i < columns.size() - 1; i++) {
+            addFieldInCsv(builder, columns.get(i).getValue(member));
+        }
+        addLastCsvField(builder, columns.get(columns.size() - 1).getValue(member));
+
+        builder.append(NEWLINE);
     }
 
     /**
@@ -112,7 +150,7 @@ public class CsvUtil {
         assert field != null : "Field cannot be null in Member object";
 
         builder.append(CSV_FIELD_SURROUNDER)
-                .append(field)
+                .append(escapeQuotes(field))
                 .append(CSV_FIELD_SURROUNDER)
                 .append(CSV_FIELD_SEPARATOR);
     }
@@ -127,194 +165,109 @@ public class CsvUtil {
         assert field != null : "Field cannot be null in Member object";
 
         builder.append(CSV_FIELD_SURROUNDER)
-                .append(field)
+                .append(escapeQuotes(field))
                 .append(CSV_FIELD_SURROUNDER);
     }
 
     /**
-     * Appends (@code builder} with all tags of {@code member} in CSV format.
-     *
-     * @param builder StringBuilder which is to be appended.
-     * @param member Member whose tags are to be appended.
+     * Returns {@code field} with every double quote (") written as two double quotes, as required inside
+     * a field surrounded by double quotes.
      */
-    private static void addCsvTags(StringBuilder builder, Member member) {
-        builder.append(CSV_FIELD_SURROUNDER);
-        member.getTags().forEach(tag -> builder.append(tag.getTagName())
-                .append(CSV_VALUE_SEPARATOR)); //Results in an extra "," at end of tag list.
-        builder.append(CSV_FIELD_SURROUNDER); //No CSV_FIELD_SEPARATOR as this is the last field.
+    private static String escapeQuotes(String field) {
+        return field.replace(CSV_FIELD_SURROUNDER, CSV_FIELD_SURROUNDER + CSV_FIELD_SURROUNDER);
     }
 
     // ================ Import CSV data methods ==============================
 
     /**
-     * Returns a {@code Member} created using the given raw {@code rawData}.
-     *
-     * @param rawData Contains all the rawData of the member extracted from the file.
-     * @throws DataConversionException Thrown if the rawData of the member is not in the specified format.
+     * Returns the position of each member field in the records that follow {@code headers}, in the order of
+     * {@code CsvColumn.ALL_COLUMNS}, or -1 for an optional field that has no column.
+     * Columns are matched to fields by their headers, ignoring case. If any required field has no column, the
+     * columns are assumed to be in the order in which {@link #getHeaders()} writes them.
      */
-    private static Member getMember(String rawData) throws DataConversionException {
-        String remainingData = rawData;
-        String memberData = SPACE;
-        String memberFieldValue;
-        String[] fieldValues;
-
-        try {
-            fieldValues = nextValue(remainingData);
-            memberFieldValue = fieldValues[0];
-            remainingData = fieldValues[1];
-            memberData = addMemberData(memberData, PREFIX_NAME.toString(), memberFieldValue);
-
-            fieldValues = nextValue(remainingData);
-            memberFieldValue = fieldValues[0];
-            remainingData = fieldValues[1];
-            memberData = addMemberData(memberData, PREFIX_PHONE.toString(), memberFieldValue);
-
-            fieldValues = nextValue(remainingData);
-            memberFieldValue = fieldValues[0];
-            remainingData = fieldValues[1];
-            memberData = addMemberData(memberData, PREFIX_EMAIL.toString(), memberFieldValue);
-
-            fieldValues = nextValue(remainingData);
-            memberFieldValue = fieldValues[0];
-            remainingData = fieldValues[1];
-            memberData = addMemberData(memberData, PREFIX_MATRIC_NUMBER.toString(), memberFieldValue);
-
-            fieldValues = nextValue(remainingData);
-            memberFieldValue = fieldValues[0];
-            remainingData = fieldValues[1];
-            memberData = addMemberData(memberData, PREFIX_GROUP.toString(), memberFieldValue);
-
-            fieldValues = nextValue(remainingData);
-            memberFieldValue = fieldValues[0];
-            memberData = addMemberData(memberData, PREFIX_TAG.toString(), memberFieldValue);
-        } catch (ArrayIndexOutOfBoundsException aioobe) {
-            throw new DataConversionException(aioobe);
-        }
-
-        try {
-            return parseMember(memberData);
-        } catch (IllegalValueException ive) {
-            throw new DataConversionException(ive);
-        }
-    }
-
-    /**
-     * Returns the next data value of the member.
-     * @param data Raw member data.
-     * @return {@code String[]} with the next data value at index 0 and remaining data (if it exists) at index 1.
-     */
-    private static String[] nextValue(String data) {
-        String[] values;
-        if (data.charAt(0) == '\"') {
-            values = data.substring(1).split(CSV_FIELD_SURROUNDER + CSV_FIELD_SEPARATOR, 2);
-        } else {
-            values = data.split(CSV_FIELD_SEPARATOR, 2);
+    private static int[] getColumnPositions(List<String> headers) {
+        int[] positions = new int[CsvColumn.ALL_COLUMNS.size()];
+        for (int field = 0; field < positions.length; field++) {
+            positions[field] = -1;
+            for (int column = 0; column < headers.size(); column++) {
+                if (headers.get(column).trim().equalsIgnoreCase(CsvColumn.ALL_COLUMNS.get(field).getHeader())) {
+                    positions[field] = column;
+                    break;
+                }
+            }
+            if (positions[field] == -1 && field < NUMBER_OF_REQUIRED_COLUMNS) {
+                return DEFAULT_COLUMN_POSITIONS;
+            }
         }
-
-        return values;
+        return positions;
     }
 
     /**
-     * Appends {@code dataToAdd} to {@code memberData} in the required format.
+     * Returns a {@code Member} created from the fields in {@code record}.
      *
-     * @param memberData The current data of the member.
-     * @param prefix The prefix needed, depending on the type of {@code dataToAdd}.
-     * @param dataToAdd The data that is to be added to {@code memberData}.
-     * @return {@code memberData} appended with {@code dataToAdd} in the required format.
+     * @param record Contains all the data of the member extracted from the file.
+     * @param positions The position of each member field in {@code record}.
+     * @throws IllegalValueException Thrown if the data of the member is missing or not in the specified format.
      */
-    private static String addMemberData(String memberData, String prefix, String dataToAdd) {
-        StringBuilder builder = new StringBuilder(memberData);
-
-        if (prefix.equals(PREFIX_TAG.toString())) {
-            return addMemberTags(memberData, dataToAdd);
-        } else if (dataToAdd.length() != 0) {
-            builder.append(prefix).append(removeExcessCharacters(dataToAdd)).append(SPACE);
-        }
-
-        return builder.toString();
+    private static Member getMember(List<String> record, int[] positions) throws IllegalValueException {
+        Name name = ParserUtil.parseName(getRequiredField(record, positions[CsvColumn.NAME.ordinal()]));
+        Phone phone = ParserUtil.parsePhone(getRequiredField(record, positions[CsvColumn.PHONE.ordinal()]));
+        Email email = ParserUtil.parseEmail(getRequiredField(record, positions[CsvColumn.EMAIL.ordinal()]));
+        MatricNumber matricNumber =
+                ParserUtil.parseMatricNumber(getRequiredField(record, positions[CsvColumn.MATRIC_NUMBER.ordinal()]));
+
+        String groupField = getField(record, positions[CsvColumn.GROUP.ordinal()]);
+        Group group = groupField.isEmpty()
+                ? new Group(Group.DEFAULT_GROUP)
+                : ParserUtil.parseGroup(groupField);
+        Set<Tag> tags = ParserUtil.parseTags(getTagNames(getField(record, positions[CsvColumn.TAGS.ordinal()])));
+
+        return new Member(name, phone, email, matricNumber, group, tags);
     }
 
     /**
-     * Appends the tags in {@code dataToAdd} to {@code memberData} in the required format.
+     * Returns the trimmed field at {@code position} in {@code record}.
      *
-     * @param memberData The current data of the member.
-     * @param dataToAdd The tags to be added to {@code memberData}.
-     * @return {@code memberData} appended with {@code dataToAdd} in the required format.
+     * @throws IllegalValueException Thrown if the field is missing or empty.
      */
-    private static String addMemberTags(String memberData, String dataToAdd) {
-        StringBuilder builder = new StringBuilder(memberData);
-
-        if (dataToAdd.length() != 0) {
-            String[] tags = dataToAdd.split(",");
-
-            for (String tag : tags) {
-                tag = removeExcessCharacters(tag);
-                if (tag.length() > 0) {
-                    builder.append(PREFIX_TAG).append(tag).append(SPACE);
-                }
-            }
+    private static String getRequiredField(List<String> record, int position) throws IllegalValueException {
+        String field = getField(record, position);
+        if (field.isEmpty()) {
+            throw new IllegalValueException(MESSAGE_MISSING_FIELDS);
         }
-
-        return builder.toString();
+        return field;
     }
 
     /**
-     * Removes leading and trailing whitespaces and double quotes (") from {@code data}.
+     * Returns the trimmed field at {@code position} in {@code record}, or an empty string if there is no such field.
      */
-    private static String removeExcessCharacters(String data) {
-        requireNonNull(data);
-
-        //Remove whitespace
-        data = data.trim();
-
-        //Remove double quotes(")
-        if (data.length() > 0 && data.charAt(0) == '\"') { //First character is "
-            data = data.substring(1);
-        } else if (data.length() > 0 && data.charAt(data.length() - 1) == '\"') { //Last character is "
-            data = data.substring(0, data.length() - 1);
+    private static String getField(List<String> record, int position) {
+        if (position < 0 || position >= record.size()) {
+            return EMPTY_STRING;
         }
-
-        return data;
+        return record.get(position).trim();
     }
 
     /**
-     * Returns a member created by parsing {@code memberData}.
-     *
-     * @param memberData Data of the member with cli prefixes.
-     * @throws IllegalValueException Thrown if the data does not conform the expected format.
+     * Returns the non-empty tag names in {@code tagsField}, which separates the names with commas.
      */
-    private static Member parseMember(String memberData) throws IllegalValueException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(memberData, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_MATRIC_NUMBER, PREFIX_GROUP, PREFIX_TAG);
-
-        if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_MATRIC_NUMBER, PREFIX_PHONE, PREFIX_EMAIL)
-                || !argMultimap.getPreamble().isEmpty()) {
-            throw new IllegalValueException(String.format(MESSAGE_INVALID_MEMBER_FORMAT, memberData));
+    private static List<String> getTagNames(String tagsField) {
+        List<String> tagNames = new ArrayList<>();
+        for (String tagName : tagsField.split(CSV_VALUE_SEPARATOR)) {
+            if (!tagName.trim().isEmpty()) {
+                tagNames.add(tagName);
+            }
         }
-
-        Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME)).get();
-        Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE)).get();
-        Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL)).get();
-        MatricNumber matricNumber = ParserUtil.parseMatricNumber(argMultimap.getValue(PREFIX_MATRIC_NUMBER)).get();
-        Group group = ParserUtil.parseGroup(argMultimap.getValue(PREFIX_GROUP))
-                .orElse(new Group(Group.DEFAULT_GROUP));
-        Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
-
-        Member member = new Member(name, phone, email, matricNumber, group, tagList);
-
-        return member;
+        return tagNames;
     }
 
     /**
-     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
-     * {@code ArgumentMultimap}.
+     * Returns true if {@code record} is a blank line.
      */
-    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
-        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    private static boolean isBlank(List<String> record) {
+        return record.size() == 1 && record.get(0).trim().isEmpty();
     }
 
-
     // ================ CSV File level methods ==============================
 
     /**
@@ -334,7 +287,7 @@ public class CsvUtil {
     /**
      * Loads a {@code UniqueMemberList} from the data in the csv file.
      * Assumes file exists.
-     * Ignores DataConversionException and DuplicateMemberException.
+     * Ignores members that are not in the expected format and DuplicateMemberException.
      *
      * @param file Points to a valid csv file containing data that match the {@code Member}.
      *             Cannot be null.
@@ -343,21 +296,140 @@ public class CsvUtil {
     public static UniqueMemberList getDataFromFile(File file) throws IOException {
         requireNonNull(file);
         UniqueMemberList importedMembers = new UniqueMemberList();
-        String data = FileUtil.readFromFile(file);
-        String[] membersData = data.split("\n");
-
-        for (int i = 1; i < membersData.length; i++) { //membersData[0] contains column headers
-            try {
-                Member member = getMember(membersData[i]);
-                importedMembers.add(member);
-            } catch (DataConversionException dce) {
-                logger.warning("DataConversionException encountered while converting " + membersData[i]);
-            } catch (DuplicateMatricNumberException dmne) {
-                logger.warning("DuplicateMemberException encountered due to " + membersData[i]);
+
+        readMembersFromFile(file, DEFAULT_BATCH_SIZE, members -> {
+            for (Member member : members) {
+                try {
+                    importedMembers.add(member);
+                } catch (DuplicateMatricNumberException dmne) {
+                    logger.warning("DuplicateMemberException encountered due to " + member);
+                }
             }
-        }
+        }, logger::warning);
 
         return importedMembers;
     }
 
+    /**
+     * Reads the members in the csv file one line at a time, so that the whole file is never held in memory.
+     * The rows are read in batches of at most {@code batchSize} rows, and the rows of a batch are converted into
+     * members in parallel. The members are passed to {@code batchConsumer} in the order of their rows, and every row
+     * that cannot be converted into a member is reported to {@code errorConsumer} in order and skipped.
+     * Assumes file exists.
+     *
+     * @param file Points to a valid csv file containing data that match the {@code Member}.
+     *             Cannot be null.
+     * @return the number of rows read, excluding the column headers.
+     * @throws IOException Thrown if there is an error reading from the file.
+     */
+    public static int readMembersFromFile(File file, int batchSize, Consumer<List<Member>> batchConsumer,
+                                          Consumer<String> errorConsumer) throws IOException {
+        requireNonNull(file);
+        checkArgument(batchSize > 0);
+
+        int rowCount = 0;
+        List<List<String>> records = new ArrayList<>(batchSize);
+        List<Integer> lineNumbers = new ArrayList<>(batchSize);
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))) {
+            List<String> headers = reader.readRecord();
+            if (headers == null) {
+                return rowCount;
+            }
+            int[] positions = getColumnPositions(headers);
+
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                rowCount++;
+                if (isBlank(record)) {
+                    continue;
+                }
+
+                records.add(record);
+                lineNumbers.add(reader.getRecordLineNumber());
+                if (records.size() == batchSize) {
+                    convertRecords(records, lineNumbers, positions, batchConsumer, errorConsumer);
+                    records = new ArrayList<>(batchSize);
+                    lineNumbers = new ArrayList<>(batchSize);
+                }
+            }
+
+            if (!records.isEmpty()) {
+                convertRecords(records, lineNumbers, positions, batchConsumer, errorConsumer);
+            }
+        }
+        return rowCount;
+    }
+
+    /**
+     * Converts {@code records} into members in parallel, and passes them to {@code batchConsumer} in the order of
+     * {@code records}. Records that cannot be converted are reported to {@code errorConsumer} in order.
+     *
+     * @param lineNumbers The line number at which each of the {@code records} starts.
+     */
+    private static void convertRecords(List<List<String>> records, List<Integer> lineNumbers, int[] positions,
+                                       Consumer<List<Member>> batchConsumer, Consumer<String> errorConsumer) {
+        Member[] members = new Member[records.size()];
+        String[] errors = new String[records.size()];
+        ForkJoinPool.commonPool().invoke(new RecordConversionTask(records, positions, members, errors,
+                0, records.size()));
+
+        List<Member> batch = new ArrayList<>(records.size());
+        for (int i = 0; i < members.length; i++) {
+            if (members[i] != null) {
+                batch.add(members[i]);
+            } else {
+                errorConsumer.accept(String.format(MESSAGE_INVALID_ROW, lineNumbers.get(i), errors[i]));
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+    }
+
+    /**
+     * Converts a range of records into members, splitting the range between threads when it is large.
+     * The member converted from each record is stored at the record's index, or the reason it could not be
+     * converted if it is invalid, so that the results do not depend on the order in which the threads run.
+     */
+    private static class RecordConversionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private static final int SEQUENTIAL_THRESHOLD = 64;
+
+        private final List<List<String>> records;
+        private final int[] positions;
+        private final Member[] members;
+        private final String[] errors;
+        private final int start;
+        private final int end;
+
+        RecordConversionTask(List<List<String>> records, int[] positions, Member[] members, String[] errors,
+                             int start, int end) {
+            this.records = records;
+            this.positions = positions;
+            this.members = members;
+            this.errors = errors;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= SEQUENTIAL_THRESHOLD) {
+                for (int i = start; i < end; i++) {
+                    try {
+                        members[i] = getMember(records.get(i), positions);
+                    } catch (IllegalValueException ive) {
+                        errors[i] = ive.getMessage();
+                    }
+                }
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+            invokeAll(new RecordConversionTask(records, positions, members, errors, start, middle),
+                    new RecordConversionTask(records, positions, members, errors, middle, end));
+        }
+    }
 }
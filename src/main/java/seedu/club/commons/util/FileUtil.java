@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.club.commons.util.AppUtil.checkArgument;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.zip.CRC32;
 
 import seedu.club.commons.exceptions.IllegalValueException;
 
@@ -85,6 +88,34 @@ public class FileUtil {
         Files.write(file.toPath(), content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns the CRC-32 checksum of the contents of {@code file}.
+     * Assumes file exists
+     */
+    public static long getChecksum(File file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new FileInputStream(file)) {
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, length);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Returns {@code filePath} with the extension of its file name replaced by {@code extension},
+     * or with {@code extension} appended if the file name has no extension.
+     */
+    public static String replaceExtension(String filePath, String extension) {
+        int extensionStart = filePath.lastIndexOf('.');
+        if (extensionStart > filePath.lastIndexOf(File.separatorChar) && extensionStart > filePath.lastIndexOf('/')) {
+            return filePath.substring(0, extensionStart) + extension;
+        }
+        return filePath + extension;
+    }
+
     //@@author amrut-prabhu
     /**
      * Returns true if {@code file} represents the absolute path of a file.
@@ -65,6 +65,38 @@ public class StringUtil {
     }
     //@@author
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the least number of characters
+     * that must be inserted, deleted or replaced to turn one into the other.
+     *   <br>examples:<pre>
+     *       getEditDistance("alice", "alcie") == 2
+     *       getEditDistance("bob", "rob") == 1
+     *       </pre>
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // Only the previous row of the table of distances between prefixes is kept.
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + replaceCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -31,10 +31,17 @@ public class LogicManager extends ComponentManager implements Logic {
     private UndoRedoStack undoRedoStack;
 
     public LogicManager(Model model) {
+        this(model, UndoRedoStack.DEFAULT_UNDO_LIMIT);
+    }
+
+    /**
+     * Creates a {@code LogicManager} that allows at most {@code undoLimit} commands to be undone.
+     */
+    public LogicManager(Model model, int undoLimit) {
         this.model = model;
         history = new CommandHistory();
         clubBookParser = new ClubBookParser();
-        undoRedoStack = new UndoRedoStack();
+        undoRedoStack = new UndoRedoStack(undoLimit);
     }
 
     @Override
@@ -43,7 +50,7 @@ public class LogicManager extends ComponentManager implements Logic {
         try {
             Command command = clubBookParser.parseCommand(commandText);
             command.setData(model, history, undoRedoStack);
-            CommandResult result = command.execute();
+            CommandResult result = executeAsBatch(command);
             undoRedoStack.push(command);
             return result;
         } finally {
@@ -51,6 +58,26 @@ public class LogicManager extends ComponentManager implements Logic {
         }
     }
 
+    /**
+     * Executes {@code command} as a single batch of changes to the model, so that the changes are saved and shown
+     * together. If the command fails, none of its changes are kept.
+     */
+    private CommandResult executeAsBatch(Command command) throws CommandException {
+        boolean isExecuted = false;
+        model.beginBatch();
+        try {
+            CommandResult result = command.execute();
+            isExecuted = true;
+            return result;
+        } finally {
+            if (isExecuted) {
+                model.commitBatch();
+            } else {
+                model.rollbackBatch();
+            }
+        }
+    }
+
     @Override
     public ObservableList<Member> getFilteredMemberList() {
         return model.getFilteredMemberList();
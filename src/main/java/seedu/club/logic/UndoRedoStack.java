@@ -1,5 +1,7 @@
 package seedu.club.logic;
 
+import static seedu.club.commons.util.AppUtil.checkArgument;
+
 import java.util.Stack;
 
 import seedu.club.logic.commands.Command;
@@ -11,12 +13,40 @@ import seedu.club.logic.commands.UndoableCommand;
 /**
  * Maintains the undo-stack (the stack of commands that can be undone) and the redo-stack (the stack of
  * commands that can be undone).
+ * At most {@code undoLimit} commands are kept, and the oldest commands are also dropped once the changes recorded
+ * for undoing them hold more than {@code editSizeLimit} elements in total. The latest command is always kept.
  */
 public class UndoRedoStack {
+    public static final int DEFAULT_UNDO_LIMIT = 100;
+    public static final int DEFAULT_EDIT_SIZE_LIMIT = 100000;
+    public static final String MESSAGE_UNDO_LIMIT_CONSTRAINTS = "The undo limit must be positive.";
+    public static final String MESSAGE_EDIT_SIZE_LIMIT_CONSTRAINTS = "The edit size limit must be positive.";
+
+    private final int undoLimit;
+    private final int editSizeLimit;
     private Stack<UndoableCommand> undoStack;
     private Stack<UndoableCommand> redoStack;
 
     public UndoRedoStack() {
+        this(DEFAULT_UNDO_LIMIT);
+    }
+
+    /**
+     * Creates an {@code UndoRedoStack} that keeps at most {@code undoLimit} commands, which must be positive.
+     */
+    public UndoRedoStack(int undoLimit) {
+        this(undoLimit, DEFAULT_EDIT_SIZE_LIMIT);
+    }
+
+    /**
+     * Creates an {@code UndoRedoStack} that keeps at most {@code undoLimit} commands, whose recorded changes hold at
+     * most {@code editSizeLimit} elements in total unless there is only one command. Both limits must be positive.
+     */
+    public UndoRedoStack(int undoLimit, int editSizeLimit) {
+        checkArgument(undoLimit > 0, MESSAGE_UNDO_LIMIT_CONSTRAINTS);
+        checkArgument(editSizeLimit > 0, MESSAGE_EDIT_SIZE_LIMIT_CONSTRAINTS);
+        this.undoLimit = undoLimit;
+        this.editSizeLimit = editSizeLimit;
         undoStack = new Stack<>();
         redoStack = new Stack<>();
     }
@@ -24,6 +54,8 @@ public class UndoRedoStack {
     /**
      * Pushes {@code command} onto the undo-stack if it is of type {@code UndoableCommand}. Clears the redo-stack
      * if {@code command} is not of type {@code UndoCommand} or {@code RedoCommand}.
+     * The oldest commands in the undo-stack are dropped while it holds more than {@code undoLimit} commands, or
+     * more than one command whose recorded changes hold more than {@code editSizeLimit} elements in total.
      */
     public void push(Command command) {
         if (!(command instanceof UndoCommand) && !(command instanceof RedoCommand)) {
@@ -38,6 +70,10 @@ public class UndoRedoStack {
         }
 
         undoStack.add((UndoableCommand) command);
+        int editSize = undoStack.stream().mapToInt(UndoableCommand::getEditSize).sum();
+        while (undoStack.size() > undoLimit || (undoStack.size() > 1 && editSize > editSizeLimit)) {
+            editSize -= undoStack.remove(0).getEditSize();
+        }
     }
 
     //@@author th14thmusician
@@ -2,12 +2,16 @@
 package seedu.club.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_COLUMN;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_FILTERED;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.logic.commands.exceptions.CommandException;
 
 /**
@@ -16,27 +20,47 @@ import seedu.club.logic.commands.exceptions.CommandException;
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
-    public static final String COMMAND_FORMAT = "export FILE_PATH";
+    public static final String COMMAND_FORMAT = "export FILE_PATH [col/COLUMN]... [filtered/]";
     public static final ArrayList<String> COMMAND_ALIASES = new ArrayList<>(
             Arrays.asList(COMMAND_WORD, "exp")
     );
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Exports the members' information to the specified CSV file.\n"
-            + "Parameters: FILE_PATH (must be an absolute path to a CSV file)\n"
-            + "Example: " + COMMAND_WORD + " C:/Users/Jane Doe/Desktop/Club Connect Members.csv";
+            + "Only the given columns are exported, or all of them if none is given. "
+            + "Only the members in the displayed list are exported if " + PREFIX_FILTERED + " is given.\n"
+            + "Parameters: FILE_PATH (must be an absolute path to a CSV file) "
+            + "[" + PREFIX_COLUMN + "COLUMN]... [" + PREFIX_FILTERED + "]\n"
+            + "Example: " + COMMAND_WORD + " C:/Users/Jane Doe/Desktop/Club Connect Members.csv "
+            + PREFIX_COLUMN + "name " + PREFIX_COLUMN + "email " + PREFIX_FILTERED;
 
     public static final String MESSAGE_EXPORT_SUCCESS = "Successfully exported details of members to %1$s";
     public static final String MESSAGE_EXPORT_FAILURE = "Error occurred while exporting to the file: %1$s";
 
     private final File exportFile;
+    private final List<CsvColumn> columns;
+    private final boolean isFilteredListExported;
 
     /**
+     * Creates an ExportCommand that exports all the columns of every member.
+     *
      * @param exportFile CSV file to be exported to.
      */
     public ExportCommand(File exportFile) {
+        this(exportFile, CsvColumn.ALL_COLUMNS, false);
+    }
+
+    /**
+     * @param exportFile CSV file to be exported to.
+     * @param columns Columns of member data to be exported, in order.
+     * @param isFilteredListExported Whether only the members in the displayed list are exported.
+     */
+    public ExportCommand(File exportFile, List<CsvColumn> columns, boolean isFilteredListExported) {
         requireNonNull(exportFile);
+        requireNonNull(columns);
         this.exportFile = exportFile;
+        this.columns = columns;
+        this.isFilteredListExported = isFilteredListExported;
     }
 
     @Override
@@ -44,7 +68,7 @@ public class ExportCommand extends Command {
         requireToSignUp();
         requireToLogIn();
         try {
-            model.exportClubConnectMembers(exportFile);
+            model.exportClubConnectMembers(exportFile, columns, isFilteredListExported);
         } catch (IOException ioe) {
             throw new CommandException(String.format(MESSAGE_EXPORT_FAILURE, exportFile));
         }
@@ -56,6 +80,8 @@ public class ExportCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ExportCommand // instanceof handles nulls
-                && this.exportFile.equals(((ExportCommand) other).exportFile)); // state check
+                && this.exportFile.equals(((ExportCommand) other).exportFile)
+                && this.columns.equals(((ExportCommand) other).columns)
+                && this.isFilteredListExported == ((ExportCommand) other).isFilteredListExported); // state check
     }
 }
@@ -9,15 +9,21 @@ import static seedu.club.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.function.Predicate;
 
 import seedu.club.logic.commands.exceptions.CommandException;
 import seedu.club.model.member.FieldContainsKeywordsPredicate;
+import seedu.club.model.member.FuzzyKeywordsPredicate;
+import seedu.club.model.member.Member;
+import seedu.club.model.member.MemberQueryPredicate;
 
 /**
  * Finds and lists all members in club book whose field contains any of the argument keywords.
  * Partial match is acceptable.
  * Keyword matching is case insensitive.
  * Finds by all possible fields if prefix is not specified
+ * Keywords may be combined into a query with AND, OR and NOT, each clause having its own prefix.
+ * Finds members with words close to the keywords, closest first, if the keywords start with {@code FUZZY_MARKER}.
  */
 public class FindCommand extends Command {
 
@@ -25,6 +31,7 @@ public class FindCommand extends Command {
     public static final ArrayList<String> COMMAND_ALIASES = new ArrayList<>(
             Arrays.asList(COMMAND_WORD, "f", "search")
     );
+    public static final String FUZZY_MARKER = "~";
     public static final String COMMAND_FORMAT = "find [n/  ] || [p/  ] || [e/  ] || [m/  ]"
             + " || [g/  ] || [t/  ]";
 
@@ -41,14 +48,28 @@ public class FindCommand extends Command {
             + PREFIX_TAG
             + " ]"
             + " KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_GROUP + " Logistics";
+            + "Example: " + COMMAND_WORD + " " + PREFIX_GROUP + " Logistics\n"
+            + "Combine prefixed keywords with AND, OR and NOT to find members by several fields.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_GROUP + "logistics AND " + PREFIX_TAG + "treasurer AND NOT "
+            + PREFIX_NAME + "john\n"
+            + "Start the keywords with " + FUZZY_MARKER + " to find the members whose name, email or tags are "
+            + "closest to them, allowing for typing mistakes.\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_MARKER + "Alcie";
 
-    private final FieldContainsKeywordsPredicate predicate;
+    private final Predicate<Member> predicate;
 
     public FindCommand(FieldContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
+    public FindCommand(FuzzyKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    public FindCommand(MemberQueryPredicate predicate) {
+        this.predicate = predicate;
+    }
+
     @Override
     public CommandResult execute() throws CommandException {
         requireToSignUp();
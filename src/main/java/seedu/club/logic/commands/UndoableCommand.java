@@ -5,24 +5,39 @@ import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.club.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
 
 import seedu.club.logic.commands.exceptions.CommandException;
-import seedu.club.model.ClubBook;
-import seedu.club.model.ReadOnlyClubBook;
+import seedu.club.model.ClubBookEdit;
 import seedu.club.model.poll.PollIsRelevantToMemberPredicate;
 
 /**
  * Represents a command which can be undone and redone.
  */
 public abstract class UndoableCommand extends Command {
-    private ReadOnlyClubBook previousClubBook;
+    /** The changes made to the club book by the last execution of this command. */
+    private ClubBookEdit edit;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException;
 
     /**
-     * Stores the current state of {@code model#clubBook}.
+     * Executes the command, recording the changes it makes to {@code model#clubBook} so that they can be undone.
      */
-    private void saveClubBookSnapshot() {
+    private CommandResult executeAndRecordEdit() throws CommandException {
         requireNonNull(model);
-        this.previousClubBook = new ClubBook(model.getClubBook());
+        ClubBookEdit newEdit = model.startEdit();
+        try {
+            CommandResult result = executeUndoableCommand();
+            edit = newEdit;
+            return result;
+        } finally {
+            model.stopEdit(newEdit);
+        }
+    }
+
+    /**
+     * Returns the number of elements added to and removed from the club book by the last execution of this
+     * command, which is what keeping it for undo costs.
+     */
+    public int getEditSize() {
+        return edit == null ? 0 : edit.size();
     }
 
     /**
@@ -32,13 +47,13 @@ public abstract class UndoableCommand extends Command {
     protected void preprocessUndoableCommand() throws CommandException {}
 
     /**
-     * Reverts the ClubBook to the state before this command
-     * was executed and updates the filtered member list to
+     * Reverts the changes this command made to the ClubBook
+     * and updates the filtered member list to
      * show all members.
      */
     protected final void undo() {
-        requireAllNonNull(model, previousClubBook);
-        model.resetData(previousClubBook);
+        requireAllNonNull(model, edit);
+        model.revertEdit(edit);
         model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
         model.updateFilteredPollList(new PollIsRelevantToMemberPredicate(model.getLoggedInMember()));
     }
@@ -50,7 +65,7 @@ public abstract class UndoableCommand extends Command {
     protected final void redo() {
         requireNonNull(model);
         try {
-            executeUndoableCommand();
+            executeAndRecordEdit();
         } catch (CommandException ce) {
             throw new AssertionError("The command has been successfully executed previously; "
                     + "it should not fail now");
@@ -61,8 +76,7 @@ public abstract class UndoableCommand extends Command {
 
     @Override
     public final CommandResult execute() throws CommandException {
-        saveClubBookSnapshot();
         preprocessUndoableCommand();
-        return executeUndoableCommand();
+        return executeAndRecordEdit();
     }
 }
@@ -0,0 +1,75 @@
+package seedu.club.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.club.logic.commands.exceptions.CommandException;
+import seedu.club.model.task.Task;
+
+/**
+ * Lists the tasks of the currently logged-in member that are due within a given number of days.
+ */
+public class ViewDueTasksCommand extends Command {
+    public static final String COMMAND_WORD = "viewduetasks";
+    public static final ArrayList<String> COMMAND_ALIASES = new ArrayList<>(
+            Arrays.asList(COMMAND_WORD, "duetasks")
+    );
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists your tasks that are due within the given number of days from now.\n"
+            + "Parameters: DAYS (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 7";
+
+    public static final String COMMAND_FORMAT = COMMAND_WORD + " DAYS";
+
+    public static final String MESSAGE_SUCCESS = "Your tasks due in the next %1$d day(s):";
+    public static final String MESSAGE_NO_TASKS_DUE = "You have no tasks due in the next %1$d day(s).";
+    public static final String MESSAGE_TASK_DUE = "\n%1$d. %2$s (due %3$s %4$s)";
+
+    private final int days;
+
+    /**
+     * @param days the number of days from now within which the listed tasks are due. Must be positive.
+     */
+    public ViewDueTasksCommand(int days) {
+        assert days > 0 : "The number of days should be positive";
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        requireNonNull(model);
+        requireToSignUp();
+        requireToLogIn();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasksDue = model.getMyTasksDueBetween(now, now.plusDays(days));
+        if (tasksDue.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_TASKS_DUE, days));
+        }
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, days));
+        for (int i = 0; i < tasksDue.size(); i++) {
+            Task task = tasksDue.get(i);
+            result.append(String.format(MESSAGE_TASK_DUE, i + 1, task.getDescription().getDescription(),
+                    task.getDate().getDate(), task.getTime().getTime()));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ViewDueTasksCommand // instanceof handles nulls
+                && days == ((ViewDueTasksCommand) other).days); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(days);
+    }
+}
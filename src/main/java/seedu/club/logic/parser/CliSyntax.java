@@ -25,4 +25,6 @@ public class    CliSyntax {
     public static final Prefix PREFIX_TIME = new Prefix("ti/");
     public static final Prefix PREFIX_STATUS = new Prefix("st/");
     public static final Prefix PREFIX_NEWPASSWORD = new Prefix("npw/");
+    public static final Prefix PREFIX_COLUMN = new Prefix("col/");
+    public static final Prefix PREFIX_FILTERED = new Prefix("filtered/");
 }
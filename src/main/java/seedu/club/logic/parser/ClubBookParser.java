@@ -41,6 +41,7 @@ import seedu.club.logic.commands.SelectCommand;
 import seedu.club.logic.commands.SignUpCommand;
 import seedu.club.logic.commands.UndoCommand;
 import seedu.club.logic.commands.ViewAllTasksCommand;
+import seedu.club.logic.commands.ViewDueTasksCommand;
 import seedu.club.logic.commands.ViewMyTasksCommand;
 import seedu.club.logic.commands.ViewResultsCommand;
 import seedu.club.logic.commands.VoteCommand;
@@ -144,6 +145,8 @@ public class ClubBookParser {
             return new ViewAllTasksCommand();
         } else if (isViewMyTasksCommand(commandWord)) {
             return new ViewMyTasksCommand();
+        } else if (isViewDueTasksCommand(commandWord)) {
+            return new ViewDueTasksCommandParser().parse(arguments);
         } else if (isVoteCommand(commandWord)) {
             return new VoteCommandParser().parse(arguments);
         } else {
@@ -211,6 +214,18 @@ public class ClubBookParser {
         return false;
     }
 
+    /**
+     * Returns true if {@code commandWord} matches any of ViewDueTasksCommand's aliases
+     */
+    private boolean isViewDueTasksCommand(String commandWord) {
+        for (String commandAlias : ViewDueTasksCommand.COMMAND_ALIASES) {
+            if (commandWord.equals(commandAlias)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns true if {@code commandWord} matches any of ViewAllTasksCommand's aliases
      */
@@ -38,6 +38,7 @@ import seedu.club.logic.commands.SelectCommand;
 import seedu.club.logic.commands.SignUpCommand;
 import seedu.club.logic.commands.UndoCommand;
 import seedu.club.logic.commands.ViewAllTasksCommand;
+import seedu.club.logic.commands.ViewDueTasksCommand;
 import seedu.club.logic.commands.ViewMyTasksCommand;
 import seedu.club.logic.commands.ViewResultsCommand;
 import seedu.club.logic.commands.VoteCommand;
@@ -75,6 +76,7 @@ public class CommandList {
         commandList.add(HideResultsCommand.COMMAND_WORD);
         commandList.add(ViewAllTasksCommand.COMMAND_WORD);
         commandList.add(ViewMyTasksCommand.COMMAND_WORD);
+        commandList.add(ViewDueTasksCommand.COMMAND_FORMAT);
         commandList.add(AssignTaskCommand.COMMAND_FORMAT);
         commandList.add(AddPollCommand.COMMAND_FORMAT);
         commandList.add(DeletePollCommand.COMMAND_FORMAT);
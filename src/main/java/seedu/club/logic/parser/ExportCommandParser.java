@@ -2,11 +2,16 @@
 package seedu.club.logic.parser;
 
 import static seedu.club.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_COLUMN;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_FILTERED;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 import seedu.club.commons.exceptions.IllegalValueException;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.logic.commands.ExportCommand;
 import seedu.club.logic.parser.exceptions.ParseException;
 
@@ -23,14 +28,30 @@ public class ExportCommandParser implements Parser<ExportCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_COLUMN, PREFIX_FILTERED);
+
+        List<CsvColumn> columns;
+        try {
+            columns = ParserUtil.parseCsvColumns(argMultimap.getAllValues(PREFIX_COLUMN));
+        } catch (IllegalValueException ive) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ive.getMessage()
+                    + ExportCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> filteredFlag = argMultimap.getValue(PREFIX_FILTERED);
+        if (filteredFlag.isPresent() && !filteredFlag.get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        String path = argMultimap.getPreamble();
         try {
-            File exportFile = ParserUtil.parseExportPath(args);
-            return new ExportCommand(exportFile);
+            File exportFile = ParserUtil.parseExportPath(path);
+            return new ExportCommand(exportFile, columns, filteredFlag.isPresent());
         } catch (IllegalValueException ive) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ParserUtil.MESSAGE_INVALID_CSV_PATH
                     + ExportCommand.MESSAGE_USAGE));
         } catch (IOException ioe) {
-            throw new ParseException(String.format(MESSAGE_FILE_CREATION_ERROR, args));
+            throw new ParseException(String.format(MESSAGE_FILE_CREATION_ERROR, path));
         }
     }
 
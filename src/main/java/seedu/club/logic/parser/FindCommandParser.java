@@ -9,11 +9,19 @@ import static seedu.club.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
 
 import seedu.club.logic.commands.FindCommand;
 import seedu.club.logic.parser.exceptions.ParseException;
 import seedu.club.model.member.FieldContainsKeywordsPredicate;
+import seedu.club.model.member.FuzzyKeywordsPredicate;
+import seedu.club.model.member.Member;
+import seedu.club.model.member.MemberQueryPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -22,6 +30,9 @@ public class FindCommandParser implements Parser<FindCommand> {
 
     private static final Prefix[] FINDABLE_PREFIXES = {PREFIX_NAME, PREFIX_EMAIL, PREFIX_PHONE,
         PREFIX_MATRIC_NUMBER, PREFIX_GROUP, PREFIX_TAG};
+    private static final String OPERATOR_AND = MemberQueryPredicate.Operator.AND.toString();
+    private static final String OPERATOR_OR = MemberQueryPredicate.Operator.OR.toString();
+    private static final String OPERATOR_NOT = MemberQueryPredicate.Operator.NOT.toString();
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
@@ -36,6 +47,15 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.startsWith(FindCommand.FUZZY_MARKER)) {
+            return parseFuzzyFind(trimmedArgs);
+        }
+
+        List<String> tokens = Arrays.asList(trimmedArgs.split("\\s+"));
+        if (tokens.stream().anyMatch(FindCommandParser::isOperator)) {
+            return new FindCommand(parseQuery(tokens));
+        }
+
         for (Prefix prefix : FINDABLE_PREFIXES) {
             int prefixLength = prefix.toString().length();
             if (trimmedArgs.length() >= prefixLength && trimmedArgs.substring(0, prefixLength)
@@ -50,4 +70,112 @@ public class FindCommandParser implements Parser<FindCommand> {
         return new FindCommand(new FieldContainsKeywordsPredicate(
                 Arrays.asList(trimmedArgs.split("\\s+")), null));
     }
+
+    /**
+     * Parses {@code tokens} into a query in which NOT binds tighter than AND, and AND binds tighter than OR.
+     * Each clause of the query is an optional prefix followed by keywords, as in a find without operators.
+     *
+     * @throws ParseException if an operator is not followed or preceded by a clause
+     */
+    private MemberQueryPredicate parseQuery(List<String> tokens) throws ParseException {
+        Deque<String> remainingTokens = new ArrayDeque<>(tokens);
+        Predicate<Member> query = parseDisjunction(remainingTokens);
+        if (!remainingTokens.isEmpty() || !(query instanceof MemberQueryPredicate)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return (MemberQueryPredicate) query;
+    }
+
+    /**
+     * Parses the clauses separated by OR at the start of {@code tokens}, removing them from {@code tokens}.
+     */
+    private Predicate<Member> parseDisjunction(Deque<String> tokens) throws ParseException {
+        List<Predicate<Member>> clauses = new ArrayList<>();
+        clauses.add(parseConjunction(tokens));
+        while (OPERATOR_OR.equals(tokens.peekFirst())) {
+            tokens.removeFirst();
+            clauses.add(parseConjunction(tokens));
+        }
+        return clauses.size() == 1 ? clauses.get(0) : MemberQueryPredicate.or(clauses);
+    }
+
+    /**
+     * Parses the clauses separated by AND at the start of {@code tokens}, removing them from {@code tokens}.
+     */
+    private Predicate<Member> parseConjunction(Deque<String> tokens) throws ParseException {
+        List<Predicate<Member>> clauses = new ArrayList<>();
+        clauses.add(parseNegation(tokens));
+        while (OPERATOR_AND.equals(tokens.peekFirst())) {
+            tokens.removeFirst();
+            clauses.add(parseNegation(tokens));
+        }
+        return clauses.size() == 1 ? clauses.get(0) : MemberQueryPredicate.and(clauses);
+    }
+
+    /**
+     * Parses a clause, which may be negated by NOT, at the start of {@code tokens}, removing it from {@code tokens}.
+     */
+    private Predicate<Member> parseNegation(Deque<String> tokens) throws ParseException {
+        if (OPERATOR_NOT.equals(tokens.peekFirst())) {
+            tokens.removeFirst();
+            return MemberQueryPredicate.not(parseNegation(tokens));
+        }
+        return parseClause(tokens);
+    }
+
+    /**
+     * Parses the tokens up to the next operator in {@code tokens} into a clause, removing them from {@code tokens}.
+     *
+     * @throws ParseException if there are no keywords before the next operator
+     */
+    private FieldContainsKeywordsPredicate parseClause(Deque<String> tokens) throws ParseException {
+        List<String> keywords = new ArrayList<>();
+        while (!tokens.isEmpty() && !isOperator(tokens.peekFirst())) {
+            keywords.add(tokens.removeFirst());
+        }
+
+        Prefix clausePrefix = null;
+        if (!keywords.isEmpty()) {
+            for (Prefix prefix : FINDABLE_PREFIXES) {
+                if (keywords.get(0).startsWith(prefix.toString())) {
+                    clausePrefix = prefix;
+                    keywords.set(0, keywords.get(0).substring(prefix.toString().length()));
+                    keywords.removeIf(String::isEmpty);
+                    break;
+                }
+            }
+        }
+        if (keywords.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FieldContainsKeywordsPredicate(keywords, clausePrefix);
+    }
+
+    /**
+     * Returns true if {@code token} is one of the operators of a query.
+     */
+    private static boolean isOperator(String token) {
+        return OPERATOR_AND.equals(token) || OPERATOR_OR.equals(token) || OPERATOR_NOT.equals(token);
+    }
+
+    /**
+     * Parses {@code trimmedArgs}, which start with {@code FindCommand#FUZZY_MARKER}, into a FindCommand that finds
+     * members fuzzily. Each keyword may start with the marker.
+     *
+     * @throws ParseException if a keyword consists of the marker alone
+     */
+    private FindCommand parseFuzzyFind(String trimmedArgs) throws ParseException {
+        List<String> keywords = new ArrayList<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            String strippedKeyword = keyword.startsWith(FindCommand.FUZZY_MARKER)
+                    ? keyword.substring(FindCommand.FUZZY_MARKER.length())
+                    : keyword;
+            if (strippedKeyword.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            keywords.add(strippedKeyword);
+        }
+        return new FindCommand(new FuzzyKeywordsPredicate(keywords));
+    }
 }
@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -15,6 +16,7 @@ import java.util.logging.Logger;
 import seedu.club.commons.core.LogsCenter;
 import seedu.club.commons.core.index.Index;
 import seedu.club.commons.exceptions.IllegalValueException;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.commons.util.CsvUtil;
 import seedu.club.commons.util.FileUtil;
 import seedu.club.commons.util.StringUtil;
@@ -52,6 +54,8 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INSUFFICIENT_PARTS = "Number of parts must be more than 1.";
     public static final String MESSAGE_INVALID_CSV_PATH = "Path should be a valid absolute path to a CSV file.\n";
+    public static final String MESSAGE_INVALID_CSV_COLUMN = "Column should be one of NAME, PHONE, EMAIL, "
+            + "MATRIC_NUMBER, GROUP and TAGS.\n";
 
     private static final Logger logger = LogsCenter.getLogger(ParserUtil.class);
 
@@ -276,6 +280,30 @@ public class ParserUtil {
 
 
 
+    /**
+     * Parses {@code columnNames} into a list of {@code CsvColumn}, in the order in which they are first given.
+     * The names are compared ignoring case, and leading and trailing whitespaces are trimmed.
+     * All the columns are returned if {@code columnNames} is empty.
+     *
+     * @throws IllegalValueException if any of {@code columnNames} is not the name of a column.
+     */
+    public static List<CsvColumn> parseCsvColumns(Collection<String> columnNames) throws IllegalValueException {
+        requireNonNull(columnNames);
+        if (columnNames.isEmpty()) {
+            return CsvColumn.ALL_COLUMNS;
+        }
+
+        Set<CsvColumn> columns = new LinkedHashSet<>();
+        for (String columnName : columnNames) {
+            try {
+                columns.add(CsvColumn.valueOf(columnName.trim().toUpperCase()));
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(MESSAGE_INVALID_CSV_COLUMN);
+            }
+        }
+        return new ArrayList<>(columns);
+    }
+
     //@@author yash-chowdhary
     /**
      * Parses a {@code String group} into a {@code Group}.
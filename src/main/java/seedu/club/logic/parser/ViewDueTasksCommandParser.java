@@ -0,0 +1,28 @@
+package seedu.club.logic.parser;
+
+import static seedu.club.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.club.commons.util.StringUtil;
+import seedu.club.logic.commands.ViewDueTasksCommand;
+import seedu.club.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ViewDueTasksCommand object
+ */
+public class ViewDueTasksCommandParser implements Parser<ViewDueTasksCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ViewDueTasksCommand
+     * and returns a ViewDueTasksCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ViewDueTasksCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ViewDueTasksCommand.MESSAGE_USAGE));
+        }
+        return new ViewDueTasksCommand(Integer.parseInt(trimmedArgs));
+    }
+}
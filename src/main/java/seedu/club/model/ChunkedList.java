@@ -0,0 +1,115 @@
+package seedu.club.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An unmodifiable list whose elements are stored in chunks of at most {@code CHUNK_SIZE} elements.
+ * A list made by {@link #replaceRange(int, int, List)} shares every chunk that the replaced range does not touch,
+ * so it costs O(n / CHUNK_SIZE + CHUNK_SIZE) for a small change instead of the O(n) of a full copy.
+ */
+class ChunkedList<T> extends AbstractList<T> implements RandomAccess {
+    static final int CHUNK_SIZE = 64;
+
+    private final Object[][] chunks;
+    /** The position of the first element of each chunk, followed by the size of the list. */
+    private final int[] offsets;
+
+    private ChunkedList(Object[][] chunks) {
+        this.chunks = chunks;
+        offsets = new int[chunks.length + 1];
+        for (int i = 0; i < chunks.length; i++) {
+            offsets[i + 1] = offsets[i] + chunks[i].length;
+        }
+    }
+
+    /**
+     * Returns a list of the elements in {@code elements}, which are copied.
+     */
+    static <T> ChunkedList<T> of(List<? extends T> elements) {
+        return new ChunkedList<>(toChunks(elements));
+    }
+
+    /**
+     * Splits {@code elements} into full chunks followed by one partly filled chunk, if needed.
+     */
+    private static Object[][] toChunks(List<?> elements) {
+        Object[][] chunks = new Object[(elements.size() + CHUNK_SIZE - 1) / CHUNK_SIZE][];
+        for (int i = 0; i < chunks.length; i++) {
+            int end = Math.min(elements.size(), (i + 1) * CHUNK_SIZE);
+            chunks[i] = elements.subList(i * CHUNK_SIZE, end).toArray();
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns a list equal to this list with the elements at positions {@code from} (inclusive) to {@code to}
+     * (exclusive) replaced with {@code replacement}. This list is left unchanged.
+     * Only the chunks that hold the replaced range are copied; a small result is merged with the next chunk, so
+     * that the chunks do not shrink indefinitely.
+     *
+     * @throws IndexOutOfBoundsException if the range is not within the list.
+     */
+    ChunkedList<T> replaceRange(int from, int to, List<? extends T> replacement) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("Range: " + from + " to " + to + ", size: " + size());
+        }
+        if (chunks.length == 0) {
+            return of(replacement);
+        }
+        int first = findChunk(from);
+        int last = to > from ? findChunk(to - 1) : first;
+        List<Object> replacedChunks = new ArrayList<>();
+        replacedChunks.addAll(Arrays.asList(chunks[first]).subList(0, from - offsets[first]));
+        replacedChunks.addAll(replacement);
+        replacedChunks.addAll(Arrays.asList(chunks[last]).subList(to - offsets[last], chunks[last].length));
+        if (replacedChunks.size() < CHUNK_SIZE / 2 && last + 1 < chunks.length) {
+            last++;
+            replacedChunks.addAll(Arrays.asList(chunks[last]));
+        }
+
+        Object[][] newChunks = toChunks(replacedChunks);
+        int chunksAfter = chunks.length - last - 1;
+        Object[][] resultChunks = new Object[first + newChunks.length + chunksAfter][];
+        System.arraycopy(chunks, 0, resultChunks, 0, first);
+        System.arraycopy(newChunks, 0, resultChunks, first, newChunks.length);
+        System.arraycopy(chunks, last + 1, resultChunks, first + newChunks.length, chunksAfter);
+        return new ChunkedList<>(resultChunks);
+    }
+
+    /**
+     * Returns the index of the chunk that holds the element at {@code index}, or of the last chunk if
+     * {@code index} is the size of the list. There must be at least one chunk.
+     */
+    private int findChunk(int index) {
+        int low = 0;
+        int high = chunks.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (offsets[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        int chunk = findChunk(index);
+        return (T) chunks[chunk][index - offsets[chunk]];
+    }
+
+    @Override
+    public int size() {
+        return offsets[chunks.length];
+    }
+}
@@ -2,26 +2,35 @@ package seedu.club.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.club.commons.core.LogsCenter;
 import seedu.club.commons.core.index.Index;
 import seedu.club.model.group.Group;
 import seedu.club.model.group.exceptions.GroupCannotBeRemovedException;
 import seedu.club.model.group.exceptions.GroupNotFoundException;
+import seedu.club.model.member.FieldContainsKeywordsPredicate;
+import seedu.club.model.member.FuzzyKeywordsPredicate;
 import seedu.club.model.member.MatricNumber;
 import seedu.club.model.member.Member;
+import seedu.club.model.member.MemberQueryPredicate;
 import seedu.club.model.member.UniqueMemberList;
 import seedu.club.model.member.exceptions.DataToChangeIsNotCurrentlyLoggedInMemberException;
 import seedu.club.model.member.exceptions.DeleteCurrentUserException;
@@ -54,10 +63,35 @@ import seedu.club.model.task.exceptions.TaskNotFoundException;
 public class ClubBook implements ReadOnlyClubBook {
 
     private static final int ZERO = 0;
+    /** Source of section versions, shared by all club books so that a version is never reused. */
+    private static final AtomicLong nextSectionVersion = new AtomicLong();
+
     private final UniqueMemberList members;
     private final UniqueTagList tags;
     private final UniquePollList polls;
     private final UniqueTaskList tasks;
+    private final Map<ClubBookSection, Long> sectionVersions = new EnumMap<>(ClubBookSection.class);
+    /** The last snapshot taken of this club book, from which the next snapshot is made. */
+    private ClubBookSnapshot lastSnapshot;
+    /**
+     * The changes made since {@code lastSnapshot} was taken, or null if there are too many to be worth applying to
+     * it, in which case the next snapshot copies the whole club book.
+     */
+    private ClubBookEdit changesSinceSnapshot;
+    /**
+     * Maps each tag to the matriculation numbers of the members tagged with it.
+     * The number of matriculation numbers is the number of references to the tag, and tags with no references
+     * are not in the map.
+     */
+    private final Map<Tag, Set<MatricNumber>> taggedMatricNumbers = new HashMap<>();
+    /**
+     * Maps each group, by its name in lower case, to the matriculation numbers of its members.
+     * Groups are compared ignoring case, but their hash codes are not, so the group names are used as keys.
+     * Groups with no members are not in the map.
+     */
+    private final Map<String, Set<MatricNumber>> groupedMatricNumbers = new HashMap<>();
+    /** The edits being recorded, to each of which every change to the lists of this club book is added. */
+    private final List<ClubBookEdit> recordingEdits = new ArrayList<>();
     private final Logger logger = LogsCenter.getLogger(this.getClass());
 
         /*
@@ -71,6 +105,11 @@ public class ClubBook implements ReadOnlyClubBook {
         tags = new UniqueTagList();
         polls = new UniquePollList();
         tasks = new UniqueTaskList();
+        markModified(ClubBookSection.values());
+        recordChanges(members.asObservableList(), ClubBookSection.MEMBERS);
+        recordChanges(tags.asObservableList(), ClubBookSection.TAGS);
+        recordChanges(polls.asObservableList(), ClubBookSection.POLLS);
+        recordChanges(tasks.asObservableList(), ClubBookSection.TASKS);
     }
 
     public ClubBook() {
@@ -87,27 +126,44 @@ public class ClubBook implements ReadOnlyClubBook {
 
     //// list overwrite operations
     public void setMembers(List<Member> members) throws DuplicateMatricNumberException {
+        markModified(ClubBookSection.MEMBERS);
         this.members.setMembers(members);
         this.members.fillHashMap();
+        taggedMatricNumbers.clear();
+        groupedMatricNumbers.clear();
+        this.members.forEach(this::addToIndexes);
     }
 
     public void setTags(Set<Tag> tags) {
+        markModified(ClubBookSection.TAGS);
         this.tags.setTags(tags);
     }
 
     /**
      * Resets the existing data of this {@code ClubBook} with {@code newData}.
+     * Sections that have the same version in {@code newData} already hold the same data, and are left as they are,
+     * so restoring a snapshot of this club book only replaces the sections modified since the snapshot was taken.
      */
     public void resetData(ReadOnlyClubBook newData) {
         requireNonNull(newData);
-        setTags(new HashSet<>(newData.getTagList()));
-        setPolls(new LinkedHashSet<>(newData.getPollList()));
-        setTasks(new HashSet<>(newData.getTaskList()));
+        boolean isTagsChanged = isChanged(ClubBookSection.TAGS, newData);
+        if (isTagsChanged) {
+            setTags(new HashSet<>(newData.getTagList()));
+        }
+        if (isChanged(ClubBookSection.POLLS, newData)) {
+            setPolls(new LinkedHashSet<>(newData.getPollList()));
+        }
+        if (isChanged(ClubBookSection.TASKS, newData)) {
+            setTasks(new HashSet<>(newData.getTaskList()));
+        }
+        setLoggedInMember(newData.getLoggedInMember());
+        if (!isTagsChanged && !isChanged(ClubBookSection.MEMBERS, newData)) {
+            return;
+        }
+
         List<Member> syncedMemberList = newData.getMemberList().stream()
                 .map(this::syncWithMasterTagList)
                 .collect(Collectors.toList());
-        setLoggedInMember(newData.getLoggedInMember());
-
         try {
             setMembers(syncedMemberList);
         } catch (DuplicateMatricNumberException e) {
@@ -115,6 +171,13 @@ public class ClubBook implements ReadOnlyClubBook {
         }
     }
 
+    /**
+     * Returns true if {@code section} has a different version in {@code newData} than in this {@code ClubBook}.
+     */
+    private boolean isChanged(ClubBookSection section, ReadOnlyClubBook newData) {
+        return newData.getSectionVersion(section) != getSectionVersion(section);
+    }
+
 
     //// member-level operations
 
@@ -126,17 +189,52 @@ public class ClubBook implements ReadOnlyClubBook {
      * @throws DuplicateMatricNumberException if a member with the same matriculation number already exists.
      */
     public void addMember(Member m) throws DuplicateMatricNumberException {
+        markModified(ClubBookSection.MEMBERS);
         Member member = syncWithMasterTagList(m);
         // @@author amrut-prabhu
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any member
-        // in the member list.
         try {
             members.add(member);
         } catch (DuplicateMatricNumberException dmne) {
-            deleteTagsUniqueToMember(m);
+            deleteUnusedTags(member.getTags());
             throw dmne;
         }
+        addToIndexes(member);
+    }
+
+    /**
+     * Adds the members in {@code newMembers} to the club book, skipping those whose matriculation number is
+     * already taken by an existing member or an earlier member in {@code newMembers}.
+     * The master tag list is updated once for all the added members, instead of once per member.
+     *
+     * @return the members that were skipped.
+     */
+    public List<Member> addMembers(List<Member> newMembers) {
+        markModified(ClubBookSection.MEMBERS, ClubBookSection.TAGS);
+        List<Member> membersToAdd = new ArrayList<>();
+        List<Member> duplicateMembers = new ArrayList<>();
+        Set<MatricNumber> newMatricNumbers = new HashSet<>();
+        final UniqueTagList newTags = new UniqueTagList();
+        for (Member member : newMembers) {
+            if (members.contains(member) || !newMatricNumbers.add(member.getMatricNumber())) {
+                duplicateMembers.add(member);
+                continue;
+            }
+            membersToAdd.add(member);
+            newTags.mergeFrom(new UniqueTagList(member.getTags()));
+        }
+
+        tags.mergeFrom(newTags);
+        final Map<String, Tag> masterTagObjects = getMasterTagObjects();
+        try {
+            for (Member member : membersToAdd) {
+                Member memberToAdd = withMasterTagReferences(member, masterTagObjects);
+                members.add(memberToAdd);
+                addToIndexes(memberToAdd);
+            }
+        } catch (DuplicateMatricNumberException dmne) {
+            throw new AssertionError("Impossible: duplicate members have been skipped.");
+        }
+        return duplicateMembers;
     }
 
     //@@author MuhdNurKamal
@@ -146,6 +244,7 @@ public class ClubBook implements ReadOnlyClubBook {
      * @throws PollNotFoundException if the {@code key} is not in this {@code ClubBook}.
      */
     public boolean removePoll(Poll key) throws PollNotFoundException {
+        markModified(ClubBookSection.POLLS);
         if (polls.remove(key)) {
             return true;
         } else {
@@ -166,28 +265,20 @@ public class ClubBook implements ReadOnlyClubBook {
     public void updateMember(Member target, Member editedMember)
             throws DuplicateMatricNumberException, MemberNotFoundException {
         requireNonNull(editedMember);
+        markModified(ClubBookSection.MEMBERS);
 
         //@author amrut-prabhu
-        deleteTagsUniqueToMember(target);
         Member syncedEditedMember = syncWithMasterTagList(editedMember);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
+        Member storedTarget = getStoredMember(target);
         try {
             members.setMember(target, syncedEditedMember);
-        } catch (DuplicateMatricNumberException dme) {
-            addMemberTags(target);
-            throw dme;
+        } catch (DuplicateMatricNumberException | MemberNotFoundException e) {
+            deleteUnusedTags(syncedEditedMember.getTags());
+            throw e;
         }
-    }
-
-    /**
-     * Adds back the tags of {@code target} member that were removed from {@code tags}.
-     */
-    private void addMemberTags(Member target) {
-        Set<Tag> allTags = new HashSet<>(tags.asObservableList());
-        allTags.addAll(target.getTags());
-        tags.setTags(allTags);
+        removeFromIndexes(storedTarget);
+        addToIndexes(syncedEditedMember);
+        deleteUnusedTags(storedTarget.getTags());
     }
 
     /**
@@ -196,7 +287,9 @@ public class ClubBook implements ReadOnlyClubBook {
      * @param newPhotoPath Path to the new photo file of the logged in member.
      */
     public void changeLoggedInMemberProfilePhoto(String newPhotoPath) {
+        markModified(ClubBookSection.MEMBERS);
         getLoggedInMember().setProfilePhotoPath(newPhotoPath);
+        members.refresh(getLoggedInMember());
     }
     //@@author
     /**
@@ -207,29 +300,54 @@ public class ClubBook implements ReadOnlyClubBook {
      */
     private Member syncWithMasterTagList(Member member) {
         final UniqueTagList memberTags = new UniqueTagList(member.getTags());
+        markModified(ClubBookSection.TAGS);
         tags.mergeFrom(memberTags);
+        return withMasterTagReferences(member, getMasterTagObjects());
+    }
 
-        // Create map with values = tag object references in the master list
-        // used for checking member tag references
+    /**
+     * Returns a map from each tag name to the Tag object in the master list,
+     * used for checking member tag references.
+     */
+    private Map<String, Tag> getMasterTagObjects() {
         final Map<String, Tag> masterTagObjects = new HashMap<>();
         tags.forEach(tag -> masterTagObjects.put(tag.tagName, tag));
+        return masterTagObjects;
+    }
 
+    /**
+     * Returns a copy of {@code member} whose tags point to the Tag objects in {@code masterTagObjects}.
+     * Assumes every tag of {@code member} is in {@code masterTagObjects}.
+     */
+    private Member withMasterTagReferences(Member member, Map<String, Tag> masterTagObjects) {
         // Rebuild the list of member tags to point to the relevant tags in the master tag list.
         final Set<Tag> correctTagReferences = new HashSet<>();
-        memberTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag.tagName)));
+        member.getTags().forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag.tagName)));
         return new Member(
                 member.getName(), member.getPhone(), member.getEmail(), member.getMatricNumber(), member.getGroup(),
                 correctTagReferences, member.getCredentials(), member.getProfilePhoto());
     }
 
+    /**
+     * Returns the member in this {@code ClubBook} with the given {@code matricNumber}.
+     *
+     * @throws MemberNotFoundException if no member in this {@code ClubBook} has {@code matricNumber}.
+     */
+    public Member getMemberByMatricNumber(MatricNumber matricNumber) throws MemberNotFoundException {
+        return members.getMemberByMatricNumber(matricNumber);
+    }
+
     /**
      * Removes {@code key} from this {@code ClubBook}.
      *
      * @throws MemberNotFoundException if the {@code key} is not in this {@code ClubBook}.
      */
     public boolean removeMember(Member key) throws MemberNotFoundException, DeleteCurrentUserException {
-        deleteTagsUniqueToMember(key);
+        markModified(ClubBookSection.MEMBERS);
+        Member storedKey = getStoredMember(key);
         if (members.remove(key)) {
+            removeFromIndexes(storedKey);
+            deleteUnusedTags(storedKey.getTags());
             return true;
         } else {
             throw new MemberNotFoundException();
@@ -238,15 +356,25 @@ public class ClubBook implements ReadOnlyClubBook {
 
     //@@author MuhdNurKamal
     public void setPolls(Set<Poll> polls) {
+        markModified(ClubBookSection.POLLS);
         this.polls.setPolls(polls);
     }
 
+    /**
+     * Adds {@code poll} to the list of polls.
+     */
     public void addPoll(Poll poll) throws DuplicatePollException {
+        markModified(ClubBookSection.POLLS);
         polls.add(poll);
     }
 
+    /**
+     * Records the vote of the member with {@code polleeMatricNumber} for the answer at {@code answerIndex}
+     * of {@code poll}.
+     */
     public String voteInPoll(Poll poll, Index answerIndex, MatricNumber polleeMatricNumber)
             throws PollNotFoundException, AnswerNotFoundException, UserAlreadyVotedException {
+        markModified(ClubBookSection.POLLS);
         return polls.voteInPoll(poll, answerIndex, polleeMatricNumber);
     }
     //@@author
@@ -271,8 +399,10 @@ public class ClubBook implements ReadOnlyClubBook {
      * Sign up a member if it is a new clubbook
      */
     public void signUpMember(Member p) throws MemberListNotEmptyException {
+        markModified(ClubBookSection.MEMBERS);
         Member member = syncWithMasterTagList(p);
         members.signup(member);
+        addToIndexes(member);
     }
 
     //@@author yash-chowdhary
@@ -289,16 +419,24 @@ public class ClubBook implements ReadOnlyClubBook {
     }
 
     /**
-     * Removes the Group {@code toRemove} from Club Connect.
+     * Assigns the default group to every member of {@code toRemove} in a single pass over the member list.
+     * The tags of the members do not change, so the master tag list is left as it is.
      */
     private void deleteGroupFromClubBook(Group toRemove) {
-        try {
-            for (Member member : members) {
-                deleteGroupFromMember(toRemove, member);
-            }
-        } catch (MemberNotFoundException mnfe) {
-            throw new AssertionError("Impossible: original member is obtained from the club book.");
+        markModified(ClubBookSection.MEMBERS);
+        Group defaultGroup = new Group(Group.DEFAULT_GROUP);
+        Map<MatricNumber, Member> reassignedMembers = new HashMap<>();
+        for (Member member : getMembersInGroup(toRemove)) {
+            Member newMember = new Member(member.getName(), member.getPhone(), member.getEmail(),
+                    member.getMatricNumber(), defaultGroup, member.getTags(), member.getCredentials(),
+                    member.getProfilePhoto());
+            reassignedMembers.put(member.getMatricNumber(), newMember);
         }
+
+        members.replaceMembers(reassignedMembers);
+        groupedMatricNumbers.remove(getGroupKey(toRemove));
+        groupedMatricNumbers.computeIfAbsent(getGroupKey(defaultGroup), unused -> new HashSet<>())
+                .addAll(reassignedMembers.keySet());
     }
 
     /**
@@ -306,18 +444,26 @@ public class ClubBook implements ReadOnlyClubBook {
      * @throws GroupNotFoundException if {@code toRemove} is not found.
      */
     private void checkIfGroupIsPresent(Group toRemove) throws GroupNotFoundException {
-        Boolean isPresent = false;
-
-        for (Member member : members) {
-            if (member.getGroup().equals(toRemove)) {
-                isPresent = true;
-            }
-        }
-        if (!isPresent) {
+        if (!groupedMatricNumbers.containsKey(getGroupKey(toRemove))) {
             throw new GroupNotFoundException();
         }
     }
 
+    /**
+     * Returns the members in this {@code ClubBook} who belong to {@code group}, in no particular order.
+     */
+    public List<Member> getMembersInGroup(Group group) {
+        requireNonNull(group);
+        return getMembersByMatricNumber(groupedMatricNumbers.getOrDefault(getGroupKey(group), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the key of {@code group} in {@code groupedMatricNumbers}.
+     */
+    private static String getGroupKey(Group group) {
+        return group.groupName.toLowerCase();
+    }
+
     /**
      * Checks if {@code toRemove} is "member".
      * @throws GroupCannotBeRemovedException if {@code toRemove} is "member".
@@ -330,31 +476,11 @@ public class ClubBook implements ReadOnlyClubBook {
         }
     }
 
-    /**
-     * Removes the Group {@code toRemove} from the {@code member} if the member's group matches the one to be removed.
-     */
-    private void deleteGroupFromMember(Group toRemove, Member member)
-            throws MemberNotFoundException {
-        if (!member.getGroup().toString().equalsIgnoreCase(toRemove.toString())) {
-            return;
-        }
-
-        Group defaultGroup = new Group(Group.DEFAULT_GROUP);
-        Member newMember = new Member(member.getName(), member.getPhone(), member.getEmail(), member.getMatricNumber(),
-                defaultGroup, member.getTags(), member.getCredentials(), member.getProfilePhoto());
-
-        try {
-            updateMember(member, newMember);
-        } catch (DuplicateMatricNumberException dme) {
-            throw new AssertionError("Deleting a member's group only should not result in a duplicate. "
-                    + "See member#equals(Object).");
-        }
-    }
-
     /**
      * Adds {@code Task toAdd} to the list of tasks.
      */
     public void addTaskToTaskList(Task taskToAdd) throws DuplicateTaskException {
+        markModified(ClubBookSection.TASKS);
         tasks.add(taskToAdd);
         logger.fine("Task added to task list.");
     }
@@ -364,11 +490,13 @@ public class ClubBook implements ReadOnlyClubBook {
      * @throws TaskNotFoundException if the task doesn't exist.
      */
     public void deleteTask(Task targetTask) throws TaskNotFoundException {
+        markModified(ClubBookSection.TASKS);
         tasks.remove(targetTask);
         logger.fine("Task removed from task list.");
     }
 
     public void setTasks(Set<Task> tasks) {
+        markModified(ClubBookSection.TASKS);
         this.tasks.setTasks(tasks);
     }
     //@@author
@@ -376,36 +504,139 @@ public class ClubBook implements ReadOnlyClubBook {
 
     //// tag-level operations
 
+    /**
+     * Adds {@code t} to the master tag list.
+     */
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
+        markModified(ClubBookSection.TAGS);
         tags.add(t);
     }
 
     //@@author amrut-prabhu
     /**
-     * Removes tags from master {@code tags} list that are unique to {@code member}.
+     * Removes from the master {@code tags} list those of {@code candidateTags} that no member is tagged with any more.
+     * Only {@code candidateTags} are checked, against the reference counts kept in {@link #taggedMatricNumbers},
+     * so the other tags in the master list are left untouched.
      *
-     * @param member Member whose tags may be removed from {@code tags}.
+     * @param candidateTags Tags of a member that has just been removed or replaced, or that failed to be added.
      */
-    private void deleteTagsUniqueToMember(Member member) {
-        List<Tag> tagsToCheck = new ArrayList<>(getTagList());
-        Set<Tag> newTags = tagsToCheck.stream()
-                .filter(t -> !isTagUniqueToMember(t, member))
-                .collect(Collectors.toSet());
-        tags.setTags(newTags);
+    private void deleteUnusedTags(Set<Tag> candidateTags) {
+        for (Tag tag : candidateTags) {
+            if (taggedMatricNumbers.containsKey(tag) || !tags.contains(tag)) {
+                continue;
+            }
+            markModified(ClubBookSection.TAGS);
+            try {
+                tags.remove(tag);
+            } catch (TagNotFoundException tnfe) {
+                throw new AssertionError("Impossible: the tag was just found in the master list.");
+            }
+        }
     }
+
     /**
-     * Returns true if only {@code member} is tagged with {@code tag}.
-     *
-     * @param tag Tag that is to be checked.
-     * @param member Member whose tags are to be checked.
+     * Returns the tasks in this {@code ClubBook} due between {@code from} and {@code to}, both inclusive,
+     * in order of their due date and time.
+     */
+    public List<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+        return tasks.getTasksDueBetween(from, to);
+    }
+
+    /**
+     * Returns the members in this {@code ClubBook} who are tagged with {@code tag}, in no particular order.
+     */
+    public List<Member> getMembersWithTag(Tag tag) {
+        requireNonNull(tag);
+        return getMembersByMatricNumber(taggedMatricNumbers.getOrDefault(tag, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the members in this {@code ClubBook} with the given {@code matricNumbers}.
+     * Assumes that every one of {@code matricNumbers} belongs to a member in this {@code ClubBook}.
+     */
+    private List<Member> getMembersByMatricNumber(Set<MatricNumber> matricNumbers) {
+        List<Member> foundMembers = new ArrayList<>();
+        try {
+            for (MatricNumber matricNumber : matricNumbers) {
+                foundMembers.add(members.getMemberByMatricNumber(matricNumber));
+            }
+        } catch (MemberNotFoundException mnfe) {
+            throw new AssertionError("Impossible: the indexes only refer to members in the club book.");
+        }
+        return foundMembers;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the search index of the member list to skip the
+     * members that cannot match.
+     */
+    public Predicate<Member> withSearchIndex(FieldContainsKeywordsPredicate predicate) {
+        return members.withSearchIndex(predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code query} that is evaluated by a plan made with the search index of the
+     * member list.
+     */
+    public Predicate<Member> withSearchIndex(MemberQueryPredicate query) {
+        return members.withSearchIndex(query);
+    }
+
+    /**
+     * Returns the matriculation numbers of the members closest to the keywords of {@code predicate}, in order of
+     * their edit distance from the keywords, which they are mapped to.
+     */
+    public Map<MatricNumber, Integer> getFuzzyMatches(FuzzyKeywordsPredicate predicate) {
+        return members.getFuzzyMatches(predicate);
+    }
+
+    /**
+     * Returns the member in this {@code ClubBook} that is equal to {@code member}, or null if there is none.
+     */
+    private Member getStoredMember(Member member) {
+        try {
+            Member storedMember = members.getMemberByMatricNumber(member.getMatricNumber());
+            return storedMember.equals(member) ? storedMember : null;
+        } catch (MemberNotFoundException mnfe) {
+            return null;
+        }
+    }
+
+    /**
+     * Records that {@code member}, which has been added to this {@code ClubBook}, refers to each of its tags
+     * and to its group.
+     */
+    private void addToIndexes(Member member) {
+        for (Tag tag : member.getTags()) {
+            taggedMatricNumbers.computeIfAbsent(tag, unused -> new HashSet<>()).add(member.getMatricNumber());
+        }
+        groupedMatricNumbers.computeIfAbsent(getGroupKey(member.getGroup()), unused -> new HashSet<>())
+                .add(member.getMatricNumber());
+    }
+
+    /**
+     * Removes the references of {@code member}, which has been removed from this {@code ClubBook}, to its tags
+     * and to its group.
      */
-    private boolean isTagUniqueToMember(Tag tag, Member member) {
-        for (Member m : members) {
-            if (m.hasTag(tag) && !m.equals(member)) {
-                return false;
+    private void removeFromIndexes(Member member) {
+        String groupKey = getGroupKey(member.getGroup());
+        Set<MatricNumber> groupMatricNumbers = groupedMatricNumbers.get(groupKey);
+        if (groupMatricNumbers != null) {
+            groupMatricNumbers.remove(member.getMatricNumber());
+            if (groupMatricNumbers.isEmpty()) {
+                groupedMatricNumbers.remove(groupKey);
+            }
+        }
+        for (Tag tag : member.getTags()) {
+            Set<MatricNumber> matricNumbers = taggedMatricNumbers.get(tag);
+            if (matricNumbers == null) {
+                continue;
+            }
+            matricNumbers.remove(member.getMatricNumber());
+            if (matricNumbers.isEmpty()) {
+                taggedMatricNumbers.remove(tag);
             }
         }
-        return true;
     }
 
     /**
@@ -424,10 +655,8 @@ public class ClubBook implements ReadOnlyClubBook {
 
         //Update members list
         try {
-            for (Member member : members) {
-                if (member.hasTag(tagToDelete)) {
-                    deleteTagFromMember(tagToDelete, member);
-                }
+            for (Member member : getMembersWithTag(tagToDelete)) {
+                deleteTagFromMember(tagToDelete, member);
             }
         } catch (MemberNotFoundException mnfe) {
             throw new AssertionError("Impossible: original member is obtained from the club book.");
@@ -479,6 +708,7 @@ public class ClubBook implements ReadOnlyClubBook {
     public void changePassword (String username, String oldpassword, String newPassword)
             throws PasswordIncorrectException, DataToChangeIsNotCurrentlyLoggedInMemberException,
             MatricNumberNotFoundException {
+        markModified(ClubBookSection.MEMBERS);
         members.changePassword(username, oldpassword, newPassword);
     }
 
@@ -492,8 +722,14 @@ public class ClubBook implements ReadOnlyClubBook {
         return members.getCurrentlyLogInMember();
     }
 
+    /**
+     * Removes all members from the club book.
+     */
     public void clearClubBook() {
+        markModified(ClubBookSection.MEMBERS);
         members.clear();
+        taggedMatricNumbers.clear();
+        groupedMatricNumbers.clear();
     }
     //@@author
 
@@ -505,6 +741,142 @@ public class ClubBook implements ReadOnlyClubBook {
         // TODO: refine later
     }
 
+    @Override
+    public long getSectionVersion(ClubBookSection section) {
+        return sectionVersions.get(section);
+    }
+
+    /**
+     * Returns a snapshot of this club book.
+     * The snapshot is made by applying the changes recorded since the last snapshot to it, which only copies the
+     * parts of the lists that hold changed elements, and the last snapshot itself is returned if nothing has been
+     * modified.
+     */
+    @Override
+    public ClubBookSnapshot getSnapshot() {
+        if (lastSnapshot != null && lastSnapshot.isUpToDateWith(this)) {
+            return lastSnapshot;
+        }
+        if (lastSnapshot == null || changesSinceSnapshot == null) {
+            lastSnapshot = new ClubBookSnapshot(this);
+        } else {
+            stopRecording(changesSinceSnapshot);
+            lastSnapshot = lastSnapshot.withChanges(this, changesSinceSnapshot);
+        }
+        changesSinceSnapshot = startRecording();
+        return lastSnapshot;
+    }
+
+    /**
+     * Stops recording the changes since the last snapshot once they hold more elements than this club book, as
+     * copying the whole club book for the next snapshot is then cheaper than applying them.
+     */
+    private void limitChangesSinceSnapshot() {
+        int clubBookSize = members.asObservableList().size() + tags.asObservableList().size()
+                + polls.asObservableList().size() + tasks.asObservableList().size();
+        if (changesSinceSnapshot != null && changesSinceSnapshot.size() > clubBookSize) {
+            stopRecording(changesSinceSnapshot);
+            changesSinceSnapshot = null;
+        }
+    }
+
+    //// edit recording
+
+    /**
+     * Starts recording the changes made to the lists of this club book into a new edit, until
+     * {@link #stopRecording(ClubBookEdit)} is called with it. Several edits can be recorded at the same time.
+     */
+    public ClubBookEdit startRecording() {
+        ClubBookEdit edit = new ClubBookEdit(getLoggedInMember());
+        recordingEdits.add(edit);
+        return edit;
+    }
+
+    /**
+     * Stops recording changes into {@code edit}. Does nothing if {@code edit} is not being recorded.
+     */
+    public void stopRecording(ClubBookEdit edit) {
+        recordingEdits.remove(edit);
+    }
+
+    /**
+     * Reverts the changes recorded in {@code edit}, latest first, and logs in the member who was logged in when
+     * the edit was started. Only the elements added and removed by the edit are touched.
+     * The changes made after {@code edit} was recorded must have been reverted first.
+     */
+    public void revert(ClubBookEdit edit) {
+        requireNonNull(edit);
+        stopRecording(edit);
+        List<ClubBookEdit.Change> changes = edit.getChanges();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            revert(changes.get(i));
+        }
+        setLoggedInMember(edit.getLoggedInMember());
+    }
+
+    /**
+     * Puts the elements removed by {@code change} back in place of the elements it added.
+     */
+    @SuppressWarnings("unchecked")
+    private void revert(ClubBookEdit.Change change) {
+        int from = change.getFrom();
+        int to = from + change.getAdded().size();
+        markModified(change.getSection());
+        switch (change.getSection()) {
+        case MEMBERS:
+            List<Member> restoredMembers = (List<Member>) change.getRemoved();
+            members.asObservableList().subList(from, to).forEach(this::removeFromIndexes);
+            members.replaceRange(from, to, restoredMembers);
+            restoredMembers.forEach(this::addToIndexes);
+            break;
+        case TAGS:
+            tags.replaceRange(from, to, (List<Tag>) change.getRemoved());
+            break;
+        case POLLS:
+            polls.replaceRange(from, to, (List<Poll>) change.getRemoved());
+            break;
+        case TASKS:
+            tasks.replaceRange(from, to, (List<Task>) change.getRemoved());
+            break;
+        default:
+            throw new AssertionError("Unknown section: " + change.getSection());
+        }
+    }
+
+    /**
+     * Adds every change to {@code list}, which holds the elements of {@code section}, to the edits being recorded.
+     * A permutation is recorded as the replacement of the permuted range.
+     */
+    private <T> void recordChanges(ObservableList<T> list, ClubBookSection section) {
+        list.addListener((ListChangeListener<T>) change -> {
+            while (!recordingEdits.isEmpty() && change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    List<T> previousElements = new ArrayList<>();
+                    for (int i = from; i < change.getTo(); i++) {
+                        previousElements.add(list.get(change.getPermutation(i)));
+                    }
+                    recordingEdits.forEach(edit -> edit.record(section, from, previousElements,
+                            list.subList(from, change.getTo())));
+                } else if (!change.wasUpdated()) {
+                    recordingEdits.forEach(edit -> edit.record(section, from, change.getRemoved(),
+                            change.getAddedSubList()));
+                }
+            }
+            limitChangesSinceSnapshot();
+        });
+    }
+
+    /**
+     * Gives each of {@code modifiedSections} a new version.
+     * Called before a section is modified, so that a modification that fails halfway is not missed.
+     */
+    private void markModified(ClubBookSection... modifiedSections) {
+        for (ClubBookSection section : modifiedSections) {
+            sectionVersions.put(section, nextSectionVersion.incrementAndGet());
+        }
+    }
+
     @Override
     public ObservableList<Member> getMemberList() {
         return members.asObservableList();
@@ -551,6 +923,7 @@ public class ClubBook implements ReadOnlyClubBook {
     public void updateTaskStatus(Task taskToEdit, Task editedTask) throws DuplicateTaskException,
             TaskNotFoundException {
         requireNonNull(editedTask);
+        markModified(ClubBookSection.TASKS);
         tasks.setTask(taskToEdit, editedTask);
         logger.fine("Task status updated to " + editedTask.getStatus().getStatus());
     }
@@ -563,6 +936,7 @@ public class ClubBook implements ReadOnlyClubBook {
      */
     public void updateTaskAssignee(Task taskToEdit, Task editedTask) throws DuplicateTaskException {
         requireNonNull(editedTask);
+        markModified(ClubBookSection.TASKS);
         try {
             tasks.setTaskIgnoreStatus(taskToEdit, editedTask);
         } catch (DuplicateTaskException dte) {
@@ -573,95 +947,80 @@ public class ClubBook implements ReadOnlyClubBook {
 
     /**
      * Updates the task if there is a change in Matric Number of the target member.
+     * The updated tasks are checked for duplicates before any task is changed, so nothing changes if one fails.
      * @return number of tasks updated.
      * @throws DuplicateTaskException if there is already a task with similar attributes (regardless of status).
      */
     public int updateTaskHelper(Member target, Member editedMember) throws DuplicateTaskException {
-        ObservableList<Task> taskObservableList = tasks.asObservableList();
-        if (target.getMatricNumber().equals(editedMember.getMatricNumber())) {
+        Map<Task, Task> updatedTasks = getUpdatedTasks(target, editedMember);
+        if (updatedTasks.isEmpty()) {
             return ZERO;
         }
-        int numberOfTasksUpdated = ZERO;
-        numberOfTasksUpdated = updateTasks(target, editedMember, taskObservableList, numberOfTasksUpdated);
-        logger.info("Updated " + numberOfTasksUpdated + "tasks in task list.");
-        return numberOfTasksUpdated;
-
-    }
-
-    /**
-     * Updates tasks by looping through the task list.
-     * @throws DuplicateTaskException if the update causes a duplicate task.
-     */
-    private int updateTasks(Member target, Member editedMember, ObservableList<Task> taskObservableList,
-                            int numberOfTasksUpdated) throws DuplicateTaskException {
-        for (Task task : taskObservableList) {
-            Task editedTask = null;
-            String editedMemberMatricNumberString = editedMember.getMatricNumber().toString();
-            String targetMemberMatricNumberString = target.getMatricNumber().toString();
-
-            if (task.getAssignor().getValue().equalsIgnoreCase(targetMemberMatricNumberString)
-                    && task.getAssignee().getValue().equalsIgnoreCase(targetMemberMatricNumberString)) {
-
-                numberOfTasksUpdated = updateWhenSameAssignorAndAssignee(numberOfTasksUpdated, task,
-                        editedMemberMatricNumberString);
-            } else if (task.getAssignor().getValue().equalsIgnoreCase(targetMemberMatricNumberString)) {
-
-                numberOfTasksUpdated = updateWhenSameAssignor(numberOfTasksUpdated, task,
-                        editedMemberMatricNumberString);
-            } else if (task.getAssignee().getValue().equalsIgnoreCase(targetMemberMatricNumberString)) {
-
-                numberOfTasksUpdated = updateWhenSameAssignee(numberOfTasksUpdated, task,
-                        editedMemberMatricNumberString);
+        markModified(ClubBookSection.TASKS);
+        try {
+            for (Task task : updatedTasks.keySet()) {
+                tasks.remove(task);
+            }
+            for (Task editedTask : updatedTasks.values()) {
+                tasks.add(editedTask);
             }
+        } catch (TaskNotFoundException | DuplicateTaskException e) {
+            throw new AssertionError("Impossible: the updated tasks have been checked.", e);
         }
-        return numberOfTasksUpdated;
+        logger.info("Updated " + updatedTasks.size() + "tasks in task list.");
+        return updatedTasks.size();
     }
 
     /**
-     * Updates task which has Assignee same as targetMember's Matric Number
-     * @throws DuplicateTaskException if the update results in a duplicate task.
+     * Checks that the tasks assigned to or by {@code target} can be updated to refer to {@code editedMember}
+     * without duplicating another task, so that {@link #updateTaskHelper(Member, Member)} will not fail.
+     * @throws DuplicateTaskException if an updated task would have similar attributes (regardless of status) to
+     *                                another task.
      */
-    private int updateWhenSameAssignee(int numberOfTasksUpdated, Task task,
-                                       String editedMemberMatricNumberString) throws DuplicateTaskException {
-        Task editedTask;
-        Assignee newAssignee = new Assignee(editedMemberMatricNumberString);
-        editedTask = new Task(task.getDescription(), task.getTime(), task.getDate(),
-                task.getAssignor(), newAssignee, task.getStatus());
-        tasks.setTaskIgnoreStatus(task, editedTask);
-        numberOfTasksUpdated++;
-        return numberOfTasksUpdated;
+    public void checkTasksCanBeUpdated(Member target, Member editedMember) throws DuplicateTaskException {
+        getUpdatedTasks(target, editedMember);
     }
 
     /**
-     * Updates task which has Assignor same as targetMember's Matric Number
-     * @throws DuplicateTaskException if the update results in a duplicate task.
+     * Returns the tasks assigned to or by {@code target} mapped to their copies that refer to {@code editedMember}
+     * instead, or an empty map if the matriculation number of the member does not change.
+     * @throws DuplicateTaskException if an updated task would have similar attributes (regardless of status) to a
+     *                                task that is not updated, or to another updated task.
      */
-    private int updateWhenSameAssignor(int numberOfTasksUpdated, Task task,
-                                       String editedMemberMatricNumberString) throws DuplicateTaskException {
-        Task editedTask;
-        Assignor newAssignor = new Assignor(editedMemberMatricNumberString);
-        editedTask = new Task(task.getDescription(), task.getTime(), task.getDate(),
-                newAssignor, task.getAssignee(), task.getStatus());
-        tasks.setTaskIgnoreStatus(task, editedTask);
-        numberOfTasksUpdated++;
-        return numberOfTasksUpdated;
+    private Map<Task, Task> getUpdatedTasks(Member target, Member editedMember) throws DuplicateTaskException {
+        Map<Task, Task> updatedTasks = new LinkedHashMap<>();
+        if (target.getMatricNumber().equals(editedMember.getMatricNumber())) {
+            return updatedTasks;
+        }
+        String targetMatricNumber = target.getMatricNumber().toString();
+        String editedMatricNumber = editedMember.getMatricNumber().toString();
+        UniqueTaskList editedTasks = new UniqueTaskList();
+        for (Task task : tasks.getTasksRelatedTo(targetMatricNumber)) {
+            updatedTasks.put(task, getUpdatedTask(task, targetMatricNumber, editedMatricNumber));
+        }
+        for (Task editedTask : updatedTasks.values()) {
+            boolean isSimilarToOtherTask = tasks.getTasksSimilarTo(editedTask).stream()
+                    .anyMatch(similarTask -> !updatedTasks.containsKey(similarTask));
+            if (isSimilarToOtherTask || editedTasks.containsIgnoreStatus(editedTask)) {
+                throw new DuplicateTaskException();
+            }
+            editedTasks.add(editedTask);
+        }
+        return updatedTasks;
     }
 
     /**
-     * Updates task which has Assignor and Assignee same as targetMember's Matric Number
-     * @throws DuplicateTaskException if the update results in a duplicate task.
+     * Returns a copy of {@code task} whose assignor and assignee, where they are {@code targetMatricNumber}, are
+     * replaced with {@code editedMatricNumber}.
      */
-    private int updateWhenSameAssignorAndAssignee(int numberOfTasksUpdated, Task task,
-                                                  String editedMemberMatricNumberString) throws DuplicateTaskException {
-        Task editedTask;
-        Assignee newAssignee = new Assignee(editedMemberMatricNumberString);
-        Assignor newAssignor = new Assignor(editedMemberMatricNumberString);
-
-        editedTask = new Task(task.getDescription(), task.getTime(), task.getDate(),
-                newAssignor, newAssignee, task.getStatus());
-        tasks.setTaskIgnoreStatus(task, editedTask);
-        numberOfTasksUpdated++;
-        return numberOfTasksUpdated;
+    private static Task getUpdatedTask(Task task, String targetMatricNumber, String editedMatricNumber) {
+        Assignor assignor = task.getAssignor().getValue().equalsIgnoreCase(targetMatricNumber)
+                ? new Assignor(editedMatricNumber)
+                : task.getAssignor();
+        Assignee assignee = task.getAssignee().getValue().equalsIgnoreCase(targetMatricNumber)
+                ? new Assignee(editedMatricNumber)
+                : task.getAssignee();
+        return new Task(task.getDescription(), task.getTime(), task.getDate(), assignor, assignee, task.getStatus());
     }
 
     /**
@@ -669,15 +1028,8 @@ public class ClubBook implements ReadOnlyClubBook {
      */
     public int removeTasksOfMember(Member member) {
 
-        int numberOfTasksRemoved = ZERO;
-        Iterator<Task> it = tasks.iterator();
-        while (it.hasNext()) {
-            Task task = it.next();
-            if (task.getAssignee().getValue().equalsIgnoreCase(member.getMatricNumber().toString())) {
-                it.remove();
-                numberOfTasksRemoved++;
-            }
-        }
+        markModified(ClubBookSection.TASKS);
+        int numberOfTasksRemoved = tasks.removeTasksAssignedTo(member.getMatricNumber().toString());
         logger.info("Removed " + numberOfTasksRemoved + "tasks from task list.");
         return numberOfTasksRemoved;
     }
@@ -688,12 +1040,10 @@ public class ClubBook implements ReadOnlyClubBook {
      * @throws TaskAlreadyAssignedException if there exists a task like so.
      */
     public void checkIfTaskIsAlreadyAssigned(Task toAdd) throws TaskAlreadyAssignedException {
-        ObservableList<Task> taskObservableList = getTaskList();
-        for (Task task : taskObservableList) {
+        for (Task task : tasks.getTasksAssignedTo(toAdd.getAssignee().getValue())) {
             if (task.getDescription().getDescription().equalsIgnoreCase(toAdd.getDescription().getDescription())
                     && task.getDate().getDate().equalsIgnoreCase(toAdd.getDate().getDate())
-                    && task.getTime().getTime().equalsIgnoreCase(toAdd.getTime().getTime())
-                    && task.getAssignee().getValue().equalsIgnoreCase(toAdd.getAssignee().getValue())) {
+                    && task.getTime().getTime().equalsIgnoreCase(toAdd.getTime().getTime())) {
                 throw new TaskAlreadyAssignedException();
             }
         }
@@ -704,15 +1054,8 @@ public class ClubBook implements ReadOnlyClubBook {
      * @throws DuplicateTaskException if there exists a duplicate task.
      */
     public void checkIfDuplicateTaskExists(Task toAdd) throws DuplicateTaskException {
-        ObservableList<Task> taskObservableList = getTaskList();
-        for (Task task : taskObservableList) {
-            if (task.getDescription().getDescription().equalsIgnoreCase(toAdd.getDescription().getDescription())
-                    && task.getDate().getDate().equalsIgnoreCase(toAdd.getDate().getDate())
-                    && task.getTime().getTime().equalsIgnoreCase(toAdd.getTime().getTime())
-                    && task.getAssignor().getValue().equalsIgnoreCase(toAdd.getAssignor().getValue())
-                    && task.getAssignee().getValue().equalsIgnoreCase(toAdd.getAssignee().getValue())) {
-                throw new DuplicateTaskException();
-            }
+        if (tasks.containsIgnoreStatus(toAdd)) {
+            throw new DuplicateTaskException();
         }
     }
 }
@@ -0,0 +1,108 @@
+package seedu.club.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.club.model.member.Member;
+
+/**
+ * The changes made to the lists of a {@code ClubBook} while the edit was being recorded, element by element.
+ * Each change replaces a range of one list with other elements, so an edit holds only the elements it added and
+ * removed, and can be reverted without copying the rest of the club book.
+ *
+ * @see ClubBook#startRecording()
+ */
+public class ClubBookEdit {
+
+    private final List<Change> changes = new ArrayList<>();
+    private final Member loggedInMember;
+    private int size;
+
+    ClubBookEdit(Member loggedInMember) {
+        this.loggedInMember = loggedInMember;
+    }
+
+    /**
+     * Records that the elements of {@code section} from position {@code from} were replaced: {@code removed} were
+     * removed, and {@code added} were inserted in their place.
+     */
+    void record(ClubBookSection section, int from, List<?> removed, List<?> added) {
+        Change change = new Change(section, from, removed, added);
+        changes.add(change);
+        size += change.getRemoved().size() + change.getAdded().size();
+    }
+
+    /**
+     * Returns the changes in the order in which they were made.
+     */
+    public List<Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Returns the member that was logged in when the edit was started.
+     */
+    Member getLoggedInMember() {
+        return loggedInMember;
+    }
+
+    /**
+     * Returns the number of elements added and removed by the edit, which bounds the memory it holds.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the edit has not changed any list.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * A replacement of the elements of one list from a given position.
+     */
+    public static class Change {
+        private final ClubBookSection section;
+        private final int from;
+        private final List<?> removed;
+        private final List<?> added;
+
+        Change(ClubBookSection section, int from, List<?> removed, List<?> added) {
+            requireNonNull(section);
+            this.section = section;
+            this.from = from;
+            this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+            this.added = Collections.unmodifiableList(new ArrayList<>(added));
+        }
+
+        public ClubBookSection getSection() {
+            return section;
+        }
+
+        /**
+         * Returns the position of the first element removed or added.
+         */
+        public int getFrom() {
+            return from;
+        }
+
+        /**
+         * Returns the elements removed from the list, in the order they were in.
+         */
+        public List<?> getRemoved() {
+            return removed;
+        }
+
+        /**
+         * Returns the elements added to the list, in the order they are in.
+         */
+        public List<?> getAdded() {
+            return added;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.club.model;
+
+/**
+ * The lists that make up a club book, which can be modified and saved independently of each other.
+ */
+public enum ClubBookSection {
+    MEMBERS("members"),
+    TAGS("tags"),
+    POLLS("polls"),
+    TASKS("tasks");
+
+    private final String sectionName;
+
+    ClubBookSection(String sectionName) {
+        this.sectionName = sectionName;
+    }
+
+    @Override
+    public String toString() {
+        return sectionName;
+    }
+}
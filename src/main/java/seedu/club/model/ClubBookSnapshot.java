@@ -0,0 +1,220 @@
+package seedu.club.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.club.model.member.Member;
+import seedu.club.model.poll.Poll;
+import seedu.club.model.tag.Tag;
+import seedu.club.model.task.Task;
+
+/**
+ * An unmodifiable copy of the lists of a {@code ReadOnlyClubBook}, as they were when the copy was taken.
+ * Only the lists are copied; the members, tags, polls and tasks in them are shared with the source.
+ * A snapshot made from a previous snapshot and the changes recorded since then shares all the parts of the lists that
+ * the changes did not touch, so it costs far less than a full copy when few elements have changed.
+ * Such a snapshot also keeps the previous snapshot and the changes, so that the changes between two snapshots of the
+ * same club book can be found with {@link #getChangesSince(ReadOnlyClubBook)}.
+ */
+public class ClubBookSnapshot implements ReadOnlyClubBook {
+
+    /**
+     * The number of snapshots and changed elements that a chain of snapshots may hold before it is cut, which bounds
+     * the memory kept by old snapshots.
+     */
+    static final int MAX_CHAINED_CHANGES = 1000;
+
+    private final ChunkedList<Member> members;
+    private final ChunkedList<Tag> tags;
+    private final ChunkedList<Poll> polls;
+    private final ChunkedList<Task> tasks;
+    private final ObservableList<Member> memberView;
+    private final ObservableList<Tag> tagView;
+    private final ObservableList<Poll> pollView;
+    private final ObservableList<Task> taskView;
+    private final Member loggedInMember;
+    private final Map<ClubBookSection, Long> sectionVersions = new EnumMap<>(ClubBookSection.class);
+    /** The snapshot this snapshot was made from, or null if it was made by a full copy or the chain was cut. */
+    private final ClubBookSnapshot previous;
+    /** The changes made between {@code previous} and this snapshot, or null if {@code previous} is null. */
+    private final ClubBookEdit changesFromPrevious;
+    /** The number of snapshots and changed elements between this snapshot and the start of its chain. */
+    private final int chainedChanges;
+
+    /**
+     * Creates a snapshot of {@code source} by copying all of its lists.
+     */
+    public ClubBookSnapshot(ReadOnlyClubBook source) {
+        this(source, ChunkedList.of(source.getMemberList()), ChunkedList.of(source.getTagList()),
+                ChunkedList.of(source.getPollList()), ChunkedList.of(source.getTaskList()), null, null);
+    }
+
+    /**
+     * Creates a snapshot of {@code source} that holds {@code members}, {@code tags}, {@code polls} and
+     * {@code tasks}, and shares the views of the lists that are the same in {@code previous}, if it is not null.
+     * {@code changes} are the changes that turn {@code previous} into the new snapshot.
+     */
+    private ClubBookSnapshot(ReadOnlyClubBook source, ChunkedList<Member> members, ChunkedList<Tag> tags,
+                             ChunkedList<Poll> polls, ChunkedList<Task> tasks, ClubBookSnapshot previous,
+                             ClubBookEdit changes) {
+        requireNonNull(source);
+        for (ClubBookSection section : ClubBookSection.values()) {
+            sectionVersions.put(section, source.getSectionVersion(section));
+        }
+        this.members = members;
+        this.tags = tags;
+        this.polls = polls;
+        this.tasks = tasks;
+        boolean hasPrevious = previous != null;
+        memberView = hasPrevious && members == previous.members ? previous.memberView : viewOf(members);
+        tagView = hasPrevious && tags == previous.tags ? previous.tagView : viewOf(tags);
+        pollView = hasPrevious && polls == previous.polls ? previous.pollView : viewOf(polls);
+        taskView = hasPrevious && tasks == previous.tasks ? previous.taskView : viewOf(tasks);
+        loggedInMember = source.getLoggedInMember();
+
+        int newChainedChanges = hasPrevious ? previous.chainedChanges + 1 + changes.size() : 0;
+        boolean isChained = hasPrevious && newChainedChanges <= MAX_CHAINED_CHANGES;
+        this.previous = isChained ? previous : null;
+        this.changesFromPrevious = isChained ? changes : null;
+        this.chainedChanges = isChained ? newChainedChanges : 0;
+    }
+
+    /**
+     * Returns a snapshot of {@code source} made by applying {@code changes}, the changes recorded since this
+     * snapshot was taken, to the lists of this snapshot. Only the parts of the lists that hold changed elements
+     * are copied.
+     */
+    ClubBookSnapshot withChanges(ReadOnlyClubBook source, ClubBookEdit changes) {
+        ChunkedList<Member> newMembers = members;
+        ChunkedList<Tag> newTags = tags;
+        ChunkedList<Poll> newPolls = polls;
+        ChunkedList<Task> newTasks = tasks;
+        for (ClubBookEdit.Change change : changes.getChanges()) {
+            switch (change.getSection()) {
+            case MEMBERS:
+                newMembers = applyChange(newMembers, change);
+                break;
+            case TAGS:
+                newTags = applyChange(newTags, change);
+                break;
+            case POLLS:
+                newPolls = applyChange(newPolls, change);
+                break;
+            case TASKS:
+                newTasks = applyChange(newTasks, change);
+                break;
+            default:
+                throw new AssertionError("Unknown section: " + change.getSection());
+            }
+        }
+        ClubBookSnapshot snapshot = new ClubBookSnapshot(source, newMembers, newTags, newPolls, newTasks, this,
+                changes);
+        assert snapshot.members.size() == source.getMemberList().size()
+                && snapshot.tasks.size() == source.getTaskList().size();
+        return snapshot;
+    }
+
+    /**
+     * Returns the changes that turn {@code earlier} into this snapshot, in the order in which they were made, or
+     * null if this snapshot was not made from {@code earlier} through a chain of snapshots.
+     */
+    public List<ClubBookEdit> getChangesSince(ReadOnlyClubBook earlier) {
+        List<ClubBookEdit> changes = new ArrayList<>();
+        ClubBookSnapshot snapshot = this;
+        while (snapshot != earlier) {
+            if (snapshot.previous == null) {
+                return null;
+            }
+            changes.add(snapshot.changesFromPrevious);
+            snapshot = snapshot.previous;
+        }
+        Collections.reverse(changes);
+        return changes;
+    }
+
+    /**
+     * Returns {@code list} with the elements removed by {@code change} replaced with the elements it added.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ChunkedList<T> applyChange(ChunkedList<T> list, ClubBookEdit.Change change) {
+        int from = change.getFrom();
+        return list.replaceRange(from, from + change.getRemoved().size(), (List<T>) change.getAdded());
+    }
+
+    /**
+     * Returns an unmodifiable observable view of {@code list}, which is not copied.
+     */
+    private static <T> ObservableList<T> viewOf(ChunkedList<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(list));
+    }
+
+    /**
+     * Returns true if this snapshot holds the same data as {@code source} currently does.
+     */
+    boolean isUpToDateWith(ReadOnlyClubBook source) {
+        for (ClubBookSection section : ClubBookSection.values()) {
+            if (source.getSectionVersion(section) != getSectionVersion(section)) {
+                return false;
+            }
+        }
+        return source.getLoggedInMember() == loggedInMember;
+    }
+
+    @Override
+    public ObservableList<Member> getMemberList() {
+        return memberView;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tagView;
+    }
+
+    @Override
+    public ObservableList<Poll> getPollList() {
+        return pollView;
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return taskView;
+    }
+
+    @Override
+    public long getSectionVersion(ClubBookSection section) {
+        return sectionVersions.get(section);
+    }
+
+    @Override
+    public ClubBookSnapshot getSnapshot() {
+        return this;
+    }
+
+    @Override
+    public void setPolls(Set<Poll> polls) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setTasks(Set<Task> tasks) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setLoggedInMember(Member target) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Member getLoggedInMember() {
+        return loggedInMember;
+    }
+}
@@ -2,11 +2,14 @@ package seedu.club.model;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.club.commons.core.index.Index;
 import seedu.club.commons.exceptions.PhotoReadException;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.model.email.Body;
 import seedu.club.model.email.Client;
 import seedu.club.model.email.Subject;
@@ -77,6 +80,46 @@ public interface Model {
      */
     ReadOnlyClubBook getClubBook();
 
+    /**
+     * Starts recording the changes made to the club book into a new edit, which can later be reverted.
+     */
+    ClubBookEdit startEdit();
+
+    /**
+     * Stops recording changes into {@code edit}.
+     */
+    void stopEdit(ClubBookEdit edit);
+
+    /**
+     * Reverts the changes recorded in {@code edit}, which must be the latest edit that has not been reverted.
+     */
+    void revertEdit(ClubBookEdit edit);
+
+    /**
+     * Starts a batch of changes to the club book.
+     * Until the batch is committed or rolled back, the changes raise no events.
+     * Nothing is copied when a batch starts; only the elements that the batch changes are recorded for rollback.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the current batch, raising the events that describe its changes followed by a single
+     * {@code ClubBookChangedEvent}, if the club book has changed.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    void commitBatch();
+
+    /**
+     * Ends the current batch, reverting the changes made to the club book in the batch without raising
+     * any events. As with undo, changes made in place to a member, such as a new password, are not reverted.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    void rollbackBatch();
+
     /**
      * Deletes the given member, and returns the number of tasks that have been deleted from the
      * main task list.
@@ -88,6 +131,13 @@ public interface Model {
      */
     void addMember(Member member) throws DuplicateMatricNumberException;
 
+    /**
+     * Returns the member with the given {@code matricNumber}.
+     *
+     * @throws MemberNotFoundException if no member has {@code matricNumber}.
+     */
+    Member getMemberByMatricNumber(MatricNumber matricNumber) throws MemberNotFoundException;
+
     /**
      * Adds the given poll
      */
@@ -184,9 +234,12 @@ public interface Model {
      * Exports Club Connect's members' details to the specified file.
      *
      * @param exportFile File to which data is exported.
+     * @param columns Columns of member details that are exported, in the order in which they are exported.
+     * @param isFilteredListExported Whether only the members in the filtered member list are exported.
      * @throws IOException if there was an error writing to file.
      */
-    void exportClubConnectMembers(File exportFile) throws IOException;
+    void exportClubConnectMembers(File exportFile, List<CsvColumn> columns, boolean isFilteredListExported)
+            throws IOException;
 
     /**
      * Imports details of members from the specified file.
@@ -259,6 +312,12 @@ public interface Model {
 
     void viewMyTasks() throws TasksAlreadyListedException;
 
+    /**
+     * Returns the tasks related to the logged-in member that are due between {@code from} and {@code to},
+     * both inclusive, in order of their due date and time.
+     */
+    List<Task> getMyTasksDueBetween(LocalDateTime from, LocalDateTime to);
+
     void changeStatus(Task taskToEdit, Task editedTask) throws TaskNotFoundException, DuplicateTaskException,
             TaskStatusCannotBeEditedException;
 
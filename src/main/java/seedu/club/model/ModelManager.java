@@ -7,24 +7,39 @@ import static seedu.club.storage.ProfilePhotoStorage.SAVE_PHOTO_DIRECTORY;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.club.commons.core.ComponentManager;
 import seedu.club.commons.core.LogsCenter;
 import seedu.club.commons.core.index.Index;
+import seedu.club.commons.events.BaseEvent;
 import seedu.club.commons.events.model.ClubBookChangedEvent;
+import seedu.club.commons.events.model.GroupRemovedEvent;
+import seedu.club.commons.events.model.MemberRemovedEvent;
+import seedu.club.commons.events.model.MemberUpdatedEvent;
+import seedu.club.commons.events.model.MembersAddedEvent;
 import seedu.club.commons.events.model.NewExportDataAvailableEvent;
+import seedu.club.commons.events.model.PollChangedEvent;
 import seedu.club.commons.events.model.ProfilePhotoChangedEvent;
+import seedu.club.commons.events.model.TagRemovedEvent;
+import seedu.club.commons.events.model.TaskChangedEvent;
 import seedu.club.commons.events.ui.SendEmailRequestEvent;
 import seedu.club.commons.exceptions.PhotoReadException;
-import seedu.club.commons.util.CsvUtil;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.logic.commands.ViewAllTasksCommand;
 import seedu.club.logic.commands.ViewMyTasksCommand;
 import seedu.club.model.email.Body;
@@ -33,10 +48,12 @@ import seedu.club.model.email.Subject;
 import seedu.club.model.group.Group;
 import seedu.club.model.group.exceptions.GroupCannotBeRemovedException;
 import seedu.club.model.group.exceptions.GroupNotFoundException;
+import seedu.club.model.member.FieldContainsKeywordsPredicate;
+import seedu.club.model.member.FuzzyKeywordsPredicate;
 import seedu.club.model.member.MatricNumber;
 import seedu.club.model.member.Member;
+import seedu.club.model.member.MemberQueryPredicate;
 import seedu.club.model.member.ProfilePhoto;
-import seedu.club.model.member.UniqueMemberList;
 import seedu.club.model.member.exceptions.DataToChangeIsNotCurrentlyLoggedInMemberException;
 import seedu.club.model.member.exceptions.DeleteCurrentUserException;
 import seedu.club.model.member.exceptions.DuplicateMatricNumberException;
@@ -75,10 +92,21 @@ public class ModelManager extends ComponentManager implements Model {
 
     private final ClubBook clubBook;
     private final FilteredList<Member> filteredMembers;
+    /** The members in {@code filteredMembers}, in the order in which they are shown. */
+    private final SortedList<Member> sortedMembers;
     private final FilteredList<Tag> filteredTags;
     private final FilteredList<Poll> filteredPolls;
     private final FilteredList<Task> filteredTasks;
+    private final AppliedPredicate appliedMemberPredicate = new AppliedPredicate(ClubBookSection.MEMBERS);
+    private final AppliedPredicate appliedTagPredicate = new AppliedPredicate(ClubBookSection.TAGS);
+    private final AppliedPredicate appliedPollPredicate = new AppliedPredicate(ClubBookSection.POLLS);
+    private final AppliedPredicate appliedTaskPredicate = new AppliedPredicate(ClubBookSection.TASKS);
     private boolean isConfirmedClear;
+    /** The changes made to the club book in the current batch, or null if no batch is in progress. */
+    private ClubBookEdit batchEdit;
+    /** The events that describe the changes made in the current batch, in the order they were made. */
+    private final List<BaseEvent> batchChanges = new ArrayList<>();
+    private boolean isChangedInBatch;
 
     /**
      * Initializes a ModelManager with the given clubBook and userPrefs.
@@ -92,6 +120,7 @@ public class ModelManager extends ComponentManager implements Model {
         this.clubBook = new ClubBook(clubBook);
         isConfirmedClear = false;
         filteredMembers = new FilteredList<>(this.clubBook.getMemberList());
+        sortedMembers = new SortedList<>(filteredMembers);
         filteredTags = new FilteredList<>(this.clubBook.getTagList());
         filteredPolls = new FilteredList<>(this.clubBook.getPollList());
         filteredTasks = new FilteredList<>(this.clubBook.getTaskList());
@@ -116,17 +145,117 @@ public class ModelManager extends ComponentManager implements Model {
         return clubBook;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public ClubBookEdit startEdit() {
+        return clubBook.startRecording();
+    }
+
+    @Override
+    public void stopEdit(ClubBookEdit edit) {
+        clubBook.stopRecording(edit);
+    }
+
+    @Override
+    public void revertEdit(ClubBookEdit edit) {
+        clubBook.revert(edit);
+        indicateClubBookChanged();
+        updateFilteredTaskList(new TaskIsRelatedToMemberPredicate(getLoggedInMember()));
+    }
+
+    @Override
+    public void beginBatch() {
+        if (batchEdit != null) {
+            throw new IllegalStateException("A batch is already in progress.");
+        }
+        batchEdit = clubBook.startRecording();
+    }
+
+    @Override
+    public void commitBatch() {
+        List<BaseEvent> changes = new ArrayList<>(batchChanges);
+        boolean isChanged = isChangedInBatch;
+        endBatch();
+        changes.forEach(this::raise);
+        if (isChanged) {
+            indicateClubBookChanged();
+        }
+    }
+
+    @Override
+    public void rollbackBatch() {
+        ClubBookEdit edit = batchEdit;
+        endBatch();
+        clubBook.revert(edit);
+    }
+
+    /**
+     * Stops recording the changes for the current batch and discards its events, and marks that no batch is in
+     * progress.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    private void endBatch() {
+        if (batchEdit == null) {
+            throw new IllegalStateException("No batch is in progress.");
+        }
+        clubBook.stopRecording(batchEdit);
+        batchEdit = null;
+        batchChanges.clear();
+        isChangedInBatch = false;
+    }
+
+    /** Raises an event to indicate the model has changed, or records the change if a batch is in progress */
     private void indicateClubBookChanged() {
+        if (batchEdit != null) {
+            isChangedInBatch = true;
+            return;
+        }
         raise(new ClubBookChangedEvent(clubBook));
     }
 
+    /**
+     * Raises {@code change}, which describes what has changed in the model, followed by a
+     * {@code ClubBookChangedEvent} for subscribers that only need to know that the model has changed.
+     * If a batch is in progress, the events are raised when it is committed instead.
+     */
+    private void indicateClubBookChanged(BaseEvent change) {
+        if (batchEdit != null) {
+            batchChanges.add(change);
+            isChangedInBatch = true;
+            return;
+        }
+        raise(change);
+        indicateClubBookChanged();
+    }
+
+    /**
+     * Returns the member in the club book with the same matriculation number as {@code member}.
+     */
+    private Member getStoredMember(Member member) {
+        try {
+            return clubBook.getMemberByMatricNumber(member.getMatricNumber());
+        } catch (MemberNotFoundException mnfe) {
+            throw new AssertionError("Impossible: the member has just been added to the club book.");
+        }
+    }
+
+    /**
+     * Returns the members in the club book with the same matriculation numbers as {@code members}.
+     */
+    private List<Member> getStoredMembers(List<Member> members) {
+        List<Member> storedMembers = new ArrayList<>(members.size());
+        for (Member member : members) {
+            storedMembers.add(getStoredMember(member));
+        }
+        return storedMembers;
+    }
+
     @Override
     public synchronized int deleteMember(Member target) throws MemberNotFoundException, DeleteCurrentUserException {
         clubBook.removeMember(target);
         int numberOfTasksRemoved = clubBook.removeTasksOfMember(target);
         filteredMembers.remove(target);
-        indicateClubBookChanged();
+        indicateClubBookChanged(new MemberRemovedEvent(target));
         updateFilteredTaskList(new TaskIsRelatedToMemberPredicate(getLoggedInMember()));
         return numberOfTasksRemoved;
     }
@@ -135,16 +264,24 @@ public class ModelManager extends ComponentManager implements Model {
     public synchronized void addMember(Member member) throws DuplicateMatricNumberException {
         clubBook.addMember(member);
         updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
-        indicateClubBookChanged();
+        indicateClubBookChanged(new MembersAddedEvent(Collections.singletonList(getStoredMember(member))));
+    }
+
+    @Override
+    public Member getMemberByMatricNumber(MatricNumber matricNumber) throws MemberNotFoundException {
+        requireNonNull(matricNumber);
+        return clubBook.getMemberByMatricNumber(matricNumber);
     }
 
     @Override
     public int updateMember(Member target, Member editedMember)
             throws DuplicateMatricNumberException, MemberNotFoundException, DuplicateTaskException {
         requireAllNonNull(target, editedMember);
+        // The tasks are checked first, so that a duplicate task does not leave the member updated alone.
+        clubBook.checkTasksCanBeUpdated(target, editedMember);
         clubBook.updateMember(target, editedMember);
         int numberOfTasksUpdated = clubBook.updateTaskHelper(target, editedMember);
-        indicateClubBookChanged();
+        indicateClubBookChanged(new MemberUpdatedEvent(target, getStoredMember(editedMember)));
         if (target.equals(getLoggedInMember())) {
             clubBook.setLoggedInMember(editedMember);
         }
@@ -159,15 +296,17 @@ public class ModelManager extends ComponentManager implements Model {
         requireNonNull(poll);
         clubBook.addPoll(poll);
         updateFilteredPollList(new PollIsRelevantToMemberPredicate(getLoggedInMember()));
-        indicateClubBookChanged();
+        indicateClubBookChanged(new PollChangedEvent(null, poll));
     }
 
     @Override
     public String voteInPoll(Poll poll, Index answerIndex)
             throws PollNotFoundException, AnswerNotFoundException, UserAlreadyVotedException {
         requireAllNonNull(poll, answerIndex);
+        int pollIndex = clubBook.getPollList().indexOf(poll);
         String voteDetails = clubBook.voteInPoll(poll, answerIndex, getLoggedInMember().getMatricNumber());
-        indicateClubBookChanged();
+        // The poll voted in is replaced by an updated copy at the same position.
+        indicateClubBookChanged(new PollChangedEvent(poll, clubBook.getPollList().get(pollIndex)));
         return voteDetails;
     }
 
@@ -175,7 +314,7 @@ public class ModelManager extends ComponentManager implements Model {
     public synchronized void deletePoll(Poll target) throws PollNotFoundException {
         requireNonNull(target);
         clubBook.removePoll(target);
-        indicateClubBookChanged();
+        indicateClubBookChanged(new PollChangedEvent(target, null));
     }
 
     //@@author th14thmusician
@@ -214,7 +353,7 @@ public class ModelManager extends ComponentManager implements Model {
         String newProfilePhotoPath = SAVE_PHOTO_DIRECTORY + newFileName + PHOTO_FILE_EXTENSION;
 
         clubBook.changeLoggedInMemberProfilePhoto(newProfilePhotoPath);
-        indicateClubBookChanged();
+        indicateClubBookChanged(new MemberUpdatedEvent(getLoggedInMember(), getLoggedInMember()));
         logger.fine("Member's profile photo has been set to: "
                 + getLoggedInMember().getProfilePhoto().getPhotoPath());
     }
@@ -223,7 +362,7 @@ public class ModelManager extends ComponentManager implements Model {
     public void removeProfilePhoto() {
         clubBook.changeLoggedInMemberProfilePhoto(ProfilePhoto.DEFAULT_PHOTO_PATH);
         updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
-        indicateClubBookChanged();
+        indicateClubBookChanged(new MemberUpdatedEvent(getLoggedInMember(), getLoggedInMember()));
         logger.fine("Member's profile photo has been set to default image");
     }
 
@@ -231,16 +370,18 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void deleteGroup(Group toRemove) throws GroupNotFoundException, GroupCannotBeRemovedException {
         requireNonNull(toRemove);
+        List<Member> affectedMembers = clubBook.getMembersInGroup(toRemove);
         clubBook.deleteGroup(toRemove);
-        indicateClubBookChanged();
+        indicateClubBookChanged(new GroupRemovedEvent(toRemove, getStoredMembers(affectedMembers)));
     }
 
     //@@author amrut-prabhu
     @Override
     public void deleteTag(Tag tag) throws TagNotFoundException {
+        List<Member> affectedMembers = clubBook.getMembersWithTag(tag);
         clubBook.deleteTag(tag);
         updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
-        indicateClubBookChanged();
+        indicateClubBookChanged(new TagRemovedEvent(tag, getStoredMembers(affectedMembers)));
     }
 
     //@@author yash-chowdhary
@@ -258,64 +399,36 @@ public class ModelManager extends ComponentManager implements Model {
      */
     private String generateTagEmailRecipients(Tag toSendEmailTo) throws TagNotFoundException {
         assert toSendEmailTo != null : "Null value of Tag";
-        List<Member> members = new ArrayList<>(clubBook.getMemberList());
+        List<Member> members = clubBook.getMembersWithTag(toSendEmailTo);
+        if (members.isEmpty()) {
+            throw new TagNotFoundException();
+        }
+        // Recipients are listed in the same order as in the member list.
+        members.sort(Comparator.comparing(member -> member.getName().toString()));
 
         List<String> emailRecipients = new ArrayList<>();
-        checkIfTagExists(toSendEmailTo, members, emailRecipients);
-
+        members.forEach(member -> emailRecipients.add(member.getEmail().toString()));
         return String.join(",", emailRecipients);
     }
 
-    /**
-     * Checks if the {@code Tag toSendEmailTo} exists in Club Connect.
-     * @throws TagNotFoundException if {@code toSendEmailTo} is not found.
-     */
-    private void checkIfTagExists(Tag toSendEmailTo, List<Member> members, List<String> emailRecipients)
-            throws TagNotFoundException {
-        Boolean tagFound = false;
-        for (Member member : members) {
-            Set<Tag> memberTags = member.getTags();
-            if (memberTags.contains(toSendEmailTo)) {
-                emailRecipients.add(member.getEmail().toString());
-                tagFound = true;
-            }
-        }
-        if (!tagFound) {
-            throw new TagNotFoundException();
-        }
-    }
-
     /**
      * Generates recipient list of all members part of {@code Group toSendEmailTo}
      * @throws GroupNotFoundException if {@code Group toSendEmailTo} doesn't exist in the club book
      */
     private String generateGroupEmailRecipients(Group toSendEmailTo) throws GroupNotFoundException {
         assert toSendEmailTo != null : "Null value of Group";
-        List<Member> members = new ArrayList<>(clubBook.getMemberList());
+        List<Member> members = clubBook.getMembersInGroup(toSendEmailTo);
+        if (members.isEmpty()) {
+            throw new GroupNotFoundException();
+        }
+        // Recipients are listed in the same order as in the member list.
+        members.sort(Comparator.comparing(member -> member.getName().toString()));
 
         List<String> emailRecipients = new ArrayList<>();
-        checkIfGroupExists(toSendEmailTo, members, emailRecipients);
+        members.forEach(member -> emailRecipients.add(member.getEmail().toString()));
         return String.join(",", emailRecipients);
     }
 
-    /**
-     * Checks if the {@code Group toSendEmailTo} exists in Club Connect.
-     * @throws GroupNotFoundException if {@code toSendEmailTo} is not found.
-     */
-    private void checkIfGroupExists(Group toSendEmailTo, List<Member> members, List<String> emailRecipients)
-            throws GroupNotFoundException {
-        Boolean groupFound = false;
-        for (Member member : members) {
-            if (member.getGroup().equals(toSendEmailTo)) {
-                emailRecipients.add(member.getEmail().toString());
-                groupFound = true;
-            }
-        }
-        if (!groupFound) {
-            throw new GroupNotFoundException();
-        }
-    }
-
     @Override
     public void sendEmail(String recipients, Client client, Subject subject, Body body) {
         raise(new SendEmailRequestEvent(recipients, subject, body, client));
@@ -329,7 +442,7 @@ public class ModelManager extends ComponentManager implements Model {
         checkIfStatusCanBeEdited(taskToEdit, currentMember);
         clubBook.updateTaskStatus(taskToEdit, editedTask);
         updateFilteredTaskList(new TaskIsRelatedToMemberPredicate(getLoggedInMember()));
-        indicateClubBookChanged();
+        indicateClubBookChanged(new TaskChangedEvent(taskToEdit, editedTask));
     }
 
     /**
@@ -360,7 +473,7 @@ public class ModelManager extends ComponentManager implements Model {
             throw new AssertionError("Impossible. This check has already been made");
         }
         updateFilteredTaskList(new TaskIsRelatedToMemberPredicate(getLoggedInMember()));
-        indicateClubBookChanged();
+        indicateClubBookChanged(new TaskChangedEvent(taskToEdit, editedTask));
     }
 
     private void checkIfInputAssigneeIsSame(Task taskToEdit, Task editedTask) throws TaskAssigneeUnchangedException {
@@ -393,7 +506,7 @@ public class ModelManager extends ComponentManager implements Model {
             toAdd.setStatus(status);
             clubBook.addTaskToTaskList(toAdd);
             updateFilteredTaskList(new TaskIsRelatedToMemberPredicate(getLoggedInMember()));
-            indicateClubBookChanged();
+            indicateClubBookChanged(new TaskChangedEvent(null, toAdd));
         } catch (DuplicateTaskException dte) {
             throw new DuplicateTaskException();
         }
@@ -418,7 +531,7 @@ public class ModelManager extends ComponentManager implements Model {
                 throw new AssertionError("Already caught before.");
             }
             updateFilteredTaskList(new TaskIsRelatedToMemberPredicate(getLoggedInMember()));
-            indicateClubBookChanged();
+            indicateClubBookChanged(new TaskChangedEvent(null, toAdd));
         } catch (DuplicateTaskException dte) {
             throw new DuplicateTaskException();
         } catch (TaskAlreadyAssignedException e) {
@@ -440,15 +553,7 @@ public class ModelManager extends ComponentManager implements Model {
      */
     private void checkIfMemberExists(MatricNumber matricNumber) throws MemberNotFoundException {
         assert matricNumber != null : "Null value of matricNumber";
-        boolean found = false;
-        for (Member member : clubBook.getMemberList()) {
-            if (member.getMatricNumber().equals(matricNumber)) {
-                found = true;
-            }
-        }
-        if (!found) {
-            throw new MemberNotFoundException();
-        }
+        clubBook.getMemberByMatricNumber(matricNumber);
     }
 
     @Override
@@ -457,7 +562,7 @@ public class ModelManager extends ComponentManager implements Model {
         String currentMember = getLoggedInMember().getMatricNumber().toString();
         checkIfTaskCanBeDeleted(assignor, currentMember);
         clubBook.deleteTask(targetTask);
-        indicateClubBookChanged();
+        indicateClubBookChanged(new TaskChangedEvent(targetTask, null));
     }
 
     /**
@@ -498,34 +603,65 @@ public class ModelManager extends ComponentManager implements Model {
         }
     }
 
+    @Override
+    public List<Task> getMyTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        TaskIsRelatedToMemberPredicate isMyTask = new TaskIsRelatedToMemberPredicate(getLoggedInMember());
+        return clubBook.getTasksDueBetween(from, to).stream().filter(isMyTask).collect(Collectors.toList());
+    }
+
     //@@author amrut-prabhu
     @Override
     public int importMembers(File importFile) throws IOException {
         CsvClubBookStorage csvStorage = new CsvClubBookStorage(importFile);
-        UniqueMemberList importedMembers = csvStorage.readClubBook();
-        int numberMembers = 0;
+        List<Member> importedMembers = new ArrayList<>();
 
-        for (Member member: importedMembers) {
-            try {
-                clubBook.addMember(member);
-                numberMembers++;
-            } catch (DuplicateMatricNumberException dmne) {
-                logger.info("DuplicateMemberException encountered due to " + member);
+        try {
+            csvStorage.readMembers(members -> importedMembers.addAll(addImportedMembers(members)), logger::warning);
+        } finally {
+            // Members imported before an error are kept, like those imported before a duplicate,
+            // unless the import is part of a batch that is rolled back.
+            if (!importedMembers.isEmpty()) {
+                indicateClubBookChanged(new MembersAddedEvent(getStoredMembers(importedMembers)));
             }
         }
-        indicateClubBookChanged();
-        return numberMembers;
+        return importedMembers.size();
+    }
+
+    /**
+     * Adds a batch of imported {@code members} to the club book, skipping duplicate members.
+     *
+     * @return the members that were added.
+     */
+    private List<Member> addImportedMembers(List<Member> members) {
+        Set<Member> duplicateMembers = Collections.newSetFromMap(new IdentityHashMap<>());
+        duplicateMembers.addAll(clubBook.addMembers(members));
+        for (Member member : duplicateMembers) {
+            logger.info("DuplicateMemberException encountered due to " + member);
+        }
+
+        List<Member> addedMembers = new ArrayList<>();
+        for (Member member : members) {
+            if (!duplicateMembers.contains(member)) {
+                addedMembers.add(member);
+            }
+        }
+        return addedMembers;
     }
 
     /**
-     * Raises a {@code NewMemberAvailableEvent} to indicate that {@code data} is to be written to {@code exportFile}.
+     * Raises a {@code NewExportDataAvailableEvent} to indicate that the data of {@code members} in {@code columns}
+     * is to be written to {@code exportFile}.
      *
      * @param exportFile CSV file to be exported to.
-     * @param data Member data to be added to the file.
+     * @param members Members whose data is to be added to the file.
+     * @param columns Columns of member data to be added to the file.
      * @throws IOException if there was an error writing to file.
      */
-    private void indicateNewExport(File exportFile, String data) throws IOException {
-        NewExportDataAvailableEvent newExportDataAvailableEvent = new NewExportDataAvailableEvent(exportFile, data);
+    private void indicateNewExport(File exportFile, List<Member> members, List<CsvColumn> columns)
+            throws IOException {
+        NewExportDataAvailableEvent newExportDataAvailableEvent =
+                new NewExportDataAvailableEvent(exportFile, members, columns);
         raise(newExportDataAvailableEvent);
         if (!newExportDataAvailableEvent.isDataExported()) {
             throw new IOException();
@@ -533,23 +669,13 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public void exportClubConnectMembers(File exportFile) throws IOException {
-        requireNonNull(exportFile);
+    public void exportClubConnectMembers(File exportFile, List<CsvColumn> columns, boolean isFilteredListExported)
+            throws IOException {
+        requireAllNonNull(exportFile, columns);
 
-        List<Member> members = new ArrayList<>(clubBook.getMemberList());
-        StringBuilder csvMemberList = new StringBuilder();
-        members.forEach(member -> csvMemberList.append(getMemberDataToExport(member)));
-        indicateNewExport(exportFile, csvMemberList.toString());
-    }
-
-    /**
-     * Returns the CSV representation of the data of a {@code member} that is to be exported.
-     *
-     * @param member Member whose data is to be exported.
-     * @return Member data in CSV format.
-     */
-    private String getMemberDataToExport(Member member) {
-        return CsvUtil.toCsvFormat(member);
+        // The members are written while the event is handled, so the lists need not be copied.
+        List<Member> members = isFilteredListExported ? getFilteredMemberList() : clubBook.getMemberList();
+        indicateNewExport(exportFile, members, columns);
     }
 
     //@@author th14thmusician
@@ -563,7 +689,7 @@ public class ModelManager extends ComponentManager implements Model {
             throws PasswordIncorrectException, DataToChangeIsNotCurrentlyLoggedInMemberException,
             MatricNumberNotFoundException {
         clubBook.changePassword(username, oldPassword, newPassword);
-        indicateClubBookChanged();
+        indicateClubBookChanged(new MemberUpdatedEvent(getLoggedInMember(), getLoggedInMember()));
     }
     //@@author
 
@@ -582,7 +708,11 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredTagList(Predicate<Tag> predicate) {
         requireNonNull(predicate);
+        if (appliedTagPredicate.isApplied(predicate, clubBook)) {
+            return;
+        }
         filteredTags.setPredicate(predicate);
+        appliedTagPredicate.set(predicate, clubBook);
     }
 
     //@@author
@@ -594,7 +724,7 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Member> getFilteredMemberList() {
-        return FXCollections.unmodifiableObservableList(filteredMembers);
+        return FXCollections.unmodifiableObservableList(sortedMembers);
     }
 
     @Override
@@ -605,21 +735,41 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredMemberList(Predicate<Member> predicate) {
         requireNonNull(predicate);
+        if (appliedMemberPredicate.isApplied(predicate, clubBook)) {
+            return;
+        }
+        appliedMemberPredicate.set(predicate, clubBook);
+        Comparator<Member> order = null;
+        if (predicate instanceof FieldContainsKeywordsPredicate) {
+            predicate = clubBook.withSearchIndex((FieldContainsKeywordsPredicate) predicate);
+        } else if (predicate instanceof MemberQueryPredicate) {
+            predicate = clubBook.withSearchIndex((MemberQueryPredicate) predicate);
+        } else if (predicate instanceof FuzzyKeywordsPredicate) {
+            // The closest members are found once, and shown closest first.
+            Map<MatricNumber, Integer> distances = clubBook.getFuzzyMatches((FuzzyKeywordsPredicate) predicate);
+            predicate = member -> distances.containsKey(member.getMatricNumber());
+            order = Comparator.comparing(member -> distances.get(member.getMatricNumber()));
+        }
         filteredMembers.setPredicate(predicate);
+        sortedMembers.setComparator(order);
     }
 
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
+        if (appliedTaskPredicate.isApplied(predicate, clubBook)) {
+            return;
+        }
         filteredTasks.setPredicate(predicate);
+        appliedTaskPredicate.set(predicate, clubBook);
     }
 
     //@@author th14thmusician
     @Override
     public void signUpMember(Member member) throws MemberListNotEmptyException {
         clubBook.signUpMember(member);
-        filteredMembers.setPredicate(PREDICATE_NOT_SHOW_ALL_MEMBERS);
-        indicateClubBookChanged();
+        updateFilteredMemberList(PREDICATE_NOT_SHOW_ALL_MEMBERS);
+        indicateClubBookChanged(new MembersAddedEvent(Collections.singletonList(member)));
     }
 
     @Override
@@ -648,7 +798,11 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredPollList(Predicate<Poll> predicate) {
         requireNonNull(predicate);
+        if (appliedPollPredicate.isApplied(predicate, clubBook)) {
+            return;
+        }
         filteredPolls.setPredicate(predicate);
+        appliedPollPredicate.set(predicate, clubBook);
     }
 
     @Override
@@ -666,6 +820,41 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return clubBook.equals(other.clubBook)
-                && filteredMembers.equals(other.filteredMembers);
+                && sortedMembers.equals(other.sortedMembers);
+    }
+
+    /**
+     * The predicate last applied to a filtered list, and the version of the section of the club book that the list
+     * shows when the predicate was applied.
+     * A filtered list follows every change to its section, so applying an equal predicate again gives the same list
+     * while the section has the same version, and can be skipped. Once the section is modified, an equal predicate
+     * is applied again as before, as its result may depend on more than the elements added or removed, such as a
+     * member edited in place or the members found by a search.
+     */
+    private static class AppliedPredicate {
+
+        private final ClubBookSection section;
+        private Predicate<?> predicate;
+        private long sectionVersion;
+
+        AppliedPredicate(ClubBookSection section) {
+            this.section = section;
+        }
+
+        /**
+         * Returns true if a predicate equal to {@code predicate} was applied when {@code clubBook} last had the
+         * current version of the section.
+         */
+        boolean isApplied(Predicate<?> predicate, ReadOnlyClubBook clubBook) {
+            return predicate.equals(this.predicate) && clubBook.getSectionVersion(section) == sectionVersion;
+        }
+
+        /**
+         * Records that {@code predicate} is applied to the current version of the section in {@code clubBook}.
+         */
+        void set(Predicate<?> predicate, ReadOnlyClubBook clubBook) {
+            this.predicate = predicate;
+            this.sectionVersion = clubBook.getSectionVersion(section);
+        }
     }
 }
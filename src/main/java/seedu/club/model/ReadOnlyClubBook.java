@@ -38,6 +38,16 @@ public interface ReadOnlyClubBook {
      */
     ObservableList<Task> getTaskList();
 
+    /**
+     * Returns the version of {@code section}, which changes every time the section is modified.
+     * Club books whose section has the same version hold the same data in that section.
+     */
+    long getSectionVersion(ClubBookSection section);
+
+    /**
+     * Returns an unmodifiable copy of this club book, which is not affected by later changes to this club book.
+     */
+    ReadOnlyClubBook getSnapshot();
 
     void setPolls(Set<Poll> polls);
 
@@ -15,6 +15,9 @@ public class UserPrefs {
     private GuiSettings guiSettings;
     private String clubBookFilePath = "data/clubbook.xml";
     private String clubBookName = "TypicalClubBookName";
+    private long clubBookSaveDelay = 500;
+    private String clubBookStorageFormat = "xml";
+    private int undoLimit = 100;
 
     public UserPrefs() {
         //@@author amrut-prabhu
@@ -60,6 +63,39 @@ public class UserPrefs {
         this.clubBookName = clubBookName;
     }
 
+    /**
+     * Returns the time in milliseconds that changes to the club book are collected for before being saved.
+     */
+    public long getClubBookSaveDelay() {
+        return clubBookSaveDelay;
+    }
+
+    public void setClubBookSaveDelay(long clubBookSaveDelay) {
+        this.clubBookSaveDelay = clubBookSaveDelay;
+    }
+
+    /**
+     * Returns the format the club book is stored in, either {@code xml}, {@code binary} or {@code sectioned}.
+     */
+    public String getClubBookStorageFormat() {
+        return clubBookStorageFormat;
+    }
+
+    public void setClubBookStorageFormat(String clubBookStorageFormat) {
+        this.clubBookStorageFormat = clubBookStorageFormat;
+    }
+
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    public int getUndoLimit() {
+        return undoLimit;
+    }
+
+    public void setUndoLimit(int undoLimit) {
+        this.undoLimit = undoLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -73,12 +109,16 @@ public class UserPrefs {
 
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(clubBookFilePath, o.clubBookFilePath)
-                && Objects.equals(clubBookName, o.clubBookName);
+                && Objects.equals(clubBookName, o.clubBookName)
+                && clubBookSaveDelay == o.clubBookSaveDelay
+                && Objects.equals(clubBookStorageFormat, o.clubBookStorageFormat)
+                && undoLimit == o.undoLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, clubBookFilePath, clubBookName);
+        return Objects.hash(guiSettings, clubBookFilePath, clubBookName, clubBookSaveDelay, clubBookStorageFormat,
+                undoLimit);
     }
 
     @Override
@@ -87,6 +127,9 @@ public class UserPrefs {
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + clubBookFilePath);
         sb.append("\nClubBook name : " + clubBookName);
+        sb.append("\nClubBook save delay : " + clubBookSaveDelay + "ms");
+        sb.append("\nClubBook storage format : " + clubBookStorageFormat);
+        sb.append("\nUndo limit : " + undoLimit);
         return sb.toString();
     }
 
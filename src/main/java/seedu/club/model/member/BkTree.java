@@ -0,0 +1,98 @@
+package seedu.club.model.member;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.club.commons.util.StringUtil;
+
+/**
+ * A Burkhard-Keller tree of words, which finds the words within an edit distance of a given word without comparing
+ * it to every word in the tree.
+ *
+ * Each child of a node is kept under its edit distance from the node. By the triangle inequality, the words within
+ * distance {@code d} of a word {@code w} can only be under the children of a node whose keys are within {@code d}
+ * of the distance between {@code w} and the node.
+ */
+class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already in it.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(node.word, word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the words in the tree within {@code maxDistance} of {@code word}, mapped to their distance from it.
+     */
+    Map<String, Integer> search(String word, int maxDistance) {
+        requireNonNull(word);
+        Map<String, Integer> matches = new HashMap<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = StringUtil.getEditDistance(node.word, word);
+            if (distance <= maxDistance) {
+                matches.put(node.word, distance);
+            }
+            for (int key = Math.max(1, distance - maxDistance); key <= distance + maxDistance; key++) {
+                Node child = node.children.get(key);
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * A word in the tree, with its children keyed by their edit distance from it.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
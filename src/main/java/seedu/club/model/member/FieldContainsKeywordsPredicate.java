@@ -1,5 +1,6 @@
 package seedu.club.model.member;
 //@@author MuhdNurKamal
+import static seedu.club.commons.util.AppUtil.checkArgument;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_GROUP;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_MATRIC_NUMBER;
@@ -7,31 +8,77 @@ import static seedu.club.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import seedu.club.commons.util.StringUtil;
 import seedu.club.logic.parser.Prefix;
-import seedu.club.model.tag.Tag;
 
 /**
  * Tests that a {@code member}'s matches any of the keywords given according to the fieldType given by {@code prefix}.
  */
 public class FieldContainsKeywordsPredicate implements Predicate<Member> {
 
+    /** The prefixes of the fields that can be searched. */
+    static final List<Prefix> FIELD_PREFIXES =
+            Arrays.asList(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_MATRIC_NUMBER, PREFIX_GROUP, PREFIX_TAG);
+
     private final List<String> keywords;
+    /** The keywords, trimmed and in lower case, to be compared with the lower-cased field values. */
+    private final List<String> searchKeywords;
     private final Prefix prefix;
 
+    /**
+     * @param keywords the keywords to look for, each a single non-blank word.
+     * @param prefix the prefix of the field to search, or null to search all fields.
+     */
     public FieldContainsKeywordsPredicate(List<String> keywords, Prefix prefix) {
+        for (String keyword : keywords) {
+            checkArgument(!keyword.trim().isEmpty(), "Word parameter cannot be empty");
+            checkArgument(keyword.trim().split("\\s+").length == 1, "Word parameter should be a single word");
+        }
         this.keywords = keywords;
+        this.searchKeywords = keywords.stream().map(keyword -> keyword.trim().toLowerCase())
+                .collect(Collectors.toList());
         this.prefix = prefix;
     }
 
     @Override
     public boolean test(Member member) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.partiallyContainsWordIgnoreCase(getFieldValue(member), keyword));
+        // A keyword is a single word, so it is contained in the joined fields only if it is contained in one of them.
+        List<String> fieldValues = getFieldValues(member, prefix);
+        for (String keyword : searchKeywords) {
+            for (String fieldValue : fieldValues) {
+                if (fieldValue.contains(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a predicate equivalent to this one that only tests the members that {@code index} finds may contain
+     * a keyword. The predicate stays equivalent as the index changes.
+     */
+    Predicate<Member> withIndex(MemberSearchIndex index) {
+        return new IndexedPredicate(this, index);
+    }
+
+    /**
+     * Returns the matriculation numbers of the members that {@code index} finds may contain a keyword.
+     * Every member that matches is included.
+     */
+    Set<MatricNumber> getCandidates(MemberSearchIndex index) {
+        Set<MatricNumber> candidates = new HashSet<>();
+        for (String keyword : keywords) {
+            candidates.addAll(index.getCandidates(keyword, prefix));
+        }
+        return candidates;
     }
 
     @Override
@@ -54,33 +101,66 @@ public class FieldContainsKeywordsPredicate implements Predicate<Member> {
         return this.prefix.equals(((FieldContainsKeywordsPredicate) other).prefix);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, prefix);
+    }
+
+    @Override
+    public String toString() {
+        return (prefix == null ? "" : prefix.toString()) + String.join(" ", keywords);
+    }
+
     /**
-     * Get relevant field value of member according to {@code prefix}
-     *  or all field values if {@code prefix} is null     *
+     * Returns the values of the field of {@code member} given by {@code prefix}, or of all its fields if
+     * {@code prefix} is null, in lower case. A member has a value for each of its tags.
+     * The list must not be modified.
      */
-    private String getFieldValue(Member member) {
-
-        String name = member.getName().toString();
-        String phone = member.getPhone().toString();
-        String email = member.getEmail().toString();
-        String matricNumber = member.getMatricNumber().toString();
-        String group = member.getGroup().toString();
-        String tags = member.getTags().stream().map(Tag::toString).collect(Collectors.joining(" "));
-
-        if (PREFIX_NAME.equals(prefix)) {
-            return name;
-        } else if (PREFIX_PHONE.equals(prefix)) {
-            return phone;
-        } else if (PREFIX_EMAIL.equals(prefix)) {
-            return email;
-        } else if (PREFIX_MATRIC_NUMBER.equals(prefix)) {
-            return matricNumber;
-        } else if (PREFIX_GROUP.equals(prefix)) {
-            return group;
-        } else if (PREFIX_TAG.equals(prefix)) {
-            return tags;
-        } else {
-            return name + " " + phone + " " + email + " " + matricNumber + " " + group + " " + tags;
+    static List<String> getFieldValues(Member member, Prefix prefix) {
+        return member.getSearchableFields().getValues(prefix);
+    }
+
+    /**
+     * A {@code FieldContainsKeywordsPredicate} that uses a {@code MemberSearchIndex} to skip the members that
+     * cannot match. The candidates are found again whenever the index has changed.
+     */
+    private static class IndexedPredicate implements Predicate<Member> {
+
+        private final FieldContainsKeywordsPredicate predicate;
+        private final MemberSearchIndex index;
+        private Set<MatricNumber> candidates;
+        private long indexVersion;
+
+        IndexedPredicate(FieldContainsKeywordsPredicate predicate, MemberSearchIndex index) {
+            this.predicate = predicate;
+            this.index = index;
+        }
+
+        @Override
+        public boolean test(Member member) {
+            if (candidates == null || indexVersion != index.getVersion()) {
+                candidates = predicate.getCandidates(index);
+                indexVersion = index.getVersion();
+            }
+            return candidates.contains(member.getMatricNumber()) && predicate.test(member);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IndexedPredicate // instanceof handles nulls
+                    && predicate.equals(((IndexedPredicate) other).predicate)
+                    && index == ((IndexedPredicate) other).index); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return predicate.toString();
         }
     }
 }
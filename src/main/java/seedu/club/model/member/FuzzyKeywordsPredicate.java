@@ -0,0 +1,73 @@
+package seedu.club.model.member;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.club.commons.util.StringUtil;
+
+/**
+ * Tests that a word in the name, email or tags of a {@code Member} is within a small edit distance of any of the
+ * keywords, ignoring case. The distance allowed grows with the length of the keyword.
+ */
+public class FuzzyKeywordsPredicate implements Predicate<Member> {
+
+    /** The largest number of members, those closest to the keywords, that a fuzzy search shows. */
+    public static final int MAX_RESULTS = 20;
+
+    private final List<String> keywords;
+
+    public FuzzyKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toList());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Member member) {
+        Set<String> words = getWords(member);
+        return keywords.stream().anyMatch(keyword -> words.stream()
+                .anyMatch(word -> StringUtil.getEditDistance(keyword, word) <= getMaxDistance(keyword)));
+    }
+
+    /**
+     * Returns the largest edit distance at which a word matches {@code keyword}.
+     * Short keywords must match exactly, as a single edit already changes much of them.
+     */
+    static int getMaxDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        } else if (keyword.length() <= 4) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    /**
+     * Returns the words in the name, email and tags of {@code member}, in lower case.
+     * The email and tags are split into words at every character that is not a letter or digit.
+     * The set must not be modified.
+     */
+    static Set<String> getWords(Member member) {
+        return member.getSearchableFields().getWords();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyKeywordsPredicate // instanceof handles nulls
+                && this.keywords.equals(((FuzzyKeywordsPredicate) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+}
@@ -30,6 +30,8 @@ public class Member {
     private final UniqueTaskList tasks;
     private final HashMap<String, Tag> tags;
     private ProfilePhoto profilePhoto;
+    /** The searched fields, computed when they are first searched. */
+    private SearchableFields searchableFields;
 
     /**
      * Every field must be present and not null.
@@ -133,6 +135,16 @@ public class Member {
     }
 
     //@@author
+    /**
+     * Returns the values of the fields of this member that are searched by find, in lower case.
+     */
+    SearchableFields getSearchableFields() {
+        if (searchableFields == null) {
+            searchableFields = new SearchableFields(this);
+        }
+        return searchableFields;
+    }
+
     /**
      * Returns an immutable task set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
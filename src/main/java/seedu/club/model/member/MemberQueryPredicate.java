@@ -0,0 +1,219 @@
+package seedu.club.model.member;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Tests that a {@code Member} matches a query built from other predicates with AND, OR and NOT,
+ * such as {@code g/logistics AND t/treasurer AND NOT n/john}.
+ */
+public class MemberQueryPredicate implements Predicate<Member> {
+
+    /**
+     * The ways in which the clauses of a query are combined.
+     */
+    public enum Operator {
+        AND, OR, NOT
+    }
+
+    private final Operator operator;
+    private final List<Predicate<Member>> clauses;
+
+    private MemberQueryPredicate(Operator operator, List<Predicate<Member>> clauses) {
+        requireNonNull(operator);
+        requireNonNull(clauses);
+        this.operator = operator;
+        this.clauses = Collections.unmodifiableList(new ArrayList<>(clauses));
+    }
+
+    /**
+     * Returns a predicate that tests that a member matches all of {@code clauses}.
+     */
+    public static MemberQueryPredicate and(List<Predicate<Member>> clauses) {
+        return new MemberQueryPredicate(Operator.AND, clauses);
+    }
+
+    /**
+     * Returns a predicate that tests that a member matches any of {@code clauses}.
+     */
+    public static MemberQueryPredicate or(List<Predicate<Member>> clauses) {
+        return new MemberQueryPredicate(Operator.OR, clauses);
+    }
+
+    /**
+     * Returns a predicate that tests that a member does not match {@code clause}.
+     */
+    public static MemberQueryPredicate not(Predicate<Member> clause) {
+        return new MemberQueryPredicate(Operator.NOT, Collections.singletonList(clause));
+    }
+
+    @Override
+    public boolean test(Member member) {
+        switch (operator) {
+        case AND:
+            return clauses.stream().allMatch(clause -> clause.test(member));
+        case OR:
+            return clauses.stream().anyMatch(clause -> clause.test(member));
+        case NOT:
+            return !clauses.get(0).test(member);
+        default:
+            throw new AssertionError("Unknown operator: " + operator);
+        }
+    }
+
+    /**
+     * Returns a predicate equivalent to this one that uses {@code index} to skip the members that cannot match.
+     * The predicate stays equivalent as the index changes.
+     */
+    Predicate<Member> withIndex(MemberSearchIndex index) {
+        return new PlannedPredicate(this, index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MemberQueryPredicate // instanceof handles nulls
+                && operator == ((MemberQueryPredicate) other).operator
+                && clauses.equals(((MemberQueryPredicate) other).clauses)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, clauses);
+    }
+
+    @Override
+    public String toString() {
+        if (operator == Operator.NOT) {
+            return operator + " " + clauses.get(0);
+        }
+        return clauses.stream().map(clause -> "(" + clause + ")")
+                .collect(Collectors.joining(" " + operator + " "));
+    }
+
+    /**
+     * The way a query is evaluated against a {@code MemberSearchIndex}: the members that may match it, and the
+     * predicate that the members must then pass.
+     */
+    private static class Plan {
+        /** The matriculation numbers of the members that may match, or null if any member may. */
+        private final Set<MatricNumber> candidates;
+        private final Predicate<Member> residual;
+
+        Plan(Set<MatricNumber> candidates, Predicate<Member> residual) {
+            this.candidates = candidates;
+            this.residual = residual;
+        }
+
+        /**
+         * Returns the number of members that may match, for ordering plans from the most selective.
+         */
+        long getCost() {
+            return candidates == null ? Long.MAX_VALUE : candidates.size();
+        }
+    }
+
+    /**
+     * A {@code MemberQueryPredicate} that is evaluated by a plan made with a {@code MemberSearchIndex}.
+     * The clauses that the index can answer narrow down the members to test, the most selective clause first,
+     * and the other clauses are only tested on the members left. The plan is made again whenever the index has
+     * changed.
+     */
+    private static class PlannedPredicate implements Predicate<Member> {
+
+        private final MemberQueryPredicate query;
+        private final MemberSearchIndex index;
+        private Plan plan;
+        private long indexVersion;
+
+        PlannedPredicate(MemberQueryPredicate query, MemberSearchIndex index) {
+            this.query = query;
+            this.index = index;
+        }
+
+        @Override
+        public boolean test(Member member) {
+            if (plan == null || indexVersion != index.getVersion()) {
+                plan = makePlan(query);
+                indexVersion = index.getVersion();
+            }
+            return (plan.candidates == null || plan.candidates.contains(member.getMatricNumber()))
+                    && plan.residual.test(member);
+        }
+
+        /**
+         * Returns the plan for {@code clause}.
+         */
+        private Plan makePlan(Predicate<Member> clause) {
+            if (clause instanceof FieldContainsKeywordsPredicate) {
+                return new Plan(((FieldContainsKeywordsPredicate) clause).getCandidates(index), clause);
+            }
+            if (!(clause instanceof MemberQueryPredicate)) {
+                return new Plan(null, clause);
+            }
+
+            MemberQueryPredicate subquery = (MemberQueryPredicate) clause;
+            List<Plan> plans = subquery.clauses.stream().map(this::makePlan).collect(Collectors.toList());
+            switch (subquery.operator) {
+            case AND:
+                return makeAndPlan(plans);
+            case OR:
+                return makeOrPlan(plans);
+            case NOT:
+                // The members that do not match cannot be found from the index.
+                return new Plan(null, plans.get(0).residual.negate());
+            default:
+                throw new AssertionError("Unknown operator: " + subquery.operator);
+            }
+        }
+
+        /**
+         * Returns the plan for the conjunction of the clauses planned by {@code plans}.
+         */
+        private static Plan makeAndPlan(List<Plan> plans) {
+            List<Plan> orderedPlans = new ArrayList<>(plans);
+            orderedPlans.sort(Comparator.comparingLong(Plan::getCost));
+
+            Set<MatricNumber> candidates = null;
+            for (Plan plan : orderedPlans) {
+                if (plan.candidates == null || (candidates != null && candidates.isEmpty())) {
+                    break;
+                }
+                if (candidates == null) {
+                    candidates = new HashSet<>(plan.candidates);
+                } else {
+                    candidates.retainAll(plan.candidates);
+                }
+            }
+            Predicate<Member> residual = orderedPlans.stream().map(plan -> plan.residual)
+                    .reduce(member -> true, Predicate::and);
+            return new Plan(candidates, residual);
+        }
+
+        /**
+         * Returns the plan for the disjunction of the clauses planned by {@code plans}.
+         */
+        private static Plan makeOrPlan(List<Plan> plans) {
+            Set<MatricNumber> candidates = new HashSet<>();
+            for (Plan plan : plans) {
+                if (plan.candidates == null) {
+                    candidates = null;
+                    break;
+                }
+                candidates.addAll(plan.candidates);
+            }
+            Predicate<Member> residual = plans.stream().map(plan -> plan.residual)
+                    .reduce(member -> false, Predicate::or);
+            return new Plan(candidates, residual);
+        }
+    }
+}
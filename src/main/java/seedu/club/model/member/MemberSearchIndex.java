@@ -0,0 +1,222 @@
+package seedu.club.model.member;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.club.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.club.logic.parser.Prefix;
+
+/**
+ * Indexes the members of a {@code UniqueMemberList} by the n-grams of the fields that
+ * {@code FieldContainsKeywordsPredicate} searches, for n of up to {@code MAX_GRAM_LENGTH}.
+ *
+ * A field that contains a keyword contains every n-gram of the keyword, so the members that may match a keyword
+ * are found by intersecting the members indexed under each of its n-grams.
+ * Fields are indexed ignoring case, as they are searched.
+ *
+ * The words of the fields that {@code FuzzyKeywordsPredicate} searches are also kept in a {@code BkTree}, to find
+ * the words within an edit distance of a keyword.
+ */
+class MemberSearchIndex {
+
+    static final int MAX_GRAM_LENGTH = 3;
+
+    /** Words are not removed from a {@code BkTree}, so it is rebuilt once it has this many unused words. */
+    private static final int MAX_UNUSED_WORDS = 1000;
+
+    /** Maps the prefix of each field to the members indexed under each n-gram of the field. */
+    private final Map<Prefix, Map<String, Set<MatricNumber>>> fieldIndexes = new HashMap<>();
+    private final Map<MatricNumber, Member> indexedMembers = new HashMap<>();
+    /** Maps each word given by {@link FuzzyKeywordsPredicate#getWords(Member)} to the members that have it. */
+    private final Map<String, Set<MatricNumber>> membersByWord = new HashMap<>();
+    /** Holds every word in {@code membersByWord}, and possibly words that are no longer in it. */
+    private BkTree vocabulary = new BkTree();
+    private long version;
+
+    MemberSearchIndex() {
+        for (Prefix prefix : FieldContainsKeywordsPredicate.FIELD_PREFIXES) {
+            fieldIndexes.put(prefix, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code member} to the index, replacing any member with the same matriculation number.
+     */
+    void add(Member member) {
+        requireNonNull(member);
+        remove(member.getMatricNumber());
+        for (Prefix prefix : FieldContainsKeywordsPredicate.FIELD_PREFIXES) {
+            Map<String, Set<MatricNumber>> fieldIndex = fieldIndexes.get(prefix);
+            for (String gram : getGrams(FieldContainsKeywordsPredicate.getFieldValues(member, prefix))) {
+                fieldIndex.computeIfAbsent(gram, unused -> new HashSet<>()).add(member.getMatricNumber());
+            }
+        }
+        for (String word : FuzzyKeywordsPredicate.getWords(member)) {
+            if (!membersByWord.containsKey(word)) {
+                membersByWord.put(word, new HashSet<>());
+                vocabulary.add(word);
+            }
+            membersByWord.get(word).add(member.getMatricNumber());
+        }
+        indexedMembers.put(member.getMatricNumber(), member);
+        version++;
+    }
+
+    /**
+     * Removes the member with {@code matricNumber} from the index, if there is one.
+     */
+    void remove(MatricNumber matricNumber) {
+        requireNonNull(matricNumber);
+        Member member = indexedMembers.remove(matricNumber);
+        if (member == null) {
+            return;
+        }
+        for (Prefix prefix : FieldContainsKeywordsPredicate.FIELD_PREFIXES) {
+            Map<String, Set<MatricNumber>> fieldIndex = fieldIndexes.get(prefix);
+            for (String gram : getGrams(FieldContainsKeywordsPredicate.getFieldValues(member, prefix))) {
+                Set<MatricNumber> matricNumbers = fieldIndex.get(gram);
+                matricNumbers.remove(matricNumber);
+                if (matricNumbers.isEmpty()) {
+                    fieldIndex.remove(gram);
+                }
+            }
+        }
+        for (String word : FuzzyKeywordsPredicate.getWords(member)) {
+            Set<MatricNumber> matricNumbers = membersByWord.get(word);
+            matricNumbers.remove(matricNumber);
+            if (matricNumbers.isEmpty()) {
+                membersByWord.remove(word);
+            }
+        }
+        if (vocabulary.size() - membersByWord.size() > MAX_UNUSED_WORDS) {
+            vocabulary = new BkTree();
+            membersByWord.keySet().forEach(vocabulary::add);
+        }
+        version++;
+    }
+
+    /**
+     * Removes all members from the index.
+     */
+    void clear() {
+        fieldIndexes.values().forEach(Map::clear);
+        indexedMembers.clear();
+        membersByWord.clear();
+        vocabulary = new BkTree();
+        version++;
+    }
+
+    /**
+     * Returns a number that changes whenever the index changes.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the matriculation numbers of the members whose field given by {@code prefix}, or any of whose fields
+     * if {@code prefix} is null, may contain {@code keyword} ignoring case.
+     * Every member whose field does contain {@code keyword} is included.
+     * @throws IllegalArgumentException if {@code keyword} is blank.
+     */
+    Set<MatricNumber> getCandidates(String keyword, Prefix prefix) {
+        requireNonNull(keyword);
+        checkArgument(!keyword.trim().isEmpty(), "Keyword cannot be empty");
+        Set<String> keywordGrams = getKeywordGrams(keyword.trim().toLowerCase());
+        if (prefix != null) {
+            return getCandidates(keywordGrams, fieldIndexes.get(prefix));
+        }
+
+        Set<MatricNumber> candidates = new HashSet<>();
+        for (Map<String, Set<MatricNumber>> fieldIndex : fieldIndexes.values()) {
+            candidates.addAll(getCandidates(keywordGrams, fieldIndex));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the members indexed under every one of {@code keywordGrams} in {@code fieldIndex}.
+     */
+    private static Set<MatricNumber> getCandidates(Set<String> keywordGrams,
+            Map<String, Set<MatricNumber>> fieldIndex) {
+        List<Set<MatricNumber>> postings = keywordGrams.stream()
+                .map(gram -> fieldIndex.getOrDefault(gram, Collections.emptySet()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+
+        // Starting from the smallest posting keeps the intersection small.
+        Set<MatricNumber> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the matriculation numbers of the members with a word that is within the edit distance allowed by
+     * {@link FuzzyKeywordsPredicate#getMaxDistance(String)} of any of {@code keywords}, in lower case.
+     * Each is mapped to the smallest distance of its words from a keyword. Only the {@code limit} members with the
+     * smallest distances are returned, in order of distance and then of matriculation number.
+     */
+    Map<MatricNumber, Integer> getFuzzyMatches(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        Map<MatricNumber, Integer> distances = new HashMap<>();
+        for (String keyword : keywords) {
+            int maxDistance = FuzzyKeywordsPredicate.getMaxDistance(keyword);
+            vocabulary.search(keyword, maxDistance).forEach((word, distance) -> {
+                for (MatricNumber matricNumber : membersByWord.getOrDefault(word, Collections.emptySet())) {
+                    distances.merge(matricNumber, distance, Math::min);
+                }
+            });
+        }
+
+        Map<MatricNumber, Integer> closestMatches = new LinkedHashMap<>();
+        distances.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<MatricNumber, Integer> entry) -> entry.getValue())
+                        .thenComparing(entry -> entry.getKey().toString()))
+                .limit(limit)
+                .forEach(entry -> closestMatches.put(entry.getKey(), entry.getValue()));
+        return closestMatches;
+    }
+
+    /**
+     * Returns the n-grams under which a field containing {@code keyword} is indexed.
+     * A keyword of up to {@code MAX_GRAM_LENGTH} characters is an n-gram itself.
+     */
+    private static Set<String> getKeywordGrams(String keyword) {
+        Set<String> grams = new HashSet<>();
+        if (keyword.length() <= MAX_GRAM_LENGTH) {
+            grams.add(keyword);
+            return grams;
+        }
+        for (int i = 0; i + MAX_GRAM_LENGTH <= keyword.length(); i++) {
+            grams.add(keyword.substring(i, i + MAX_GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns every n-gram of {@code values}, which are in lower case, for n of 1 to {@code MAX_GRAM_LENGTH}.
+     */
+    private static Set<String> getGrams(List<String> values) {
+        Set<String> grams = new HashSet<>();
+        for (String value : values) {
+            for (int start = 0; start < value.length(); start++) {
+                int maxEnd = Math.min(start + MAX_GRAM_LENGTH, value.length());
+                for (int end = start + 1; end <= maxEnd; end++) {
+                    grams.add(value.substring(start, end));
+                }
+            }
+        }
+        return grams;
+    }
+}
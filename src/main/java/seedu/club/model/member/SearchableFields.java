@@ -0,0 +1,87 @@
+package seedu.club.model.member;
+
+import static seedu.club.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_MATRIC_NUMBER;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.club.logic.parser.Prefix;
+import seedu.club.model.tag.Tag;
+
+/**
+ * The values of the fields of a {@code Member} that are searched by find, in lower case.
+ * The values are computed once per member, as the searched fields of a member do not change.
+ */
+class SearchableFields {
+
+    private static final String WORD_SEPARATOR_REGEX = "[^\\p{Alnum}]+";
+
+    /** Maps the prefix of each field to its values. A member has a value for each of its tags. */
+    private final Map<Prefix, List<String>> valuesByPrefix = new HashMap<>();
+    private final List<String> allValues = new ArrayList<>();
+    private final Set<String> words = new HashSet<>();
+
+    SearchableFields(Member member) {
+        addValue(PREFIX_NAME, member.getName().toString());
+        addValue(PREFIX_PHONE, member.getPhone().toString());
+        addValue(PREFIX_EMAIL, member.getEmail().toString());
+        addValue(PREFIX_MATRIC_NUMBER, member.getMatricNumber().toString());
+        addValue(PREFIX_GROUP, member.getGroup().toString());
+        valuesByPrefix.put(PREFIX_TAG, new ArrayList<>());
+        for (Tag tag : member.getTags()) {
+            addValue(PREFIX_TAG, tag.toString());
+            addWords(tag.tagName);
+        }
+        addWords(member.getName().toString());
+        addWords(member.getEmail().toString());
+    }
+
+    /**
+     * Adds {@code value}, in lower case, to the values of the field given by {@code prefix}.
+     */
+    private void addValue(Prefix prefix, String value) {
+        String lowerCaseValue = value.toLowerCase();
+        valuesByPrefix.computeIfAbsent(prefix, unused -> new ArrayList<>()).add(lowerCaseValue);
+        allValues.add(lowerCaseValue);
+    }
+
+    /**
+     * Adds the words of {@code text} to {@code words}, in lower case.
+     * The text is split into words at every character that is not a letter or digit.
+     */
+    private void addWords(String text) {
+        for (String word : text.toLowerCase().split(WORD_SEPARATOR_REGEX)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the values of the field given by {@code prefix}, or of all fields if {@code prefix} is null.
+     * The list is shared, so it must not be modified.
+     */
+    List<String> getValues(Prefix prefix) {
+        if (prefix == null) {
+            return allValues;
+        }
+        return valuesByPrefix.getOrDefault(prefix, Collections.emptyList());
+    }
+
+    /**
+     * Returns the words in the name, email and tag names. The set is shared, so it must not be modified.
+     */
+    Set<String> getWords() {
+        return words;
+    }
+}
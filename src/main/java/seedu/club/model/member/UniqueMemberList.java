@@ -3,11 +3,14 @@ package seedu.club.model.member;
 import static java.util.Objects.requireNonNull;
 import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -30,7 +33,16 @@ import seedu.club.model.member.exceptions.PasswordIncorrectException;
  */
 public class UniqueMemberList implements Iterable<Member> {
 
+    /** Orders members alphabetically by name. */
+    private static final Comparator<Member> MEMBER_ORDER = Comparator.comparing(member -> member.getName().toString());
+
+    /** The members in the list, kept sorted by {@code MEMBER_ORDER}. */
     private final ObservableList<Member> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Member> unmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    /** Indexes the members in {@code internalList} by their matriculation numbers. */
+    private final HashMap<MatricNumber, Member> matricNumberMemberHashMap = new HashMap<>();
+    /** Indexes the members in {@code internalList} for {@code find}. */
+    private final MemberSearchIndex searchIndex = new MemberSearchIndex();
     private HashMap<String, Member> usernameCredentialsHashMap = new HashMap<>();
     private HashMap<String, String> usernamePasswordHashMap = new HashMap<>();
     private Member currentlyLogInMember = null;
@@ -51,12 +63,21 @@ public class UniqueMemberList implements Iterable<Member> {
      */
     private boolean containsMatricNumber(MatricNumber toCheck) {
         requireNonNull(toCheck);
-        for (Member member: internalList) {
-            if (member.getMatricNumber().equals(toCheck)) {
-                return true;
-            }
+        return matricNumberMemberHashMap.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the member with the given {@code matricNumber}.
+     *
+     * @throws MemberNotFoundException if no member in the list has {@code matricNumber}.
+     */
+    public Member getMemberByMatricNumber(MatricNumber matricNumber) throws MemberNotFoundException {
+        requireNonNull(matricNumber);
+        Member member = matricNumberMemberHashMap.get(matricNumber);
+        if (member == null) {
+            throw new MemberNotFoundException();
         }
-        return false;
+        return member;
     }
 
     /**
@@ -70,7 +91,10 @@ public class UniqueMemberList implements Iterable<Member> {
             throw new DuplicateMatricNumberException();
         }
         // @@author
-        internalList.add(toAdd);
+        // The index is updated first, as filtered views of the list test the member when it is added.
+        searchIndex.add(toAdd);
+        CollectionUtil.addSorted(internalList, toAdd, MEMBER_ORDER);
+        matricNumberMemberHashMap.put(toAdd.getMatricNumber(), toAdd);
         usernameCredentialsHashMap.put(toAdd.getCredentials().getUsername().value, toAdd);
         usernamePasswordHashMap.put(toAdd.getCredentials().getUsername().value,
                 toAdd.getCredentials().getPassword().value);
@@ -99,7 +123,16 @@ public class UniqueMemberList implements Iterable<Member> {
         }
         // @@author
 
-        internalList.set(index, editedMember);
+        searchIndex.remove(target.getMatricNumber());
+        searchIndex.add(editedMember);
+        if (MEMBER_ORDER.compare(internalList.get(index), editedMember) == 0) {
+            internalList.set(index, editedMember);
+        } else {
+            internalList.remove(index);
+            CollectionUtil.addSorted(internalList, editedMember, MEMBER_ORDER);
+        }
+        matricNumberMemberHashMap.remove(target.getMatricNumber());
+        matricNumberMemberHashMap.put(editedMember.getMatricNumber(), editedMember);
         usernamePasswordHashMap.remove(target.getCredentials().getUsername().value);
         usernamePasswordHashMap.put(editedMember.getCredentials().getUsername().value,
                 editedMember.getCredentials().getPassword().value);
@@ -119,13 +152,67 @@ public class UniqueMemberList implements Iterable<Member> {
         if (!memberFoundAndDeleted) {
             throw new MemberNotFoundException();
         }
+        matricNumberMemberHashMap.remove(toRemove.getMatricNumber());
+        searchIndex.remove(toRemove.getMatricNumber());
         usernameCredentialsHashMap.remove(toRemove.getCredentials().getUsername().toString());
         usernamePasswordHashMap.remove(toRemove.getCredentials().getUsername().toString());
         return memberFoundAndDeleted;
     }
 
+    /**
+     * Replaces each member in the list whose matriculation number is a key of {@code replacements} with the member
+     * it is mapped to, in a single pass over the list.
+     * Every replacement must have the same matriculation number as the member it replaces.
+     */
+    public void replaceMembers(Map<MatricNumber, Member> replacements) {
+        requireNonNull(replacements);
+        List<Member> updatedList = new ArrayList<>(internalList.size());
+        for (Member member : internalList) {
+            Member replacement = replacements.getOrDefault(member.getMatricNumber(), member);
+            assert replacement.getMatricNumber().equals(member.getMatricNumber());
+            updatedList.add(replacement);
+            if (replacement != member) {
+                matricNumberMemberHashMap.put(replacement.getMatricNumber(), replacement);
+                searchIndex.add(replacement);
+                usernameCredentialsHashMap.put(replacement.getCredentials().getUsername().value, replacement);
+                usernamePasswordHashMap.put(replacement.getCredentials().getUsername().value,
+                        replacement.getCredentials().getPassword().value);
+            }
+        }
+        updatedList.sort(MEMBER_ORDER);
+        internalList.setAll(updatedList);
+    }
+
+    /**
+     * Replaces the members at positions {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement},
+     * keeping the indexes of the list up to date.
+     * Used to revert recorded changes, so the caller must ensure that the list stays sorted and free of duplicates.
+     */
+    public void replaceRange(int from, int to, List<Member> replacement) {
+        requireAllNonNull(replacement);
+        for (Member member : internalList.subList(from, to)) {
+            matricNumberMemberHashMap.remove(member.getMatricNumber());
+            searchIndex.remove(member.getMatricNumber());
+            usernameCredentialsHashMap.remove(member.getCredentials().getUsername().value);
+            usernamePasswordHashMap.remove(member.getCredentials().getUsername().value);
+        }
+        // The indexes are updated first, as filtered views of the list test the members when they are added.
+        for (Member member : replacement) {
+            searchIndex.add(member);
+            matricNumberMemberHashMap.put(member.getMatricNumber(), member);
+            usernameCredentialsHashMap.put(member.getCredentials().getUsername().value, member);
+            usernamePasswordHashMap.put(member.getCredentials().getUsername().value,
+                    member.getCredentials().getPassword().value);
+        }
+        CollectionUtil.replaceRange(internalList, from, to, replacement);
+    }
+
     public void setMembers(UniqueMemberList replacement) {
+        this.searchIndex.clear();
+        replacement.internalList.forEach(this.searchIndex::add);
         this.internalList.setAll(replacement.internalList);
+        this.matricNumberMemberHashMap.clear();
+        this.matricNumberMemberHashMap.putAll(replacement.matricNumberMemberHashMap);
     }
 
     public void setMembers(List<Member> members) throws DuplicateMatricNumberException {
@@ -137,12 +224,39 @@ public class UniqueMemberList implements Iterable<Member> {
         setMembers(replacement);
     }
 
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the search index of this list to skip the
+     * members that cannot match. The predicate stays equivalent as the list changes.
+     */
+    public Predicate<Member> withSearchIndex(FieldContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.withIndex(searchIndex);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code query} that is evaluated by a plan made with the search index of
+     * this list. The predicate stays equivalent as the list changes.
+     */
+    public Predicate<Member> withSearchIndex(MemberQueryPredicate query) {
+        requireNonNull(query);
+        return query.withIndex(searchIndex);
+    }
+
+    /**
+     * Returns the matriculation numbers of the members closest to the keywords of {@code predicate}, in order of
+     * their edit distance from the keywords, which they are mapped to.
+     * At most {@code FuzzyKeywordsPredicate#MAX_RESULTS} members are returned.
+     */
+    public Map<MatricNumber, Integer> getFuzzyMatches(FuzzyKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.getFuzzyMatches(predicate.getKeywords(), FuzzyKeywordsPredicate.MAX_RESULTS);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Member> asObservableList() {
-        sort();
-        return FXCollections.unmodifiableObservableList(internalList);
+        return unmodifiableList;
     }
 
     @Override
@@ -193,18 +307,6 @@ public class UniqueMemberList implements Iterable<Member> {
         }
     }
 
-    /**
-     Sort the list according to alphabetical order
-     */
-    public void sort() {
-        internalList.sort(new Comparator<Member>() {
-            @Override
-            public int compare(Member otherMember1, Member otherMember2) {
-                return otherMember1.getName().toString().compareTo(otherMember2.getName().toString());
-            }
-        });
-    }
-
     /**
      * Logs out the user
      */
@@ -230,13 +332,26 @@ public class UniqueMemberList implements Iterable<Member> {
             throw new DataToChangeIsNotCurrentlyLoggedInMemberException();
         }
         if (usernamePasswordHashMap.get(username).equals(oldPassword)) {
-            internalList.get(internalList.indexOf(checkMember)).getCredentials().setPassword(new Password(newPassword));
+            Member member = internalList.get(internalList.indexOf(checkMember));
+            member.getCredentials().setPassword(new Password(newPassword));
+            refresh(member);
             usernamePasswordHashMap.remove(username);
             usernamePasswordHashMap.put(username, newPassword);
         } else {
             throw new PasswordIncorrectException();
         }
     }
+
+    /**
+     * Replaces {@code member} with itself, so that listeners of the list are told that it was changed in place.
+     */
+    public void refresh(Member member) {
+        int index = internalList.indexOf(member);
+        if (index >= 0) {
+            internalList.set(index, member);
+        }
+    }
+
     /**
      * Sign up a user when the clubbook is empty
      */
@@ -244,7 +359,9 @@ public class UniqueMemberList implements Iterable<Member> {
         if (!internalList.isEmpty()) {
             throw new MemberListNotEmptyException();
         }
+        searchIndex.add(member);
         internalList.add(member);
+        matricNumberMemberHashMap.put(member.getMatricNumber(), member);
         usernameCredentialsHashMap.put(member.getCredentials().getUsername().value, member);
         usernamePasswordHashMap.put(member.getCredentials().getUsername().value,
                 member.getCredentials().getPassword().value);
@@ -254,7 +371,9 @@ public class UniqueMemberList implements Iterable<Member> {
      * Clears the clubbook
      */
     public void clear() {
+        searchIndex.clear();
         internalList.clear();
+        matricNumberMemberHashMap.clear();
         usernamePasswordHashMap.clear();
         usernameCredentialsHashMap.clear();
         setCurrentlyLogInMember(null);
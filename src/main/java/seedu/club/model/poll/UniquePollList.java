@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -26,6 +27,7 @@ import seedu.club.model.poll.exceptions.UserAlreadyVotedException;
 public class UniquePollList implements Iterable<Poll> {
 
     private final ObservableList<Poll> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Poll> unmodifiableList = FXCollections.unmodifiableObservableList(internalList);
 
     /**
      * Constructs empty PollList.
@@ -119,6 +121,16 @@ public class UniquePollList implements Iterable<Poll> {
         return pollFoundAndDeleted;
     }
 
+    /**
+     * Replaces the polls at positions {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * Used to revert recorded changes, so the caller must ensure that the list stays free of duplicates.
+     */
+    public void replaceRange(int from, int to, List<Poll> replacement) {
+        requireAllNonNull(replacement);
+        CollectionUtil.replaceRange(internalList, from, to, replacement);
+        assert CollectionUtil.elementsAreUnique(internalList);
+    }
+
     @Override
     public Iterator<Poll> iterator() {
         assert CollectionUtil.elementsAreUnique(internalList);
@@ -130,7 +142,7 @@ public class UniquePollList implements Iterable<Poll> {
      */
     public ObservableList<Poll> asObservableList() {
         assert CollectionUtil.elementsAreUnique(internalList);
-        return FXCollections.unmodifiableObservableList(internalList);
+        return unmodifiableList;
     }
 
     @Override
@@ -5,12 +5,14 @@ import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.club.commons.exceptions.DuplicateDataException;
 import seedu.club.commons.util.CollectionUtil;
+import seedu.club.model.tag.exceptions.TagNotFoundException;
 
 /**
  * A list of tags that enforces no nulls and uniqueness between its elements.
@@ -22,6 +24,7 @@ import seedu.club.commons.util.CollectionUtil;
 public class UniqueTagList implements Iterable<Tag> {
 
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Tag> unmodifiableList = FXCollections.unmodifiableObservableList(internalList);
 
     /**
      * Constructs empty TagList.
@@ -92,6 +95,28 @@ public class UniqueTagList implements Iterable<Tag> {
         assert CollectionUtil.elementsAreUnique(internalList);
     }
 
+    /**
+     * Removes the equivalent tag from the list.
+     *
+     * @throws TagNotFoundException if no such tag could be found in the list.
+     */
+    public void remove(Tag toRemove) throws TagNotFoundException {
+        requireNonNull(toRemove);
+        if (!internalList.remove(toRemove)) {
+            throw new TagNotFoundException();
+        }
+    }
+
+    /**
+     * Replaces the tags at positions {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * Used to revert recorded changes, so the caller must ensure that the list stays free of duplicates.
+     */
+    public void replaceRange(int from, int to, List<Tag> replacement) {
+        requireAllNonNull(replacement);
+        CollectionUtil.replaceRange(internalList, from, to, replacement);
+        assert CollectionUtil.elementsAreUnique(internalList);
+    }
+
     @Override
     public Iterator<Tag> iterator() {
         assert CollectionUtil.elementsAreUnique(internalList);
@@ -103,7 +128,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public ObservableList<Tag> asObservableList() {
         assert CollectionUtil.elementsAreUnique(internalList);
-        return FXCollections.unmodifiableObservableList(internalList);
+        return unmodifiableList;
     }
 
     @Override
@@ -25,11 +25,24 @@ public class Date {
             + "(0[1-9]|1[0-2]|[1-9])[///./-](19|20)[0-9][0-9]";
 
     public final String date;
+    private final String standardizedDate;
+    private final LocalDate localDate;
 
     public Date(String date) {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_DATE_CONSTRAINTS);
         this.date = date;
+        this.standardizedDate = standardizeDate(date);
+        this.localDate = parseDate(date);
+    }
+
+    /**
+     * Returns the {@code LocalDate} represented by {@code date}, which must be a valid date.
+     */
+    private static LocalDate parseDate(String date) {
+        String[] dateFields = date.split(DATE_SPLITTER);
+        return LocalDate.of(Integer.parseInt(dateFields[2]), Integer.parseInt(dateFields[1]),
+                Integer.parseInt(dateFields[0]));
     }
 
     /**
@@ -81,7 +94,11 @@ public class Date {
     }
 
     public String getDate() {
-        return standardizeDate(date);
+        return standardizedDate;
+    }
+
+    public LocalDate toLocalDate() {
+        return localDate;
     }
 
     @Override
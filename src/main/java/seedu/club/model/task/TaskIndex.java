@@ -0,0 +1,140 @@
+package seedu.club.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Indexes the tasks of a {@code UniqueTaskList} by assignee, by assignor, by their details other than the status,
+ * and by their due date and time.
+ *
+ * Matriculation numbers and details are compared ignoring case, as in {@link Task#equals(Object)}.
+ * Tasks are held by identity, or in {@link UniqueTaskList#TASK_ORDER} among the tasks due at the same time, so a
+ * task must not be modified while it is in the index.
+ */
+class TaskIndex {
+
+    private static final String KEY_SEPARATOR = "\n";
+
+    private final Map<String, Set<Task>> tasksByAssignee = new HashMap<>();
+    private final Map<String, Set<Task>> tasksByAssignor = new HashMap<>();
+    /** Maps the details of each task other than its status, as given by {@link #getDetailsKey(Task)}. */
+    private final Map<String, Set<Task>> tasksByDetails = new HashMap<>();
+    /** Maps each due date and time to the tasks due then, kept sorted by {@link UniqueTaskList#TASK_ORDER}. */
+    private final NavigableMap<LocalDateTime, Set<Task>> tasksByDueDateTime = new TreeMap<>();
+
+    /**
+     * Adds {@code task} to the index.
+     */
+    void add(Task task) {
+        requireNonNull(task);
+        addToIndex(tasksByAssignee, task.getAssignee().getValue().toLowerCase(), task);
+        addToIndex(tasksByAssignor, task.getAssignor().getValue().toLowerCase(), task);
+        addToIndex(tasksByDetails, getDetailsKey(task), task);
+        tasksByDueDateTime.computeIfAbsent(getDueDateTime(task), unused -> new TreeSet<>(UniqueTaskList.TASK_ORDER))
+                .add(task);
+    }
+
+    /**
+     * Removes {@code task}, which must be the same object that was added, from the index.
+     */
+    void remove(Task task) {
+        requireNonNull(task);
+        removeFromIndex(tasksByAssignee, task.getAssignee().getValue().toLowerCase(), task);
+        removeFromIndex(tasksByAssignor, task.getAssignor().getValue().toLowerCase(), task);
+        removeFromIndex(tasksByDetails, getDetailsKey(task), task);
+        removeFromIndex(tasksByDueDateTime, getDueDateTime(task), task);
+    }
+
+    /**
+     * Removes all tasks from the index.
+     */
+    void clear() {
+        tasksByAssignee.clear();
+        tasksByAssignor.clear();
+        tasksByDetails.clear();
+        tasksByDueDateTime.clear();
+    }
+
+    /**
+     * Returns the tasks assigned to the member with {@code matricNumber}.
+     */
+    Set<Task> getTasksByAssignee(String matricNumber) {
+        return tasksByAssignee.getOrDefault(matricNumber.toLowerCase(), Collections.emptySet());
+    }
+
+    /**
+     * Returns the tasks assigned by the member with {@code matricNumber}.
+     */
+    Set<Task> getTasksByAssignor(String matricNumber) {
+        return tasksByAssignor.getOrDefault(matricNumber.toLowerCase(), Collections.emptySet());
+    }
+
+    /**
+     * Returns the tasks with the same description, due date and time, assignor and assignee as {@code task}.
+     */
+    Set<Task> getTasksWithSameDetails(Task task) {
+        return tasksByDetails.getOrDefault(getDetailsKey(task), Collections.emptySet());
+    }
+
+    /**
+     * Returns the tasks due between {@code from} and {@code to}, both inclusive, in order of their due date and time,
+     * and then in {@link UniqueTaskList#TASK_ORDER}.
+     */
+    List<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+        List<Task> tasksDue = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return tasksDue;
+        }
+        tasksByDueDateTime.subMap(from, true, to, true).values().forEach(tasksDue::addAll);
+        return tasksDue;
+    }
+
+    /**
+     * Returns the key of {@code task} in {@code tasksByDetails}.
+     */
+    private static String getDetailsKey(Task task) {
+        return String.join(KEY_SEPARATOR, task.getDescription().getDescription(), task.getDate().getDate(),
+                task.getTime().getTime(), task.getAssignor().getValue(), task.getAssignee().getValue()).toLowerCase();
+    }
+
+    /**
+     * Returns the date and time at which {@code task} is due.
+     */
+    private static LocalDateTime getDueDateTime(Task task) {
+        return LocalDateTime.of(task.getDate().toLocalDate(), task.getTime().toLocalTime());
+    }
+
+    /**
+     * Adds {@code task} to the tasks under {@code key} in {@code index}.
+     */
+    private static <K> void addToIndex(Map<K, Set<Task>> index, K key, Task task) {
+        index.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(task);
+    }
+
+    /**
+     * Removes {@code task} from the tasks under {@code key} in {@code index}, and removes {@code key} if no tasks
+     * are left under it.
+     */
+    private static <K> void removeFromIndex(Map<K, Set<Task>> index, K key, Task task) {
+        Collection<Task> tasks = index.get(key);
+        if (tasks == null) {
+            return;
+        }
+        tasks.remove(task);
+        if (tasks.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
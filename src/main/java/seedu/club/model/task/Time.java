@@ -5,6 +5,8 @@ package seedu.club.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.club.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalTime;
+
 /**
  * Refers to the time (deadline) the Task should be completed by.
  */
@@ -21,11 +23,16 @@ public class Time {
     public static final String TIME_SPLITTER = ":";
 
     public final String time;
+    private final String standardizedTime;
+    private final LocalTime localTime;
 
     public Time(String time) {
         requireNonNull(time);
         checkArgument(isValidTime(time), MESSAGE_TIME_CONSTRAINTS);
         this.time = time;
+        this.standardizedTime = standardizeTime(time);
+        String[] timeFields = time.split(TIME_SPLITTER);
+        this.localTime = LocalTime.of(Integer.parseInt(timeFields[0]), Integer.parseInt(timeFields[1]));
     }
 
     /**
@@ -62,7 +69,11 @@ public class Time {
     }
 
     public String getTime() {
-        return standardizeTime(time);
+        return standardizedTime;
+    }
+
+    public LocalTime toLocalTime() {
+        return localTime;
     }
 
     @Override
@@ -5,9 +5,14 @@ package seedu.club.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -21,7 +26,25 @@ import seedu.club.model.task.exceptions.TaskNotFoundException;
  */
 public class UniqueTaskList implements Iterable<Task> {
 
+    /**
+     * Orders tasks chronologically by their due date and time, and then by their description.
+     * The remaining fields compared by {@link Task#equals(Object)} break ties, so that different tasks are never
+     * ordered by the order in which they were added.
+     */
+    static final Comparator<Task> TASK_ORDER = Comparator
+            .comparing((Task task) -> task.getDate().toLocalDate())
+            .thenComparing(task -> task.getTime().toLocalTime())
+            .thenComparing(task -> task.getDescription().getDescription())
+            .thenComparing(task -> task.getAssignor().getValue(), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(task -> task.getAssignee().getValue(), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(task -> task.getStatus().getStatus(), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(task -> task.getDate().date, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(task -> task.getTime().time, String.CASE_INSENSITIVE_ORDER);
+
+    /** The tasks in the list, kept sorted by {@code TASK_ORDER}. */
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Task> unmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    private final TaskIndex taskIndex = new TaskIndex();
 
     /**
      * Constructs an empty UniqueTaskList.
@@ -34,7 +57,8 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public UniqueTaskList(Set<Task> tasks) {
         requireAllNonNull(tasks);
-        internalList.addAll(tasks);
+        internalList.setAll(getSortedTasks(tasks));
+        internalList.forEach(taskIndex::add);
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
@@ -53,7 +77,9 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void setTasks(Set<Task> tasks) {
         requireAllNonNull(tasks);
-        internalList.setAll(tasks);
+        internalList.setAll(getSortedTasks(tasks));
+        taskIndex.clear();
+        internalList.forEach(taskIndex::add);
         assert CollectionUtil.elementsAreUnique(internalList);
     }
 
@@ -71,30 +97,39 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new TaskNotFoundException();
         }
 
-        if (internalList.contains(editedTask)) {
+        if (contains(editedTask)) {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
+        replaceTask(index, editedTask);
     }
 
+    /**
+     * Replaces the task {@code target} in the list with {@code editedTask}.
+     *
+     * @throws DuplicateTaskException if a task in the list has the same details as {@code editedTask},
+     *                                ignoring the status.
+     */
     public void setTaskIgnoreStatus(Task target, Task editedTask) throws DuplicateTaskException {
         requireNonNull(editedTask);
 
         int index = internalList.indexOf(target);
 
-        for (Task task : internalList) {
-            if (task.getDescription().getDescription().equalsIgnoreCase(editedTask.getDescription().getDescription())
-                    && task.getTime().getTime().equalsIgnoreCase(editedTask.getTime().getTime())
-                    && task.getDate().getDate().equalsIgnoreCase(editedTask.getDate().getDate())
-                    && task.getAssignor().getValue().equalsIgnoreCase(editedTask.getAssignor().getValue())
-                    && task.getAssignee().getValue().equalsIgnoreCase(editedTask.getAssignee().getValue())) {
-                throw new DuplicateTaskException();
-            }
+        if (containsIgnoreStatus(editedTask)) {
+            throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
+        replaceTask(index, editedTask);
+    }
 
+    /**
+     * Replaces the task at {@code index} in the list with {@code editedTask}.
+     */
+    private void replaceTask(int index, Task editedTask) {
+        Task replacedTask = internalList.remove(index);
+        CollectionUtil.addSorted(internalList, editedTask, TASK_ORDER);
+        taskIndex.remove(replacedTask);
+        taskIndex.add(editedTask);
     }
 
     /**
@@ -104,7 +139,10 @@ public class UniqueTaskList implements Iterable<Task> {
         final Set<Task> alreadyInside = this.toSet();
         from.internalList.stream()
                 .filter(task -> !alreadyInside.contains(task))
-                .forEach(internalList::add);
+                .forEach(task -> {
+                    CollectionUtil.addSorted(internalList, task, TASK_ORDER);
+                    taskIndex.add(task);
+                });
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
@@ -114,12 +152,51 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        for (Task task : internalList) {
-            if (task.equals(toCheck)) {
+        return taskIndex.getTasksWithSameDetails(toCheck).stream().anyMatch(toCheck::equals);
+    }
+
+    /**
+     * Returns true if the list contains a task with the same description, due date and time, assignor and assignee
+     * as {@code toCheck}, regardless of its status.
+     */
+    public boolean containsIgnoreStatus(Task toCheck) {
+        requireNonNull(toCheck);
+        return !taskIndex.getTasksWithSameDetails(toCheck).isEmpty();
+    }
 
-            }
-        }
-        return internalList.contains(toCheck);
+    /**
+     * Returns the tasks assigned to the member with {@code matricNumber}.
+     */
+    public List<Task> getTasksAssignedTo(String matricNumber) {
+        requireNonNull(matricNumber);
+        return new ArrayList<>(taskIndex.getTasksByAssignee(matricNumber));
+    }
+
+    /**
+     * Returns the tasks in the list with the same details as {@code task}, ignoring the status.
+     */
+    public List<Task> getTasksSimilarTo(Task task) {
+        requireNonNull(task);
+        return new ArrayList<>(taskIndex.getTasksWithSameDetails(task));
+    }
+
+    /**
+     * Returns the tasks assigned to or by the member with {@code matricNumber}.
+     */
+    public List<Task> getTasksRelatedTo(String matricNumber) {
+        requireNonNull(matricNumber);
+        Set<Task> relatedTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        relatedTasks.addAll(taskIndex.getTasksByAssignor(matricNumber));
+        relatedTasks.addAll(taskIndex.getTasksByAssignee(matricNumber));
+        return new ArrayList<>(relatedTasks);
+    }
+
+    /**
+     * Returns the tasks due between {@code from} and {@code to}, both inclusive, in order of their due date and time.
+     */
+    public List<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return taskIndex.getTasksDueBetween(from, to);
     }
 
     /**
@@ -132,7 +209,8 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+        CollectionUtil.addSorted(internalList, toAdd, TASK_ORDER);
+        taskIndex.add(toAdd);
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
@@ -142,16 +220,44 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) throws TaskNotFoundException {
         requireNonNull(toRemove);
-        if (!contains(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
-        internalList.remove(toRemove);
+        taskIndex.remove(internalList.remove(index));
+    }
+
+    /**
+     * Removes all tasks assigned to the member with {@code matricNumber}.
+     *
+     * @return the number of tasks removed.
+     */
+    public int removeTasksAssignedTo(String matricNumber) {
+        requireNonNull(matricNumber);
+        Set<Task> tasksToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        tasksToRemove.addAll(taskIndex.getTasksByAssignee(matricNumber));
+        tasksToRemove.forEach(taskIndex::remove);
+        internalList.removeAll(tasksToRemove);
+        return tasksToRemove.size();
+    }
+
+    /**
+     * Replaces the tasks at positions {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement},
+     * keeping the index of the list up to date.
+     * Used to revert recorded changes, so the caller must ensure that the list stays sorted and free of duplicates.
+     */
+    public void replaceRange(int from, int to, List<Task> replacement) {
+        requireAllNonNull(replacement);
+        internalList.subList(from, to).forEach(taskIndex::remove);
+        replacement.forEach(taskIndex::add);
+        CollectionUtil.replaceRange(internalList, from, to, replacement);
+        assert CollectionUtil.elementsAreUnique(internalList);
     }
 
     @Override
     public Iterator<Task> iterator() {
         assert CollectionUtil.elementsAreUnique(internalList);
-        return internalList.iterator();
+        return Collections.unmodifiableList(internalList).iterator();
     }
 
     /**
@@ -159,29 +265,16 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public ObservableList<Task> asObservableList() {
         assert CollectionUtil.elementsAreUnique(internalList);
-        sortList();
-        return FXCollections.unmodifiableObservableList(internalList);
+        return unmodifiableList;
     }
 
-
-
     /**
-     * Sorts the list of tasks according to alphabetical order of description.
+     * Returns {@code tasks} sorted by {@code TASK_ORDER}.
      */
-    private void sortList() {
-        internalList.sort(new Comparator<Task>() {
-            @Override
-            public int compare(Task task1, Task task2) {
-                if (task1.getDate().getDate().compareTo(task2.getDate().getDate()) == 0) {
-                    if (task1.getTime().getTime().compareTo(task2.getTime().getTime()) == 0) {
-                        return task1.getDescription().getDescription()
-                                .compareTo(task2.getDescription().getDescription());
-                    }
-                    return task1.getTime().getTime().compareTo(task2.getTime().getTime());
-                }
-                return task1.getDate().getDate().compareTo(task2.getDate().getDate());
-            }
-        });
+    private static List<Task> getSortedTasks(Set<Task> tasks) {
+        List<Task> sortedTasks = new ArrayList<>(tasks);
+        sortedTasks.sort(TASK_ORDER);
+        return sortedTasks;
     }
 
     @Override
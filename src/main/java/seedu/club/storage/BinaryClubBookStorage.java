@@ -0,0 +1,525 @@
+package seedu.club.storage;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.club.commons.core.LogsCenter;
+import seedu.club.commons.exceptions.DataConversionException;
+import seedu.club.commons.exceptions.IllegalValueException;
+import seedu.club.commons.util.FileUtil;
+import seedu.club.model.ClubBook;
+import seedu.club.model.ReadOnlyClubBook;
+import seedu.club.model.group.Group;
+import seedu.club.model.member.Credentials;
+import seedu.club.model.member.Email;
+import seedu.club.model.member.MatricNumber;
+import seedu.club.model.member.Member;
+import seedu.club.model.member.Name;
+import seedu.club.model.member.Password;
+import seedu.club.model.member.Phone;
+import seedu.club.model.member.ProfilePhoto;
+import seedu.club.model.member.Username;
+import seedu.club.model.poll.Answer;
+import seedu.club.model.poll.Poll;
+import seedu.club.model.poll.Question;
+import seedu.club.model.tag.Tag;
+import seedu.club.model.task.Assignee;
+import seedu.club.model.task.Assignor;
+import seedu.club.model.task.Date;
+import seedu.club.model.task.Description;
+import seedu.club.model.task.Status;
+import seedu.club.model.task.Task;
+import seedu.club.model.task.Time;
+
+/**
+ * A class to access ClubBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by sections that are each prefixed
+ * with their type and length, so that sections unknown to this version can be skipped.
+ * Tag and group names are written once in a dictionary section and referred to by index,
+ * and matriculation numbers are written as fixed-width ASCII.
+ */
+public class BinaryClubBookStorage implements ClubBookStorage {
+
+    public static final String FORMAT_NAME = "binary";
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryClubBookStorage.class);
+
+    private static final int MAGIC_NUMBER = 0x434c5542; // "CLUB"
+    private static final int MATRIC_NUMBER_WIDTH = 9;
+
+    private static final int DICTIONARY_SECTION = 1;
+    private static final int TAG_SECTION = 2;
+    private static final int MEMBER_SECTION = 3;
+    private static final int POLL_SECTION = 4;
+    private static final int TASK_SECTION = 5;
+
+    private String filePath;
+
+    public BinaryClubBookStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getClubBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary file that replaces the data file at {@code filePath}.
+     */
+    public static String getBinaryFilePath(String filePath) {
+        return FileUtil.replaceExtension(filePath, FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyClubBook> readClubBook() throws DataConversionException, IOException {
+        return readClubBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readClubBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyClubBook> readClubBook(String filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        File clubBookFile = new File(filePath);
+        if (!clubBookFile.exists()) {
+            logger.info("ClubBook file " + clubBookFile + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(clubBookFile)))) {
+            return Optional.of(decodeClubBook(in, clubBookFile.length()));
+        } catch (EOFException | UTFDataFormatException e) {
+            logger.info("ClubBook file " + clubBookFile + " is incomplete or corrupted");
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + clubBookFile + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveClubBook(ReadOnlyClubBook clubBook) throws IOException {
+        saveClubBook(clubBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveClubBook(ReadOnlyClubBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveClubBook(ReadOnlyClubBook clubBook, String filePath) throws IOException {
+        requireNonNull(clubBook);
+        requireNonNull(filePath);
+
+        File file = new File(filePath);
+        FileUtil.createIfMissing(file);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            encodeClubBook(out, clubBook);
+        }
+    }
+
+    /**
+     * Does nothing, as every save is written to the file immediately.
+     */
+    @Override
+    public void flushClubBook() throws IOException {}
+
+    /**
+     * Copies the club book in {@code source} into this storage, if this storage has no data file yet.
+     * This is how an existing xml data file is moved to the binary format.
+     *
+     * @return true if the club book was copied.
+     * @throws DataConversionException if the data in {@code source} is not in the correct format.
+     */
+    public boolean migrateFrom(ClubBookStorage source) throws DataConversionException, IOException {
+        requireNonNull(source);
+
+        if (new File(filePath).exists()) {
+            return false;
+        }
+        Optional<ReadOnlyClubBook> clubBook = source.readClubBook();
+        if (!clubBook.isPresent()) {
+            return false;
+        }
+        saveClubBook(clubBook.get());
+        logger.info("Migrated ClubBook data from " + source.getClubBookFilePath() + " to " + filePath);
+        return true;
+    }
+
+    //// writing
+
+    /**
+     * Writes {@code clubBook} to {@code out}, starting with the dictionary of tag and group names it uses.
+     */
+    private static void encodeClubBook(DataOutputStream out, ReadOnlyClubBook clubBook) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Tag tag : clubBook.getTagList()) {
+            dictionary.putIfAbsent(tag.tagName, dictionary.size());
+        }
+        for (Member member : clubBook.getMemberList()) {
+            dictionary.putIfAbsent(member.getGroup().groupName, dictionary.size());
+            for (Tag tag : member.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeShort(FORMAT_VERSION);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream section = new DataOutputStream(buffer);
+
+        writeVarInt(section, dictionary.size());
+        for (String name : dictionary.keySet()) {
+            section.writeUTF(name);
+        }
+        writeSection(out, DICTIONARY_SECTION, buffer);
+
+        writeVarInt(section, clubBook.getTagList().size());
+        for (Tag tag : clubBook.getTagList()) {
+            writeVarInt(section, dictionary.get(tag.tagName));
+        }
+        writeSection(out, TAG_SECTION, buffer);
+
+        writeVarInt(section, clubBook.getMemberList().size());
+        for (Member member : clubBook.getMemberList()) {
+            writeMember(section, member, dictionary);
+        }
+        writeSection(out, MEMBER_SECTION, buffer);
+
+        writeVarInt(section, clubBook.getPollList().size());
+        for (Poll poll : clubBook.getPollList()) {
+            writePoll(section, poll);
+        }
+        writeSection(out, POLL_SECTION, buffer);
+
+        writeVarInt(section, clubBook.getTaskList().size());
+        for (Task task : clubBook.getTaskList()) {
+            writeTask(section, task);
+        }
+        writeSection(out, TASK_SECTION, buffer);
+    }
+
+    /**
+     * Writes the contents of {@code buffer} as a section of type {@code sectionType}, and empties the buffer.
+     */
+    private static void writeSection(DataOutput out, int sectionType, ByteArrayOutputStream buffer)
+            throws IOException {
+        out.writeByte(sectionType);
+        out.writeInt(buffer.size());
+        out.write(buffer.toByteArray());
+        buffer.reset();
+    }
+
+    /**
+     * Writes {@code member}, with its group and tags as indices into {@code dictionary}.
+     */
+    private static void writeMember(DataOutput out, Member member, Map<String, Integer> dictionary)
+            throws IOException {
+        out.writeUTF(member.getName().fullName);
+        out.writeUTF(member.getPhone().value);
+        out.writeUTF(member.getEmail().value);
+        writeMatricNumber(out, member.getMatricNumber());
+        writeVarInt(out, dictionary.get(member.getGroup().groupName));
+        out.writeUTF(member.getCredentials().getUsername().value);
+        out.writeUTF(member.getCredentials().getPassword().value);
+        out.writeUTF(member.getProfilePhoto().getPhotoPath());
+        writeVarInt(out, member.getTags().size());
+        for (Tag tag : member.getTags()) {
+            writeVarInt(out, dictionary.get(tag.tagName));
+        }
+    }
+
+    /**
+     * Writes {@code poll} with its answers and the matriculation numbers of the members who voted.
+     */
+    private static void writePoll(DataOutput out, Poll poll) throws IOException {
+        out.writeUTF(poll.getQuestion().getValue());
+        writeVarInt(out, poll.getAnswers().size());
+        for (Answer answer : poll.getAnswers()) {
+            out.writeUTF(answer.getValue());
+            writeVarInt(out, answer.getVoteCount());
+        }
+        writeVarInt(out, poll.getPolleesMatricNumbers().size());
+        for (MatricNumber polleeMatricNumber : poll.getPolleesMatricNumbers()) {
+            writeMatricNumber(out, polleeMatricNumber);
+        }
+    }
+
+    /**
+     * Writes every field of {@code task}.
+     */
+    private static void writeTask(DataOutput out, Task task) throws IOException {
+        out.writeUTF(task.getDescription().getDescription());
+        out.writeUTF(task.getTime().getTime());
+        out.writeUTF(task.getDate().getDate());
+        out.writeUTF(task.getAssignor().getValue());
+        out.writeUTF(task.getAssignee().getValue());
+        out.writeUTF(task.getStatus().getStatus());
+    }
+
+    private static void writeMatricNumber(DataOutput out, MatricNumber matricNumber) throws IOException {
+        byte[] value = matricNumber.value.getBytes(US_ASCII);
+        assert value.length == MATRIC_NUMBER_WIDTH;
+        out.write(value);
+    }
+
+    /**
+     * Writes a non-negative {@code value} in as few bytes as it needs, seven bits at a time.
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    //// reading
+
+    /**
+     * Reads a club book written by {@link #encodeClubBook(DataOutputStream, ReadOnlyClubBook)} from {@code in},
+     * which holds {@code byteCount} bytes.
+     *
+     * @throws IllegalValueException if the data is not in the correct format, or violates any data constraints.
+     */
+    private static ClubBook decodeClubBook(DataInputStream in, long byteCount)
+            throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException("Not a ClubBook binary file");
+        }
+        int version = in.readUnsignedShort();
+        if (version > FORMAT_VERSION) {
+            throw new IllegalValueException("Unsupported ClubBook binary format version " + version);
+        }
+
+        ClubBook clubBook = new ClubBook();
+        List<String> dictionary = null;
+        long bytesLeft = byteCount - Integer.BYTES - Short.BYTES;
+        int sectionType;
+        while ((sectionType = in.read()) != -1) {
+            int length = in.readInt();
+            bytesLeft -= 1 + Integer.BYTES;
+            checkValid(length >= 0, "ClubBook binary file has a section of negative length");
+            checkValid(length <= bytesLeft, "ClubBook binary file has a section longer than the file");
+            bytesLeft -= length;
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            DataInputStream section = new DataInputStream(new ByteArrayInputStream(payload));
+
+            if (sectionType == DICTIONARY_SECTION) {
+                dictionary = readDictionary(section);
+                continue;
+            }
+            if (dictionary == null) {
+                throw new IllegalValueException("ClubBook binary file is missing its dictionary");
+            }
+            readSection(section, sectionType, dictionary, clubBook);
+        }
+        return clubBook;
+    }
+
+    /**
+     * Reads the tag and group names that other sections refer to by index.
+     */
+    private static List<String> readDictionary(DataInputStream in) throws IOException, IllegalValueException {
+        int size = readVarInt(in);
+        // Each name takes at least the two bytes that hold its length.
+        checkValid(size >= 0 && size <= in.available() / 2,
+                "ClubBook binary file has more names in its dictionary than it can hold");
+        List<String> dictionary = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dictionary.add(in.readUTF());
+        }
+        return dictionary;
+    }
+
+    /**
+     * Adds the contents of a section of type {@code sectionType} to {@code clubBook}.
+     * Sections of unknown types are ignored.
+     */
+    private static void readSection(DataInput in, int sectionType, List<String> dictionary, ClubBook clubBook)
+            throws IOException, IllegalValueException {
+        int count;
+        switch (sectionType) {
+        case TAG_SECTION:
+            count = readVarInt(in);
+            for (int i = 0; i < count; i++) {
+                clubBook.addTag(readTag(in, dictionary));
+            }
+            break;
+        case MEMBER_SECTION:
+            count = readVarInt(in);
+            for (int i = 0; i < count; i++) {
+                clubBook.addMember(readMember(in, dictionary));
+            }
+            break;
+        case POLL_SECTION:
+            count = readVarInt(in);
+            for (int i = 0; i < count; i++) {
+                clubBook.addPoll(readPoll(in));
+            }
+            break;
+        case TASK_SECTION:
+            count = readVarInt(in);
+            for (int i = 0; i < count; i++) {
+                clubBook.addTaskToTaskList(readTask(in));
+            }
+            break;
+        default:
+            logger.info("Skipping unknown ClubBook binary section " + sectionType);
+            break;
+        }
+    }
+
+    private static Tag readTag(DataInput in, List<String> dictionary) throws IOException, IllegalValueException {
+        String tagName = readDictionaryEntry(in, dictionary);
+        checkValid(Tag.isValidTagName(tagName), Tag.MESSAGE_TAG_CONSTRAINTS);
+        return new Tag(tagName);
+    }
+
+    /**
+     * Reads a member written by {@link #writeMember(DataOutput, Member, Map)}.
+     *
+     * @throws IllegalValueException if any of the member's fields violate their constraints.
+     */
+    private static Member readMember(DataInput in, List<String> dictionary) throws IOException, IllegalValueException {
+        String name = in.readUTF();
+        checkValid(Name.isValidName(name), Name.MESSAGE_NAME_CONSTRAINTS);
+        String phone = in.readUTF();
+        checkValid(Phone.isValidPhone(phone), Phone.MESSAGE_PHONE_CONSTRAINTS);
+        String email = in.readUTF();
+        checkValid(Email.isValidEmail(email), Email.MESSAGE_EMAIL_CONSTRAINTS);
+        MatricNumber matricNumber = readMatricNumber(in);
+        String group = readDictionaryEntry(in, dictionary);
+        checkValid(Group.isValidGroup(group), Group.MESSAGE_GROUP_CONSTRAINTS);
+        Username username = new Username(in.readUTF());
+        Password password = new Password(in.readUTF());
+        ProfilePhoto profilePhoto = new ProfilePhoto(in.readUTF());
+
+        int tagCount = readVarInt(in);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(readTag(in, dictionary));
+        }
+
+        return new Member(new Name(name), new Phone(phone), new Email(email), matricNumber, new Group(group), tags,
+                new Credentials(username, password), profilePhoto);
+    }
+
+    /**
+     * Reads a poll written by {@link #writePoll(DataOutput, Poll)}.
+     *
+     * @throws IllegalValueException if the poll has no answers, or its fields violate their constraints.
+     */
+    private static Poll readPoll(DataInput in) throws IOException, IllegalValueException {
+        String question = in.readUTF();
+        checkValid(Question.isValidQuestion(question), Question.MESSAGE_QUESTION_CONSTRAINTS);
+
+        int answerCount = readVarInt(in);
+        checkValid(answerCount > 0, Answer.MESSAGE_ANSWER_CONSTRAINTS);
+        List<Answer> answers = new ArrayList<>();
+        for (int i = 0; i < answerCount; i++) {
+            String value = in.readUTF();
+            checkValid(Answer.isValidAnswer(value), Answer.MESSAGE_ANSWER_CONSTRAINTS);
+            answers.add(new Answer(value, readVarInt(in)));
+        }
+
+        int polleeCount = readVarInt(in);
+        Set<MatricNumber> polleesMatricNumbers = new HashSet<>();
+        for (int i = 0; i < polleeCount; i++) {
+            polleesMatricNumbers.add(readMatricNumber(in));
+        }
+        return new Poll(new Question(question), answers, polleesMatricNumbers);
+    }
+
+    /**
+     * Reads a task written by {@link #writeTask(DataOutput, Task)}.
+     *
+     * @throws IllegalValueException if any of the task's fields violate their constraints.
+     */
+    private static Task readTask(DataInput in) throws IOException, IllegalValueException {
+        String description = in.readUTF();
+        checkValid(Description.isValidDescription(description), Description.MESSAGE_DESCRIPTION_CONSTRAINTS);
+        String time = in.readUTF();
+        checkValid(Time.isValidTime(time), Time.MESSAGE_TIME_CONSTRAINTS);
+        String date = in.readUTF();
+        checkValid(Date.isValidDate(date), Date.MESSAGE_DATE_CONSTRAINTS);
+        Assignor assignor = new Assignor(in.readUTF());
+        Assignee assignee = new Assignee(in.readUTF());
+        Status status = new Status(in.readUTF());
+        return new Task(new Description(description), new Time(time), new Date(date), assignor, assignee, status);
+    }
+
+    /**
+     * Reads a fixed-width matriculation number.
+     *
+     * @throws IllegalValueException if it is not a valid matriculation number.
+     */
+    private static MatricNumber readMatricNumber(DataInput in) throws IOException, IllegalValueException {
+        byte[] value = new byte[MATRIC_NUMBER_WIDTH];
+        in.readFully(value);
+        String matricNumber = new String(value, US_ASCII);
+        checkValid(MatricNumber.isValidMatricNumber(matricNumber), MatricNumber.MESSAGE_MATRIC_NUMBER_CONSTRAINTS);
+        return new MatricNumber(matricNumber);
+    }
+
+    private static String readDictionaryEntry(DataInput in, List<String> dictionary)
+            throws IOException, IllegalValueException {
+        int index = readVarInt(in);
+        checkValid(index < dictionary.size(), "ClubBook binary file refers to a missing name");
+        return dictionary.get(index);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarInt(DataOutput, int)}.
+     */
+    private static int readVarInt(DataInput in) throws IOException, IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int next = in.readUnsignedByte();
+            value |= (next & 0x7f) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException("Malformed number in ClubBook binary file");
+    }
+
+    private static void checkValid(boolean isValid, String message) throws IllegalValueException {
+        if (!isValid) {
+            throw new IllegalValueException(message);
+        }
+    }
+}
@@ -42,4 +42,10 @@ public interface ClubBookStorage {
      */
     void saveClubBook(ReadOnlyClubBook clubBook, String filePath) throws IOException;
 
+    /**
+     * Writes out any saves that have been accepted but not yet written to the storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushClubBook() throws IOException;
+
 }
@@ -6,12 +6,16 @@ import static java.util.Objects.requireNonNull;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.club.commons.core.ComponentManager;
 import seedu.club.commons.core.LogsCenter;
 import seedu.club.commons.events.storage.DataReadingExceptionEvent;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.commons.util.CsvUtil;
+import seedu.club.model.member.Member;
 import seedu.club.model.member.UniqueMemberList;
 
 /**
@@ -71,27 +75,61 @@ public class CsvClubBookStorage extends ComponentManager {
     }
 
     /**
-     * Returns data from the file as a {@link UniqueMemberList}.
+     * Reads the members in the file one batch at a time, instead of reading the whole file at once.
+     * Each batch of members is passed to {@code batchConsumer}, and every row that is not a valid member
+     * is reported to {@code errorConsumer}.
+     *
+     * @return the number of rows read.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    public int readMembers(Consumer<List<Member>> batchConsumer, Consumer<String> errorConsumer) throws IOException {
+        try {
+            return readMembers(file, batchConsumer, errorConsumer);
+        } catch (IOException ioe) {
+            raise(new DataReadingExceptionEvent(ioe));
+            throw ioe;
+        }
+    }
+
+    /**
+     * Similar to {@link #readMembers(Consumer, Consumer)}
+     *
+     * @param importFile location of the data. Cannot be null.
+     */
+    public int readMembers(File importFile, Consumer<List<Member>> batchConsumer, Consumer<String> errorConsumer)
+            throws IOException {
+        requireNonNull(importFile);
+
+        if (!importFile.exists()) {
+            logger.info("ClubBook import file "  + importFile + " not found");
+            throw new FileNotFoundException();
+        }
+
+        return CsvFileStorage.readMembers(importFile, CsvUtil.DEFAULT_BATCH_SIZE, batchConsumer, errorConsumer);
+    }
+
+    /**
+     * Saves the data of {@code members} in {@code columns} to the file, after the headers of {@code columns}.
      *
      * @throws IOException Thrown if there is an error writing to the file.
      */
-    public void saveData(String data) throws IOException {
-        saveData(data, file);
+    public void saveMembers(List<Member> members, List<CsvColumn> columns) throws IOException {
+        saveMembers(members, columns, file);
     }
 
     /**
+     * Similar to {@link #saveMembers(List, List)}
+     *
      * @param file location of the data. Cannot be null
      */
-    public void saveData(String data, File file) throws IOException {
-        requireNonNull(data);
+    public void saveMembers(List<Member> members, List<CsvColumn> columns, File file) throws IOException {
+        requireNonNull(members);
+        requireNonNull(columns);
         requireNonNull(file);
 
         assert file.exists() : "ClubBook export file " + file + " must have been created";
 
-        String columnHeaders = CsvUtil.getHeaders();
-        String dataToExport = columnHeaders + data;
-
         logger.fine("Writing headers and info of members to the file");
-        CsvFileStorage.saveDataToFile(file, dataToExport);
+        CsvFileStorage.saveMembersToFile(file, members, columns);
     }
 }
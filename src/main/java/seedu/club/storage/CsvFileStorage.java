@@ -3,9 +3,15 @@ package seedu.club.storage;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.function.Consumer;
 
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.commons.util.CsvUtil;
-import seedu.club.commons.util.FileUtil;
+import seedu.club.model.member.Member;
 import seedu.club.model.member.UniqueMemberList;
 
 /**
@@ -14,10 +20,15 @@ import seedu.club.model.member.UniqueMemberList;
 public class CsvFileStorage {
 
     /**
-     * Saves the given clubBook {@code data} to the specified file.
+     * Saves the data of {@code members} in {@code columns} to the specified file, one member at a time.
+     *
+     * @see CsvUtil#writeMembers(Writer, Iterable, List)
      */
-    public static void saveDataToFile(File file, String data) throws IOException {
-        FileUtil.writeToFile(file, data);
+    public static void saveMembersToFile(File file, List<Member> members, List<CsvColumn> columns)
+            throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            CsvUtil.writeMembers(writer, members, columns);
+        }
     }
 
     /**
@@ -26,4 +37,14 @@ public class CsvFileStorage {
     public static UniqueMemberList readClubBook(File file) throws IOException {
         return CsvUtil.getDataFromFile(file);
     }
+
+    /**
+     * Reads the members in the file in batches.
+     *
+     * @see CsvUtil#readMembersFromFile(File, int, Consumer, Consumer)
+     */
+    public static int readMembers(File file, int batchSize, Consumer<List<Member>> batchConsumer,
+                                  Consumer<String> errorConsumer) throws IOException {
+        return CsvUtil.readMembersFromFile(file, batchSize, batchConsumer, errorConsumer);
+    }
 }
@@ -0,0 +1,504 @@
+package seedu.club.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.transform.stream.StreamSource;
+
+import seedu.club.commons.core.LogsCenter;
+import seedu.club.commons.exceptions.DataConversionException;
+import seedu.club.commons.exceptions.IllegalValueException;
+import seedu.club.commons.util.FileUtil;
+import seedu.club.model.ClubBookEdit;
+import seedu.club.model.ClubBookSection;
+import seedu.club.model.ClubBookSnapshot;
+import seedu.club.model.ReadOnlyClubBook;
+
+/**
+ * A {@link ClubBookStorage} that appends the changes made by each save to a journal file,
+ * instead of rewriting the whole club book.
+ * The changes are the ones recorded by the snapshots of the club book (see {@link ClubBookSnapshot}), so a save
+ * only encodes the elements that were added, and does not compare the club book with the last one saved.
+ *
+ * A full snapshot of the club book is written by the wrapped {@code ClubBookStorage} on the first save, when the
+ * changes since the last save are not known, once the journal holds {@code snapshotInterval} records, and on
+ * {@link #flushClubBook()}.
+ * Reading loads the latest snapshot and replays the journal on top of it.
+ *
+ * The journal is kept next to the snapshot, with {@value #JOURNAL_FILE_SUFFIX} appended to its name.
+ * Its first line holds the checksum of the snapshot it continues from, so a journal left behind by an
+ * older snapshot is ignored. Every save is ended by a commit record, so a partly written save is ignored too.
+ */
+public class JournaledClubBookStorage implements ClubBookStorage {
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledClubBookStorage.class);
+
+    private static final String JOURNAL_HEADER = "clubbook-journal";
+    private static final String INSERT_RECORD = "+";
+    private static final String REMOVE_RECORD = "-";
+    private static final String COMMIT_RECORD = "commit";
+    private static final String SEPARATOR = " ";
+
+    private final ClubBookStorage snapshotStorage;
+    private final int snapshotInterval;
+
+    /** The club book as last written to the snapshot and journal, or null if unknown. */
+    private ReadOnlyClubBook savedClubBook;
+    private int journalRecordCount;
+
+    public JournaledClubBookStorage(ClubBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * @param snapshotStorage the storage that reads and writes the full snapshots. Cannot be null.
+     * @param snapshotInterval number of journal records after which a new snapshot is written.
+     */
+    public JournaledClubBookStorage(ClubBookStorage snapshotStorage, int snapshotInterval) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    }
+
+    @Override
+    public String getClubBookFilePath() {
+        return snapshotStorage.getClubBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal that goes with the snapshot at {@code filePath}.
+     */
+    public static String getJournalFilePath(String filePath) {
+        return filePath + JOURNAL_FILE_SUFFIX;
+    }
+
+    /**
+     * Returns the number of records in the journal since the last snapshot.
+     */
+    public synchronized int getJournalRecordCount() {
+        return journalRecordCount;
+    }
+
+    @Override
+    public Optional<ReadOnlyClubBook> readClubBook() throws DataConversionException, IOException {
+        return readClubBook(getClubBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal, if any.
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyClubBook> readClubBook(String filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(getClubBookFilePath());
+        Optional<ReadOnlyClubBook> snapshot = snapshotStorage.readClubBook(filePath);
+        if (!snapshot.isPresent()) {
+            if (isOwnFile) {
+                savedClubBook = null;
+            }
+            return snapshot;
+        }
+
+        List<JournalSection<?, ?>> sections = createSections();
+        Marshaller marshaller = createMarshaller();
+        for (JournalSection<?, ?> section : sections) {
+            section.load(snapshot.get(), marshaller);
+        }
+
+        File journalFile = new File(getJournalFilePath(filePath));
+        JournalReplay replay = replayJournal(journalFile, FileUtil.getChecksum(new File(filePath)), sections);
+
+        ReadOnlyClubBook clubBook = replay.recordCount == 0 ? snapshot.get() : toClubBookOrThrow(sections);
+        if (isOwnFile) {
+            savedClubBook = replay.isClean ? clubBook.getSnapshot() : null;
+            journalRecordCount = replay.recordCount;
+        }
+        if (replay.recordCount > 0) {
+            logger.info("Replayed " + replay.recordCount + " journal records from " + journalFile);
+        }
+        return Optional.of(clubBook);
+    }
+
+    /**
+     * Appends the changes made to {@code clubBook} since the last save to the journal.
+     * A full snapshot is written instead if the last saved club book is not known, if the snapshot of
+     * {@code clubBook} was not made from it, or if the journal is full.
+     */
+    @Override
+    public synchronized void saveClubBook(ReadOnlyClubBook clubBook) throws IOException {
+        requireNonNull(clubBook);
+
+        ReadOnlyClubBook snapshot = clubBook.getSnapshot();
+        List<ClubBookEdit> changes = getChangesSinceSave(snapshot);
+        if (changes == null
+                || journalRecordCount + changes.stream().mapToInt(ClubBookEdit::size).sum() > snapshotInterval) {
+            writeSnapshot(snapshot);
+            return;
+        }
+
+        List<String> records = toRecords(changes);
+        if (!records.isEmpty()) {
+            records.add(COMMIT_RECORD);
+            try {
+                appendToJournal(records);
+            } catch (IOException ioe) {
+                // The journal may now end with a partly written save, so it should not be appended to any more.
+                savedClubBook = null;
+                throw ioe;
+            }
+            journalRecordCount += records.size() - 1;
+        }
+        savedClubBook = snapshot;
+    }
+
+    /**
+     * Writes {@code clubBook} to {@code filePath} as a full snapshot, without a journal.
+     */
+    @Override
+    public synchronized void saveClubBook(ReadOnlyClubBook clubBook, String filePath) throws IOException {
+        requireNonNull(clubBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(getClubBookFilePath())) {
+            writeSnapshot(clubBook.getSnapshot());
+            return;
+        }
+        snapshotStorage.saveClubBook(clubBook, filePath);
+        deleteJournal(new File(getJournalFilePath(filePath)));
+    }
+
+    /**
+     * Writes the journal into a new snapshot, so that the next read does not have to replay it.
+     */
+    @Override
+    public synchronized void flushClubBook() throws IOException {
+        if (savedClubBook != null && journalRecordCount > 0) {
+            writeSnapshot(savedClubBook);
+        }
+        snapshotStorage.flushClubBook();
+    }
+
+    /**
+     * Writes {@code clubBook}, which must not be modified afterwards, as a full snapshot and starts a new, empty
+     * journal for it.
+     */
+    private void writeSnapshot(ReadOnlyClubBook clubBook) throws IOException {
+        savedClubBook = null;
+        snapshotStorage.saveClubBook(clubBook);
+        snapshotStorage.flushClubBook();
+
+        File snapshotFile = new File(getClubBookFilePath());
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(getJournalFilePath(snapshotFile.getPath())),
+                UTF_8)) {
+            writer.write(JOURNAL_HEADER + SEPARATOR + Long.toHexString(FileUtil.getChecksum(snapshotFile)) + "\n");
+        }
+
+        savedClubBook = clubBook;
+        journalRecordCount = 0;
+        logger.fine("Wrote club book snapshot to " + snapshotFile);
+    }
+
+    /**
+     * Returns the changes that turn the last saved club book into {@code snapshot}, or null if they are not known.
+     */
+    private List<ClubBookEdit> getChangesSinceSave(ReadOnlyClubBook snapshot) {
+        if (savedClubBook == null || !(snapshot instanceof ClubBookSnapshot)) {
+            return null;
+        }
+        return ((ClubBookSnapshot) snapshot).getChangesSince(savedClubBook);
+    }
+
+    /**
+     * Returns the journal records that make {@code changes}.
+     * Each removed element is recorded by its position, so only the added elements are encoded.
+     */
+    private static List<String> toRecords(List<ClubBookEdit> changes) {
+        Map<ClubBookSection, JournalSection<?, ?>> sections = new EnumMap<>(ClubBookSection.class);
+        for (JournalSection<?, ?> section : createSections()) {
+            sections.put(section.section, section);
+        }
+
+        Marshaller marshaller = createMarshaller();
+        List<String> records = new ArrayList<>();
+        for (ClubBookEdit edit : changes) {
+            for (ClubBookEdit.Change change : edit.getChanges()) {
+                JournalSection<?, ?> section = sections.get(change.getSection());
+                for (int i = 0; i < change.getRemoved().size(); i++) {
+                    records.add(REMOVE_RECORD + SEPARATOR + section.name + SEPARATOR + change.getFrom());
+                }
+                List<?> added = change.getAdded();
+                for (int i = 0; i < added.size(); i++) {
+                    records.add(INSERT_RECORD + SEPARATOR + section.name + SEPARATOR + (change.getFrom() + i)
+                            + SEPARATOR + section.encode(added.get(i), marshaller));
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Appends {@code records} to the journal, one per line.
+     */
+    private void appendToJournal(List<String> records) throws IOException {
+        try (Writer writer = new OutputStreamWriter(
+                new FileOutputStream(getJournalFilePath(getClubBookFilePath()), true), UTF_8)) {
+            for (String record : records) {
+                writer.write(record);
+                writer.write('\n');
+            }
+        }
+    }
+
+    private void deleteJournal(File journalFile) throws IOException {
+        if (journalFile.exists() && !journalFile.delete()) {
+            throw new IOException("Unable to delete " + journalFile);
+        }
+    }
+
+    /**
+     * Applies the committed records in {@code journalFile} to {@code sections}.
+     * Reading stops at the first record that cannot be parsed, such as the end of a partly written save.
+     *
+     * @throws DataConversionException if a record does not fit the club book it is applied to.
+     */
+    private JournalReplay replayJournal(File journalFile, long snapshotChecksum, List<JournalSection<?, ?>> sections)
+            throws DataConversionException, IOException {
+        if (!journalFile.exists()) {
+            return new JournalReplay(0, false);
+        }
+
+        Map<String, JournalSection<?, ?>> sectionsByName = new HashMap<>();
+        for (JournalSection<?, ?> section : sections) {
+            sectionsByName.put(section.name, section);
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(journalFile),
+                UTF_8))) {
+            String header = reader.readLine();
+            if (header == null || !header.equals(JOURNAL_HEADER + SEPARATOR + Long.toHexString(snapshotChecksum))) {
+                logger.warning("Ignoring " + journalFile + " as it does not belong to the current snapshot");
+                return new JournalReplay(0, false);
+            }
+
+            int recordCount = 0;
+            List<String[]> pendingRecords = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.equals(COMMIT_RECORD)) {
+                    for (String[] record : pendingRecords) {
+                        applyRecord(sectionsByName.get(record[1]), record);
+                    }
+                    recordCount += pendingRecords.size();
+                    pendingRecords.clear();
+                    continue;
+                }
+
+                String[] record = parseRecord(line);
+                if (record == null || !sectionsByName.containsKey(record[1])) {
+                    logger.warning("Ignoring the rest of " + journalFile + " from the unreadable record: " + line);
+                    return new JournalReplay(recordCount, false);
+                }
+                pendingRecords.add(record);
+            }
+            return new JournalReplay(recordCount, pendingRecords.isEmpty());
+        }
+    }
+
+    /**
+     * Splits a journal record into its type, section and index, followed by the payload of an insertion.
+     * Returns null if the record is malformed.
+     */
+    private static String[] parseRecord(String line) {
+        if (line.startsWith(INSERT_RECORD + SEPARATOR)) {
+            String[] parts = line.split(SEPARATOR, 4);
+            return (parts.length == 4 && parts[2].matches("\\d+")) ? parts : null;
+        }
+        if (line.startsWith(REMOVE_RECORD + SEPARATOR)) {
+            String[] parts = line.split(SEPARATOR);
+            return (parts.length == 3 && parts[2].matches("\\d+")) ? parts : null;
+        }
+        return null;
+    }
+
+    /**
+     * Applies a parsed journal record to {@code section}.
+     */
+    private static void applyRecord(JournalSection<?, ?> section, String[] record) throws DataConversionException {
+        int index = Integer.parseInt(record[2]);
+        if (record[0].equals(INSERT_RECORD)) {
+            if (index > section.entries.size()) {
+                throw new DataConversionException(new IllegalValueException(
+                        "Journal inserts " + section.name + " beyond the end of the list: " + index));
+            }
+            section.entries.add(index, record[3]);
+        } else {
+            if (index >= section.entries.size()) {
+                throw new DataConversionException(new IllegalValueException(
+                        "Journal removes " + section.name + " beyond the end of the list: " + index));
+            }
+            section.entries.remove(index);
+        }
+    }
+
+    /**
+     * Converts the encoded contents of {@code sections} back into a club book.
+     */
+    private static ReadOnlyClubBook toClubBookOrThrow(List<JournalSection<?, ?>> sections)
+            throws DataConversionException {
+        Unmarshaller unmarshaller;
+        try {
+            unmarshaller = XmlFileStorage.getElementContext().createUnmarshaller();
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+
+        try {
+            XmlSerializableClubBook xmlClubBook = new XmlSerializableClubBook(
+                    decode(sections.get(0), XmlAdaptedMember.class, unmarshaller),
+                    decode(sections.get(1), XmlAdaptedTag.class, unmarshaller),
+                    decode(sections.get(2), XmlAdaptedPoll.class, unmarshaller),
+                    decode(sections.get(3), XmlAdaptedTask.class, unmarshaller));
+            return xmlClubBook.toModelType();
+        } catch (JAXBException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Converts the encoded elements of {@code section} back into JAXB-friendly objects.
+     */
+    private static <A> List<A> decode(JournalSection<?, ?> section, Class<A> adaptedClass, Unmarshaller unmarshaller)
+            throws JAXBException {
+        List<A> adapted = new ArrayList<>(section.entries.size());
+        for (String entry : section.entries) {
+            adapted.add(unmarshaller.unmarshal(new StreamSource(new StringReader(entry)), adaptedClass).getValue());
+        }
+        return adapted;
+    }
+
+    /**
+     * Returns a new, empty section for each list in the club book.
+     */
+    private static List<JournalSection<?, ?>> createSections() {
+        // The order is the one expected by toClubBookOrThrow.
+        return Arrays.asList(
+                new JournalSection<>(ClubBookSection.MEMBERS, XmlAdaptedMember.class,
+                        ReadOnlyClubBook::getMemberList, XmlAdaptedMember::new),
+                new JournalSection<>(ClubBookSection.TAGS, XmlAdaptedTag.class,
+                        ReadOnlyClubBook::getTagList, XmlAdaptedTag::new),
+                new JournalSection<>(ClubBookSection.POLLS, XmlAdaptedPoll.class,
+                        ReadOnlyClubBook::getPollList, XmlAdaptedPoll::new),
+                new JournalSection<>(ClubBookSection.TASKS, XmlAdaptedTask.class,
+                        ReadOnlyClubBook::getTaskList, XmlAdaptedTask::new));
+    }
+
+    /**
+     * Creates a marshaller that writes an element as an XML fragment on a single line.
+     */
+    private static Marshaller createMarshaller() {
+        try {
+            return XmlFileStorage.createElementMarshaller();
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage());
+        }
+    }
+
+    /**
+     * The outcome of replaying a journal.
+     */
+    private static class JournalReplay {
+        private final int recordCount;
+        /** Whether the journal ended cleanly, so that further records can be appended to it. */
+        private final boolean isClean;
+
+        JournalReplay(int recordCount, boolean isClean) {
+            this.recordCount = recordCount;
+            this.isClean = isClean;
+        }
+    }
+
+    /**
+     * One list of the club book, and how to encode its elements as single-line XML.
+     * When a journal is read, the section holds the encoded list that the journal records are applied to.
+     *
+     * @param <M> the type of the model element.
+     * @param <A> the type of its JAXB-friendly version.
+     */
+    private static class JournalSection<M, A> {
+
+        private final ClubBookSection section;
+        private final String name;
+        private final Class<A> adaptedClass;
+        private final Function<ReadOnlyClubBook, List<M>> listGetter;
+        private final Function<M, A> adapter;
+
+        private List<String> entries = new ArrayList<>();
+
+        JournalSection(ClubBookSection section, Class<A> adaptedClass,
+                       Function<ReadOnlyClubBook, List<M>> listGetter, Function<M, A> adapter) {
+            this.section = section;
+            this.name = section.toString();
+            this.adaptedClass = adaptedClass;
+            this.listGetter = listGetter;
+            this.adapter = adapter;
+        }
+
+        /**
+         * Replaces the contents of this section with the encoded list from {@code clubBook}.
+         */
+        void load(ReadOnlyClubBook clubBook, Marshaller marshaller) {
+            List<M> elements = listGetter.apply(clubBook);
+            entries = new ArrayList<>(elements.size());
+            for (M element : elements) {
+                entries.add(encode(element, marshaller));
+            }
+        }
+
+        /**
+         * Returns {@code element}, which must be an element of this section, as XML on a single line.
+         */
+        @SuppressWarnings("unchecked")
+        String encode(Object element, Marshaller marshaller) {
+            StringWriter writer = new StringWriter();
+            try {
+                marshaller.marshal(new JAXBElement<>(new QName(name), adaptedClass, adapter.apply((M) element)),
+                        writer);
+            } catch (JAXBException e) {
+                throw new AssertionError("Unexpected exception " + e.getMessage());
+            }
+            return writer.toString().replace("\r", "&#13;").replace("\n", "&#10;");
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package seedu.club.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.club.commons.core.LogsCenter;
+import seedu.club.commons.exceptions.DataConversionException;
+import seedu.club.commons.exceptions.IllegalValueException;
+import seedu.club.commons.util.FileUtil;
+import seedu.club.model.ClubBookSection;
+import seedu.club.model.ReadOnlyClubBook;
+
+/**
+ * A class to access ClubBook data stored as one xml file per section of the club book, so that a save only
+ * rewrites the sections that were modified since the last save.
+ *
+ * The file at {@code filePath} is a manifest that holds the version and the checksum of each section file.
+ * A modified section is written to a file with a new version, and the manifest is replaced once all of them
+ * are written, so a save that is cut short leaves the previous manifest and its section files as they were.
+ */
+public class SectionedClubBookStorage implements ClubBookStorage {
+
+    public static final String FORMAT_NAME = "sectioned";
+    public static final String FILE_EXTENSION = ".manifest";
+
+    private static final Logger logger = LogsCenter.getLogger(SectionedClubBookStorage.class);
+
+    private static final String MANIFEST_HEADER = "clubbook-manifest";
+    private static final String SEPARATOR = " ";
+    private static final String SECTION_FILE_EXTENSION = ".xml";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private String filePath;
+
+    /** The manifest at {@code filePath} as last read or written, or null if unknown. */
+    private Map<ClubBookSection, SectionFile> savedManifest;
+    /** The version of each club book section held by the section files in {@code savedManifest}. */
+    private final Map<ClubBookSection, Long> savedSectionVersions = new EnumMap<>(ClubBookSection.class);
+
+    public SectionedClubBookStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getClubBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the manifest that replaces the data file at {@code filePath}.
+     */
+    public static String getManifestFilePath(String filePath) {
+        return FileUtil.replaceExtension(filePath, FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the file holding {@code version} of {@code section}, for the manifest at
+     * {@code manifestFilePath}.
+     */
+    public static String getSectionFilePath(String manifestFilePath, ClubBookSection section, long version) {
+        return FileUtil.replaceExtension(manifestFilePath, "") + "." + section + "." + version
+                + SECTION_FILE_EXTENSION;
+    }
+
+    @Override
+    public Optional<ReadOnlyClubBook> readClubBook() throws DataConversionException, IOException {
+        return readClubBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readClubBook()}
+     * @param filePath location of the manifest. Cannot be null
+     * @throws DataConversionException if the manifest or a section file is not in the correct format,
+     *     or if a section file does not match its checksum in the manifest.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyClubBook> readClubBook(String filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        File manifestFile = new File(filePath);
+        if (!manifestFile.exists()) {
+            logger.info("ClubBook manifest " + manifestFile + " not found");
+            return Optional.empty();
+        }
+
+        Map<ClubBookSection, SectionFile> manifest = readManifest(manifestFile);
+        List<File> sectionFiles = new ArrayList<>();
+        for (ClubBookSection section : ClubBookSection.values()) {
+            File sectionFile = new File(getSectionFilePath(filePath, section, manifest.get(section).version));
+            if (!sectionFile.exists() || FileUtil.getChecksum(sectionFile) != manifest.get(section).checksum) {
+                logger.info("ClubBook section file " + sectionFile + " is missing or does not match " + manifestFile);
+                throw new DataConversionException(new IllegalValueException(
+                        "The " + section + " of the club book do not match the manifest " + manifestFile));
+            }
+            sectionFiles.add(sectionFile);
+        }
+
+        ReadOnlyClubBook clubBook;
+        try {
+            clubBook = XmlFileStorage.loadClubBookFromSaveFiles(sectionFiles);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the sections of " + manifestFile + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedManifest = manifest;
+            recordSavedVersions(clubBook);
+        }
+        return Optional.of(clubBook);
+    }
+
+    /**
+     * Writes the sections of {@code clubBook} that were modified since the last save, followed by the manifest.
+     * Every section is written if the last saved club book is not known.
+     */
+    @Override
+    public synchronized void saveClubBook(ReadOnlyClubBook clubBook) throws IOException {
+        requireNonNull(clubBook);
+
+        File manifestFile = new File(filePath);
+        Map<ClubBookSection, SectionFile> oldManifest = manifestFile.exists() ? savedManifest : null;
+        Set<ClubBookSection> modifiedSections = EnumSet.noneOf(ClubBookSection.class);
+        for (ClubBookSection section : ClubBookSection.values()) {
+            Long savedVersion = savedSectionVersions.get(section);
+            if (oldManifest == null || savedVersion == null || savedVersion != clubBook.getSectionVersion(section)) {
+                modifiedSections.add(section);
+            }
+        }
+        if (modifiedSections.isEmpty()) {
+            return;
+        }
+
+        savedManifest = null;
+        savedManifest = writeSections(clubBook, manifestFile, oldManifest, modifiedSections);
+        recordSavedVersions(clubBook);
+        logger.fine("Rewrote the " + modifiedSections + " of the club book in " + manifestFile);
+    }
+
+    /**
+     * Writes every section of {@code clubBook} to the manifest at {@code filePath} and its section files.
+     * @param filePath location of the manifest. Cannot be null
+     */
+    @Override
+    public synchronized void saveClubBook(ReadOnlyClubBook clubBook, String filePath) throws IOException {
+        requireNonNull(clubBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            savedManifest = null;
+            saveClubBook(clubBook);
+            return;
+        }
+        writeSections(clubBook, new File(filePath), null, EnumSet.allOf(ClubBookSection.class));
+    }
+
+    /**
+     * Does nothing, as every save is written to the files immediately.
+     */
+    @Override
+    public void flushClubBook() throws IOException {}
+
+    /**
+     * Copies the club book in {@code source} into this storage, unless this storage already has a manifest.
+     *
+     * @return true if the club book was copied.
+     * @throws DataConversionException if the data in {@code source} is not in the correct format.
+     */
+    public boolean migrateFrom(ClubBookStorage source) throws DataConversionException, IOException {
+        requireNonNull(source);
+
+        if (new File(filePath).exists()) {
+            return false;
+        }
+        Optional<ReadOnlyClubBook> clubBook = source.readClubBook();
+        if (!clubBook.isPresent()) {
+            return false;
+        }
+        saveClubBook(clubBook.get());
+        logger.info("Migrated ClubBook data from " + source.getClubBookFilePath() + " to " + filePath);
+        return true;
+    }
+
+    /**
+     * Writes {@code modifiedSections} of {@code clubBook} to new section files, then replaces the manifest
+     * at {@code manifestFile} and deletes the section files it no longer refers to.
+     *
+     * @param oldManifest the manifest at {@code manifestFile}, or null if it is not known.
+     * @return the new manifest.
+     */
+    private Map<ClubBookSection, SectionFile> writeSections(ReadOnlyClubBook clubBook, File manifestFile,
+            Map<ClubBookSection, SectionFile> oldManifest, Set<ClubBookSection> modifiedSections) throws IOException {
+        if (oldManifest == null) {
+            // The section files of an existing manifest must not be overwritten before the manifest is replaced.
+            oldManifest = readManifestIfValid(manifestFile);
+            modifiedSections = EnumSet.allOf(ClubBookSection.class);
+        }
+
+        Map<ClubBookSection, SectionFile> newManifest = new EnumMap<>(ClubBookSection.class);
+        for (ClubBookSection section : ClubBookSection.values()) {
+            SectionFile oldSectionFile = (oldManifest == null) ? null : oldManifest.get(section);
+            if (!modifiedSections.contains(section)) {
+                newManifest.put(section, oldSectionFile);
+                continue;
+            }
+
+            long version = (oldSectionFile == null) ? 1 : oldSectionFile.version + 1;
+            File sectionFile = new File(getSectionFilePath(manifestFile.getPath(), section, version));
+            FileUtil.createIfMissing(sectionFile);
+            XmlFileStorage.saveClubBookToFile(sectionFile, clubBook, EnumSet.of(section));
+            newManifest.put(section, new SectionFile(version, FileUtil.getChecksum(sectionFile)));
+        }
+
+        writeManifest(manifestFile, newManifest);
+
+        if (oldManifest != null) {
+            for (ClubBookSection section : modifiedSections) {
+                File oldFile = new File(getSectionFilePath(manifestFile.getPath(), section,
+                        oldManifest.get(section).version));
+                if (oldFile.exists() && !oldFile.delete()) {
+                    logger.warning("Unable to delete the old club book section file " + oldFile);
+                }
+            }
+        }
+        return newManifest;
+    }
+
+    /**
+     * Replaces the manifest at {@code manifestFile} with {@code manifest} in a single step.
+     */
+    private static void writeManifest(File manifestFile, Map<ClubBookSection, SectionFile> manifest)
+            throws IOException {
+        File temporaryFile = new File(manifestFile.getPath() + TEMPORARY_FILE_SUFFIX);
+        FileUtil.createIfMissing(temporaryFile);
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(temporaryFile), UTF_8)) {
+            writer.write(MANIFEST_HEADER + "\n");
+            for (Map.Entry<ClubBookSection, SectionFile> entry : manifest.entrySet()) {
+                writer.write(entry.getKey() + SEPARATOR + entry.getValue().version + SEPARATOR
+                        + Long.toHexString(entry.getValue().checksum) + "\n");
+            }
+        }
+
+        try {
+            Files.move(temporaryFile.toPath(), manifestFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(temporaryFile.toPath(), manifestFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the section files listed in the manifest at {@code manifestFile}.
+     *
+     * @throws DataConversionException if the manifest is not in the correct format or does not list every section.
+     */
+    private static Map<ClubBookSection, SectionFile> readManifest(File manifestFile)
+            throws DataConversionException, IOException {
+        Map<ClubBookSection, SectionFile> manifest = new EnumMap<>(ClubBookSection.class);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(manifestFile),
+                UTF_8))) {
+            if (!MANIFEST_HEADER.equals(reader.readLine())) {
+                throw new DataConversionException(new IllegalValueException(
+                        manifestFile + " is not a club book manifest"));
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(SEPARATOR);
+                ClubBookSection section = parseSection(parts[0]);
+                if (parts.length != 3 || section == null || !parts[1].matches("\\d+")
+                        || !parts[2].matches("[0-9a-f]+")) {
+                    throw new DataConversionException(new IllegalValueException(
+                            "Unreadable entry in the club book manifest " + manifestFile + ": " + line));
+                }
+                manifest.put(section, new SectionFile(Long.parseLong(parts[1]), Long.parseLong(parts[2], 16)));
+            }
+        }
+
+        if (manifest.size() != ClubBookSection.values().length) {
+            throw new DataConversionException(new IllegalValueException(
+                    "The club book manifest " + manifestFile + " does not list every section"));
+        }
+        return manifest;
+    }
+
+    /**
+     * Similar to {@link #readManifest(File)}, but returns null if the manifest is missing or cannot be read.
+     */
+    private static Map<ClubBookSection, SectionFile> readManifestIfValid(File manifestFile) {
+        if (!manifestFile.exists()) {
+            return null;
+        }
+        try {
+            return readManifest(manifestFile);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Overwriting the unreadable club book manifest " + manifestFile);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the section called {@code sectionName}, or null if there is no such section.
+     */
+    private static ClubBookSection parseSection(String sectionName) {
+        for (ClubBookSection section : ClubBookSection.values()) {
+            if (section.toString().equals(sectionName)) {
+                return section;
+            }
+        }
+        return null;
+    }
+
+    private void recordSavedVersions(ReadOnlyClubBook clubBook) {
+        for (ClubBookSection section : ClubBookSection.values()) {
+            savedSectionVersions.put(section, clubBook.getSectionVersion(section));
+        }
+    }
+
+    /**
+     * The version and checksum of a section file, as listed in a manifest.
+     */
+    private static class SectionFile {
+        private final long version;
+        private final long checksum;
+
+        SectionFile(long version, long checksum) {
+            this.version = version;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.club.storage;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.club.commons.events.model.ClubBookChangedEvent;
@@ -11,8 +12,10 @@ import seedu.club.commons.events.storage.DataSavingExceptionEvent;
 import seedu.club.commons.exceptions.DataConversionException;
 import seedu.club.commons.exceptions.PhotoReadException;
 import seedu.club.commons.exceptions.PhotoWriteException;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.UserPrefs;
+import seedu.club.model.member.Member;
 
 /**
  * API of the Storage component
@@ -34,6 +37,9 @@ public interface Storage extends ClubBookStorage, UserPrefsStorage, PhotoStorage
     @Override
     void saveClubBook(ReadOnlyClubBook clubBook) throws IOException;
 
+    @Override
+    void flushClubBook() throws IOException;
+
     /**
      * Saves the current version of the Club Book to the hard disk.
      *   Creates the data file if it is missing.
@@ -62,13 +68,14 @@ public interface Storage extends ClubBookStorage, UserPrefsStorage, PhotoStorage
     void handleProfilePictureChangedEvent(ProfilePhotoChangedEvent event);
 
     /**
-     * Writes the {@code data} to the {@code exportFile}.
+     * Writes the data of {@code members} in {@code columns} to the {@code exportFile}.
      *
-     * @param data Data that is to be written to the file.
+     * @param members Members whose data is to be written to the file.
+     * @param columns Columns of member data that are to be written to the file.
      * @param exportFile File to which data is to be exported.
      * @throws IOException Thrown if there is an error writing to the file.
      */
-    void exportDataToFile(String data, File exportFile) throws IOException;
+    void exportMembersToFile(List<Member> members, List<CsvColumn> columns, File exportFile) throws IOException;
 
     /**
      * Writes data to a CSV file on the hard disk.
@@ -2,6 +2,7 @@ package seedu.club.storage;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -17,8 +18,10 @@ import seedu.club.commons.events.storage.DataSavingExceptionEvent;
 import seedu.club.commons.exceptions.DataConversionException;
 import seedu.club.commons.exceptions.PhotoReadException;
 import seedu.club.commons.exceptions.PhotoWriteException;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.UserPrefs;
+import seedu.club.model.member.Member;
 
 /**
  * Manages storage of ClubBook data in local storage.
@@ -78,7 +81,8 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public void saveClubBook(ReadOnlyClubBook clubBook) throws IOException {
-        saveClubBook(clubBook, clubBookStorage.getClubBookFilePath());
+        logger.fine("Attempting to write to data file: " + clubBookStorage.getClubBookFilePath());
+        clubBookStorage.saveClubBook(clubBook);
     }
 
     @Override
@@ -87,6 +91,12 @@ public class StorageManager extends ComponentManager implements Storage {
         clubBookStorage.saveClubBook(clubBook, filePath);
     }
 
+    @Override
+    public void flushClubBook() throws IOException {
+        logger.fine("Writing out pending saves to data file: " + clubBookStorage.getClubBookFilePath());
+        clubBookStorage.flushClubBook();
+    }
+
     @Override
     @Subscribe
     public void handleClubBookChangedEvent(ClubBookChangedEvent event) {
@@ -127,10 +137,11 @@ public class StorageManager extends ComponentManager implements Storage {
     // ================ CSV Storage methods ==============================
 
     @Override
-    public void exportDataToFile(String data, File exportFile) throws IOException {
+    public void exportMembersToFile(List<Member> members, List<CsvColumn> columns, File exportFile)
+            throws IOException {
         csvClubBookStorage.setClubBookFile(exportFile);
         logger.fine("Attempting to export data to file: " + csvClubBookStorage.getClubBookFile());
-        csvClubBookStorage.saveData(data);
+        csvClubBookStorage.saveMembers(members, columns);
     }
 
     @Override
@@ -139,7 +150,7 @@ public class StorageManager extends ComponentManager implements Storage {
         assert event.exportFile != null : "exportFile should be pointing to a valid file";
 
         try {
-            exportDataToFile(event.data, event.exportFile);
+            exportMembersToFile(event.members, event.columns, event.exportFile);
         } catch (IOException e) {
             event.setDataExported(false);
             raise(new DataSavingExceptionEvent(e));
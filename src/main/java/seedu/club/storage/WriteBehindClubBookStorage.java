@@ -0,0 +1,214 @@
+package seedu.club.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.club.commons.core.LogsCenter;
+import seedu.club.commons.exceptions.DataConversionException;
+import seedu.club.model.ReadOnlyClubBook;
+
+/**
+ * A {@link ClubBookStorage} that takes saves off the calling thread.
+ * Saves that arrive within {@code saveDelay} milliseconds of each other are coalesced into a single write
+ * of the latest state, which is done by the wrapped {@code ClubBookStorage} on a background thread.
+ *
+ * Errors from a background write are reported by the next call to {@link #saveClubBook(ReadOnlyClubBook)}
+ * or {@link #flushClubBook()}, so that they surface on the thread that asked for the save.
+ */
+public class WriteBehindClubBookStorage implements ClubBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindClubBookStorage.class);
+    private static final String SAVE_THREAD_NAME = "ClubBook-Saver";
+
+    private final ClubBookStorage clubBookStorage;
+    private final long saveDelay;
+    private final ScheduledExecutorService saveExecutor;
+    private final Object writeLock = new Object();
+
+    private final AtomicReference<ReadOnlyClubBook> pendingClubBook = new AtomicReference<>();
+    private final AtomicReference<IOException> failedSave = new AtomicReference<>();
+    private final AtomicInteger pendingSaveCount = new AtomicInteger();
+    private final AtomicLong completedSaveCount = new AtomicLong();
+    private final AtomicLong totalSaveNanos = new AtomicLong();
+    private volatile long lastSaveNanos;
+    private ScheduledFuture<?> scheduledSave;
+
+    /**
+     * @param clubBookStorage the storage that performs the actual writes. Cannot be null.
+     * @param saveDelay time in milliseconds to wait for further changes before writing.
+     */
+    public WriteBehindClubBookStorage(ClubBookStorage clubBookStorage, long saveDelay) {
+        requireNonNull(clubBookStorage);
+        this.clubBookStorage = clubBookStorage;
+        this.saveDelay = Math.max(0, saveDelay);
+        this.saveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread saveThread = new Thread(runnable, SAVE_THREAD_NAME);
+            saveThread.setDaemon(true);
+            return saveThread;
+        });
+    }
+
+    @Override
+    public String getClubBookFilePath() {
+        return clubBookStorage.getClubBookFilePath();
+    }
+
+    /**
+     * Returns the number of saves that have been accepted but not yet written.
+     */
+    public int getPendingSaveCount() {
+        return pendingSaveCount.get();
+    }
+
+    /**
+     * Returns the number of writes that have been completed by the wrapped storage.
+     */
+    public long getCompletedSaveCount() {
+        return completedSaveCount.get();
+    }
+
+    /**
+     * Returns the time taken by the most recent write, in milliseconds.
+     */
+    public long getLastSaveLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(lastSaveNanos);
+    }
+
+    /**
+     * Returns the average time taken by a write, in milliseconds.
+     */
+    public long getAverageSaveLatency() {
+        long saves = completedSaveCount.get();
+        return saves == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalSaveNanos.get() / saves);
+    }
+
+    /**
+     * Writes any pending save before reading, so that the data read reflects every accepted save.
+     */
+    @Override
+    public Optional<ReadOnlyClubBook> readClubBook() throws DataConversionException, IOException {
+        return readClubBook(clubBookStorage.getClubBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyClubBook> readClubBook(String filePath) throws DataConversionException, IOException {
+        rethrowFailedSave();
+        writePendingClubBook();
+        return clubBookStorage.readClubBook(filePath);
+    }
+
+    /**
+     * Queues {@code clubBook} to be written after {@code saveDelay} milliseconds.
+     * A snapshot of {@code clubBook} is taken, so later changes to it are not written by this save.
+     *
+     * @throws IOException if the previous background write failed.
+     */
+    @Override
+    public void saveClubBook(ReadOnlyClubBook clubBook) throws IOException {
+        requireNonNull(clubBook);
+        rethrowFailedSave();
+
+        pendingSaveCount.incrementAndGet();
+        pendingClubBook.set(clubBook.getSnapshot());
+        scheduleSave();
+    }
+
+    /**
+     * Queues the save if {@code filePath} is the file managed by this storage.
+     * Otherwise, {@code clubBook} is written to {@code filePath} immediately.
+     */
+    @Override
+    public void saveClubBook(ReadOnlyClubBook clubBook, String filePath) throws IOException {
+        requireNonNull(clubBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(clubBookStorage.getClubBookFilePath())) {
+            saveClubBook(clubBook);
+        } else {
+            clubBookStorage.saveClubBook(clubBook, filePath);
+        }
+    }
+
+    /**
+     * Writes the pending save, if any, on the calling thread.
+     *
+     * @throws IOException if this write or a previous background write failed.
+     */
+    @Override
+    public void flushClubBook() throws IOException {
+        rethrowFailedSave();
+        writePendingClubBook();
+        clubBookStorage.flushClubBook();
+    }
+
+    private synchronized void scheduleSave() {
+        if (scheduledSave == null) {
+            scheduledSave = saveExecutor.schedule(this::handleScheduledSave, saveDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the pending save on the background thread and keeps any error for the next caller.
+     */
+    private void handleScheduledSave() {
+        synchronized (this) {
+            // Saves accepted from here on schedule another write.
+            scheduledSave = null;
+        }
+        try {
+            writePendingClubBook();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save club book in the background: " + ioe.getMessage());
+            failedSave.set(ioe);
+        }
+    }
+
+    /**
+     * Writes the latest pending club book, if any, through the wrapped storage.
+     * The pending club book is kept if the write fails, so that it can be retried by the next flush.
+     */
+    private void writePendingClubBook() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyClubBook toSave = pendingClubBook.getAndSet(null);
+            if (toSave == null) {
+                return;
+            }
+            int coalescedSaves = pendingSaveCount.getAndSet(0);
+
+            long startTime = System.nanoTime();
+            try {
+                clubBookStorage.saveClubBook(toSave);
+            } catch (IOException ioe) {
+                pendingClubBook.compareAndSet(null, toSave);
+                pendingSaveCount.addAndGet(coalescedSaves);
+                throw ioe;
+            }
+            lastSaveNanos = System.nanoTime() - startTime;
+            totalSaveNanos.addAndGet(lastSaveNanos);
+            completedSaveCount.incrementAndGet();
+
+            logger.fine("Saved club book in " + getLastSaveLatency() + "ms, coalescing " + coalescedSaves
+                    + " changes");
+        }
+    }
+
+    /**
+     * Throws the error from the last background write, if it failed, so that it is only reported once.
+     */
+    private void rethrowFailedSave() throws IOException {
+        IOException ioe = failedSave.getAndSet(null);
+        if (ioe != null) {
+            throw ioe;
+        }
+    }
+}
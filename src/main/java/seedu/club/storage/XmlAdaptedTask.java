@@ -141,6 +141,7 @@ public class XmlAdaptedTask {
                 && Objects.equals(time, otherTask.time)
                 && Objects.equals(date, otherTask.date)
                 && Objects.equals(assignor, otherTask.assignor)
-                && Objects.equals(assignee, otherTask.assignee);
+                && Objects.equals(assignee, otherTask.assignee)
+                && Objects.equals(status, otherTask.status);
     }
 }
@@ -19,6 +19,8 @@ import seedu.club.model.ReadOnlyClubBook;
  */
 public class XmlClubBookStorage implements ClubBookStorage {
 
+    public static final String FORMAT_NAME = "xml";
+
     private static final Logger logger = LogsCenter.getLogger(XmlClubBookStorage.class);
 
     private String filePath;
@@ -52,9 +54,8 @@ public class XmlClubBookStorage implements ClubBookStorage {
             return Optional.empty();
         }
 
-        XmlSerializableClubBook xmlClubBook = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
         try {
-            return Optional.of(xmlClubBook.toModelType());
+            return Optional.of(XmlFileStorage.loadClubBookFromSaveFile(clubBookFile));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + clubBookFile + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -76,7 +77,13 @@ public class XmlClubBookStorage implements ClubBookStorage {
 
         File file = new File(filePath);
         FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableClubBook(clubBook));
+        XmlFileStorage.saveClubBookToFile(file, clubBook);
     }
 
+    /**
+     * Does nothing, as every save is written to the file immediately.
+     */
+    @Override
+    public void flushClubBook() throws IOException {}
+
 }
@@ -1,17 +1,61 @@
 package seedu.club.storage;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import seedu.club.commons.exceptions.DataConversionException;
+import seedu.club.commons.exceptions.IllegalValueException;
 import seedu.club.commons.util.XmlUtil;
+import seedu.club.model.ClubBook;
+import seedu.club.model.ClubBookSection;
+import seedu.club.model.ReadOnlyClubBook;
+import seedu.club.model.member.Member;
+import seedu.club.model.poll.Poll;
+import seedu.club.model.tag.Tag;
+import seedu.club.model.task.Task;
 
 /**
  * Stores clubbook data in an XML file
  */
 public class XmlFileStorage {
+
+    public static final String MESSAGE_DUPLICATE_TAG = "Operation would result in duplicate tags";
+
+    private static final String ENCODING = "UTF-8";
+    private static final String ROOT_ELEMENT = "clubbook";
+    private static final String MEMBER_ELEMENT = "members";
+    private static final String TAG_ELEMENT = "tags";
+    private static final String POLL_ELEMENT = "polls";
+    private static final String TASK_ELEMENT = "tasks";
+
+    private static final JAXBContext ELEMENT_CONTEXT = createElementContext();
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
     /**
      * Saves the given clubbook data to the specified file.
      */
@@ -36,4 +80,212 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Saves the given club book to the specified file in the same format as {@link XmlSerializableClubBook},
+     * converting one member, tag, poll or task at a time instead of the whole club book at once.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     */
+    public static void saveClubBookToFile(File file, ReadOnlyClubBook clubBook) throws IOException {
+        saveClubBookToFile(file, clubBook, EnumSet.allOf(ClubBookSection.class));
+    }
+
+    /**
+     * Similar to {@link #saveClubBookToFile(File, ReadOnlyClubBook)}, but only saves the lists in {@code sections}.
+     */
+    public static void saveClubBookToFile(File file, ReadOnlyClubBook clubBook, Set<ClubBookSection> sections)
+            throws IOException {
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out, ENCODING);
+            Marshaller marshaller = createElementMarshaller();
+
+            writer.writeStartDocument(ENCODING, "1.0");
+            writer.writeCharacters("\n");
+            writer.writeStartElement(ROOT_ELEMENT);
+            if (sections.contains(ClubBookSection.MEMBERS)) {
+                for (Member member : clubBook.getMemberList()) {
+                    writeElement(writer, marshaller, MEMBER_ELEMENT, XmlAdaptedMember.class,
+                            new XmlAdaptedMember(member));
+                }
+            }
+            if (sections.contains(ClubBookSection.TAGS)) {
+                for (Tag tag : clubBook.getTagList()) {
+                    writeElement(writer, marshaller, TAG_ELEMENT, XmlAdaptedTag.class, new XmlAdaptedTag(tag));
+                }
+            }
+            if (sections.contains(ClubBookSection.POLLS)) {
+                for (Poll poll : clubBook.getPollList()) {
+                    writeElement(writer, marshaller, POLL_ELEMENT, XmlAdaptedPoll.class, new XmlAdaptedPoll(poll));
+                }
+            }
+            if (sections.contains(ClubBookSection.TASKS)) {
+                for (Task task : clubBook.getTaskList()) {
+                    writeElement(writer, marshaller, TASK_ELEMENT, XmlAdaptedTask.class, new XmlAdaptedTask(task));
+                }
+            }
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException | JAXBException e) {
+            throw new IOException("Unable to write the club book to " + file, e);
+        }
+    }
+
+    /**
+     * Returns the club book in the file, converting each member, tag, poll and task into a model object
+     * as soon as it is read, so that the whole file is never held in memory as JAXB objects.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static ClubBook loadClubBookFromSaveFile(File file) throws DataConversionException,
+            FileNotFoundException, IllegalValueException {
+        return loadClubBookFromSaveFiles(Collections.singletonList(file));
+    }
+
+    /**
+     * Returns the club book made up of the members, tags, polls and tasks in all of {@code files},
+     * which are read in order as if they were a single file.
+     *
+     * @throws FileNotFoundException if any of the files is missing.
+     * @throws DataConversionException if any of the files is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the files.
+     */
+    public static ClubBook loadClubBookFromSaveFiles(List<File> files) throws DataConversionException,
+            FileNotFoundException, IllegalValueException {
+        for (File file : files) {
+            if (!file.exists()) {
+                throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+            }
+        }
+
+        ClubBook clubBook = new ClubBook();
+        Set<Tag> listedTags = new HashSet<>();
+        try {
+            Unmarshaller unmarshaller = ELEMENT_CONTEXT.createUnmarshaller();
+            for (File file : files) {
+                readClubBookFile(file, unmarshaller, clubBook, listedTags);
+            }
+            return clubBook;
+        } catch (XMLStreamException | JAXBException e) {
+            throw new DataConversionException(e);
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Returns the context for the JAXB-friendly versions of the members, tags, polls and tasks of a club book.
+     */
+    static JAXBContext getElementContext() {
+        return ELEMENT_CONTEXT;
+    }
+
+    /**
+     * Creates a marshaller that writes a single member, tag, poll or task as an XML fragment.
+     */
+    static Marshaller createElementMarshaller() throws JAXBException {
+        Marshaller marshaller = ELEMENT_CONTEXT.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        return marshaller;
+    }
+
+    /**
+     * Reads every element in {@code file} into {@code clubBook}.
+     */
+    private static void readClubBookFile(File file, Unmarshaller unmarshaller, ClubBook clubBook,
+                                         Set<Tag> listedTags)
+            throws IOException, XMLStreamException, JAXBException, DataConversionException, IllegalValueException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            if (reader.nextTag() != XMLStreamReader.START_ELEMENT || !ROOT_ELEMENT.equals(reader.getLocalName())) {
+                throw new DataConversionException(new IllegalValueException(
+                        "Expected a <" + ROOT_ELEMENT + "> element in " + file));
+            }
+            reader.next();
+
+            while (reader.getEventType() != XMLStreamReader.END_DOCUMENT) {
+                if (reader.isStartElement()) {
+                    readElement(reader, unmarshaller, clubBook, listedTags);
+                } else {
+                    reader.next();
+                }
+            }
+            reader.close();
+        }
+    }
+
+    private static <A> void writeElement(XMLStreamWriter writer, Marshaller marshaller, String name,
+                                         Class<A> adaptedClass, A adapted)
+            throws XMLStreamException, JAXBException {
+        writer.writeCharacters("\n    ");
+        marshaller.marshal(new JAXBElement<>(new QName(name), adaptedClass, adapted), writer);
+    }
+
+    /**
+     * Reads the element at the current position of {@code reader} into {@code clubBook}, and moves past it.
+     * Tags are added as in {@link XmlSerializableClubBook#toModelType()}, except that a tag may already have been
+     * added by a member read earlier. {@code listedTags} holds the tags read so far, to catch duplicates.
+     */
+    private static void readElement(XMLStreamReader reader, Unmarshaller unmarshaller, ClubBook clubBook,
+                                    Set<Tag> listedTags)
+            throws JAXBException, XMLStreamException, IllegalValueException {
+        switch (reader.getLocalName()) {
+        case MEMBER_ELEMENT:
+            clubBook.addMember(unmarshaller.unmarshal(reader, XmlAdaptedMember.class).getValue().toModelType());
+            break;
+        case TAG_ELEMENT:
+            Tag tag = unmarshaller.unmarshal(reader, XmlAdaptedTag.class).getValue().toModelType();
+            if (!listedTags.add(tag)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_TAG);
+            }
+            if (!clubBook.getTagList().contains(tag)) {
+                clubBook.addTag(tag);
+            }
+            break;
+        case POLL_ELEMENT:
+            clubBook.addPoll(unmarshaller.unmarshal(reader, XmlAdaptedPoll.class).getValue().toModelType());
+            break;
+        case TASK_ELEMENT:
+            clubBook.addTaskToTaskList(unmarshaller.unmarshal(reader, XmlAdaptedTask.class).getValue().toModelType());
+            break;
+        default:
+            skipElement(reader);
+            break;
+        }
+    }
+
+    /**
+     * Moves {@code reader} past the element at its current position, which is ignored as it would be by JAXB.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        do {
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+            reader.next();
+        } while (depth > 0);
+    }
+
+    /**
+     * Creates the context returned by {@link #getElementContext()}.
+     */
+    private static JAXBContext createElementContext() {
+        try {
+            return JAXBContext.newInstance(XmlAdaptedMember.class, XmlAdaptedTag.class, XmlAdaptedPoll.class,
+                    XmlAdaptedTask.class);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage());
+        }
+    }
+
 }
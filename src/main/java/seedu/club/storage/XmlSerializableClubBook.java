@@ -48,6 +48,18 @@ public class XmlSerializableClubBook {
         tasks.addAll(src.getTaskList().stream().map(XmlAdaptedTask::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Creates an XmlSerializableClubBook from lists of already adapted members, tags, polls and tasks.
+     */
+    XmlSerializableClubBook(List<XmlAdaptedMember> members, List<XmlAdaptedTag> tags, List<XmlAdaptedPoll> polls,
+                            List<XmlAdaptedTask> tasks) {
+        this();
+        this.members.addAll(members);
+        this.tags.addAll(tags);
+        this.polls.addAll(polls);
+        this.tasks.addAll(tasks);
+    }
+
     /**
      * Converts this clubbook into the model's {@code ClubBook} object.
      *
@@ -1,13 +1,16 @@
 package seedu.club.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.Test;
@@ -107,6 +110,47 @@ public class CollectionUtilTest {
         assertNotUnique(null, "a", "b", null);
     }
 
+    @Test
+    public void addSorted() {
+        List<String> sortedList = new ArrayList<>();
+        Comparator<String> byLength = Comparator.comparing(String::length);
+
+        // empty list
+        CollectionUtil.addSorted(sortedList, "bb", byLength);
+        assertEquals(Arrays.asList("bb"), sortedList);
+
+        // first and last positions
+        CollectionUtil.addSorted(sortedList, "a", byLength);
+        CollectionUtil.addSorted(sortedList, "dddd", byLength);
+        assertEquals(Arrays.asList("a", "bb", "dddd"), sortedList);
+
+        // equal elements -> inserted after them
+        CollectionUtil.addSorted(sortedList, "cc", byLength);
+        CollectionUtil.addSorted(sortedList, "c", byLength);
+        assertEquals(Arrays.asList("a", "c", "bb", "cc", "dddd"), sortedList);
+    }
+
+    @Test
+    public void replaceRange() {
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b", "c", "d"));
+
+        // same number of elements
+        CollectionUtil.replaceRange(list, 1, 2, Arrays.asList("x"));
+        assertEquals(Arrays.asList("a", "x", "c", "d"), list);
+
+        // fewer elements
+        CollectionUtil.replaceRange(list, 1, 3, Arrays.asList("y"));
+        assertEquals(Arrays.asList("a", "y", "d"), list);
+
+        // more elements
+        CollectionUtil.replaceRange(list, 3, 3, Arrays.asList("e", "f"));
+        assertEquals(Arrays.asList("a", "y", "d", "e", "f"), list);
+
+        // no elements
+        CollectionUtil.replaceRange(list, 0, 2, Collections.emptyList());
+        assertEquals(Arrays.asList("d", "e", "f"), list);
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,78 @@
+package seedu.club.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CsvReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_nullReader_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new CsvReader(null);
+    }
+
+    @Test
+    public void readRecord_emptyInput_returnsNull() throws Exception {
+        assertNull(new CsvReader(new StringReader("")).readRecord());
+    }
+
+    @Test
+    public void readRecord_unquotedFields_success() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b,,c\nd\n"));
+
+        assertEquals(Arrays.asList("a", "b", "", "c"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(Arrays.asList("d"), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_success() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"a,b\",\"say \"\"hi\"\"\",\"\"\r\n\"x\""));
+
+        assertEquals(Arrays.asList("a,b", "say \"hi\"", ""), reader.readRecord());
+        assertEquals(Arrays.asList("x"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_lineBreakInQuotedField_lineNumbersCounted() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"first\nsecond\",a\r\nb\rc"));
+
+        assertEquals(Arrays.asList("first\nsecond", "a"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(Arrays.asList("b"), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+        assertEquals(Arrays.asList("c"), reader.readRecord());
+        assertEquals(4, reader.getRecordLineNumber());
+    }
+
+    @Test
+    public void readRecord_malformedQuotes_readLeniently() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a\"b,\"c\"d,\"open"));
+
+        assertEquals(Arrays.asList("a\"b", "cd", "open"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void close_readerClosed_throwsIoException() throws Exception {
+        StringReader stringReader = new StringReader("a");
+        new CsvReader(stringReader).close();
+
+        thrown.expect(IOException.class);
+        stringReader.read();
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.club.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.club.testutil.TypicalMembers.getTypicalMembers;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.club.model.group.Group;
+import seedu.club.model.member.Member;
+import seedu.club.testutil.MemberBuilder;
+
+public class CsvUtilTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readMembersFromFile_typicalMembers_readInBatches() throws Exception {
+        List<Member> typicalMembers = getTypicalMembers();
+        File file = writeCsvFile(typicalMembers, "");
+
+        List<List<Member>> batches = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        int rowCount = CsvUtil.readMembersFromFile(file, 2, batch -> batches.add(new ArrayList<>(batch)), errors::add);
+
+        assertEquals(typicalMembers.size(), rowCount);
+        assertTrue(errors.isEmpty());
+        assertEquals((typicalMembers.size() + 1) / 2, batches.size());
+        List<Member> readMembers = new ArrayList<>();
+        for (List<Member> batch : batches) {
+            assertTrue(batch.size() <= 2);
+            readMembers.addAll(batch);
+        }
+        assertEquals(typicalMembers, readMembers);
+    }
+
+    @Test
+    public void readMembersFromFile_missingFields_rowReported() throws Exception {
+        File file = writeCsvFile(getTypicalMembers().subList(0, 1), "\"Alice Pauline\",\"85355255\"");
+
+        List<Member> readMembers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        assertEquals(2, CsvUtil.readMembersFromFile(file, 10, readMembers::addAll, errors::add));
+        assertEquals(1, readMembers.size());
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).startsWith("Skipped line 3"));
+    }
+
+    @Test
+    public void readMembersFromFile_quotedFieldsAndReorderedColumns_success() throws Exception {
+        File file = testFolder.newFile("reordered.csv");
+        FileUtil.writeToFile(file, "\"Email\",\"Tags\",\"Matriculation Number\",\"name\",\"Phone\"\n"
+                + "\"alice@example.com\",\"head,\nfriends\",\"A9210701B\",\"Alice Pauline\",\"85355255\"\n");
+
+        List<Member> readMembers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        assertEquals(1, CsvUtil.readMembersFromFile(file, 10, readMembers::addAll, errors::add));
+
+        assertTrue(errors.isEmpty());
+        Member expectedMember = new MemberBuilder().withName("Alice Pauline").withPhone("85355255")
+                .withEmail("alice@example.com").withMatricNumber("A9210701B").withGroup(Group.DEFAULT_GROUP)
+                .withTags("head", "friends").build();
+        assertEquals(Arrays.asList(expectedMember), readMembers);
+    }
+
+    @Test
+    public void readMembersFromFile_invalidRowAfterLineBreakInField_lineReported() throws Exception {
+        File file = writeCsvFile(new ArrayList<>(),
+                "\"Alice\",\"85355255\",\"alice@example.com\",\"A9210701B\",\"logistics\",\"head,\nfriends\"\n"
+                + "\"Benson\",\"9W8AF432\",\"b@example.com\",\"A8389539B\",\"\",\"\"\n");
+
+        List<Member> readMembers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        CsvUtil.readMembersFromFile(file, 10, readMembers::addAll, errors::add);
+
+        assertEquals(1, readMembers.size());
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).startsWith("Skipped line 4"));
+    }
+
+    @Test
+    public void readMembersFromFile_manyRowsWithInvalidRows_orderKept() throws Exception {
+        List<Member> expectedMembers = new ArrayList<>();
+        List<Integer> expectedErrorLines = new ArrayList<>();
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            if (i % 7 == 0) {
+                rows.append("\"Invalid ").append(i).append("\",\"not a phone\",\"\",\"\",\"\",\"\"\n");
+                expectedErrorLines.add(i + 2);
+                continue;
+            }
+            Member member = new MemberBuilder().withName("Member " + i).withPhone(String.format("9%07d", i))
+                    .withEmail("member" + i + "@example.com").withMatricNumber(String.format("A%07dB", i)).build();
+            rows.append(CsvUtil.toCsvFormat(member));
+            expectedMembers.add(member);
+        }
+        File file = writeCsvFile(new ArrayList<>(), rows.toString());
+
+        List<Member> readMembers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        assertEquals(500, CsvUtil.readMembersFromFile(file, 200, readMembers::addAll, errors::add));
+
+        assertEquals(expectedMembers, readMembers);
+        assertEquals(expectedErrorLines.size(), errors.size());
+        for (int i = 0; i < errors.size(); i++) {
+            assertTrue(errors.get(i).startsWith("Skipped line " + expectedErrorLines.get(i) + " "));
+        }
+    }
+
+    @Test
+    public void toCsvFormat_readBack_sameMembers() throws Exception {
+        List<Member> typicalMembers = getTypicalMembers();
+        File file = writeCsvFile(typicalMembers, "");
+
+        List<Member> readMembers = new ArrayList<>();
+        CsvUtil.readMembersFromFile(file, CsvUtil.DEFAULT_BATCH_SIZE, readMembers::addAll, errors -> { });
+        assertEquals(typicalMembers, readMembers);
+    }
+
+    @Test
+    public void writeMembers_selectedColumns_onlySelectedColumnsWritten() throws Exception {
+        Member member = new MemberBuilder().withName("Alice Pauline").withEmail("alice@example.com")
+                .withTags("head", "friends").build();
+        StringWriter writer = new StringWriter();
+
+        CsvUtil.writeMembers(writer, Arrays.asList(member), Arrays.asList(CsvColumn.EMAIL, CsvColumn.NAME));
+
+        String newline = System.lineSeparator();
+        assertEquals("\"Email\",\"Name\"" + newline + "\"alice@example.com\",\"Alice Pauline\"" + newline,
+                writer.toString());
+    }
+
+    @Test
+    public void writeMembers_noColumns_throwsIllegalArgumentException() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        CsvUtil.writeMembers(new StringWriter(), getTypicalMembers(), new ArrayList<>());
+    }
+
+    @Test
+    public void readMembersFromFile_invalidBatchSize_throwsIllegalArgumentException() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        CsvUtil.readMembersFromFile(testFolder.newFile("empty.csv"), 0, batch -> { }, error -> { });
+    }
+
+    /**
+     * Writes {@code members} in CSV format, followed by {@code extraRows}, to a new file.
+     */
+    private File writeCsvFile(List<Member> members, String extraRows) throws Exception {
+        StringBuilder data = new StringBuilder(CsvUtil.getHeaders());
+        members.forEach(member -> data.append(CsvUtil.toCsvFormat(member)));
+        data.append(extraRows);
+
+        File file = testFolder.newFile("members.csv");
+        FileUtil.writeToFile(file, data.toString());
+        return file;
+    }
+}
@@ -1,18 +1,23 @@
 package seedu.club.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 import java.io.File;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 public class FileUtilTest {
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void getPath() {
 
@@ -28,4 +33,24 @@ public class FileUtilTest {
         FileUtil.getPath("folder");
     }
 
+    @Test
+    public void replaceExtension() {
+        assertEquals("data" + File.separator + "clubbook.bin",
+                FileUtil.replaceExtension("data" + File.separator + "clubbook.xml", ".bin"));
+        assertEquals("data.d" + File.separator + "clubbook.bin",
+                FileUtil.replaceExtension("data.d" + File.separator + "clubbook", ".bin"));
+        assertEquals("clubbook", FileUtil.replaceExtension("clubbook.xml", ""));
+    }
+
+    @Test
+    public void getChecksum() throws Exception {
+        File file = testFolder.newFile("checksum.txt");
+        FileUtil.writeToFile(file, "club");
+        long checksum = FileUtil.getChecksum(file);
+        assertEquals(checksum, FileUtil.getChecksum(file));
+
+        FileUtil.writeToFile(file, "clubs");
+        assertNotEquals(checksum, FileUtil.getChecksum(file));
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.club.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -247,4 +248,23 @@ public class StringUtilTest {
         assertTrue(StringUtil.partiallyContainsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullString_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.getEditDistance(null, "abc");
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(3, StringUtil.getEditDistance("", "abc")); // Boundary case
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice"));
+        assertEquals(1, StringUtil.getEditDistance("bob", "rob")); // Replaced character
+        assertEquals(1, StringUtil.getEditDistance("alice", "alie")); // Deleted character
+        assertEquals(1, StringUtil.getEditDistance("alice", "allice")); // Inserted character
+        assertEquals(2, StringUtil.getEditDistance("alice", "alcie")); // Swapped characters
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+    }
 }
@@ -78,6 +78,33 @@ public class XmlUtilTest {
         assertEquals(0, dataFromFile.getTagList().size());
     }
 
+    @Test
+    public void getDataFromFile_afterFailedRead_validResult() throws Exception {
+        try {
+            XmlUtil.getDataFromFile(EMPTY_FILE, XmlSerializableClubBook.class);
+        } catch (JAXBException e) {
+            // the unmarshaller kept for this thread should still be usable
+        }
+        ClubBook dataFromFile = XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableClubBook.class).toModelType();
+        assertEquals(9, dataFromFile.getMemberList().size());
+    }
+
+    @Test
+    public void getDataFromFile_differentThreads_sameResult() throws Exception {
+        XmlSerializableClubBook dataFromFile = XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableClubBook.class);
+        XmlSerializableClubBook[] dataFromOtherThread = new XmlSerializableClubBook[1];
+        Thread otherThread = new Thread(() -> {
+            try {
+                dataFromOtherThread[0] = XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableClubBook.class);
+            } catch (FileNotFoundException | JAXBException e) {
+                throw new AssertionError(e);
+            }
+        });
+        otherThread.start();
+        otherThread.join();
+        assertEquals(dataFromFile, dataFromOtherThread[0]);
+    }
+
     @Test
     public void xmlAdaptedMemberFromFile_fileWithMissingMemberField_validResult() throws Exception {
         XmlAdaptedMember actualMember = XmlUtil.getDataFromFile(
@@ -84,6 +84,58 @@ public class UndoRedoStackTest {
         assertStackStatus(Collections.singletonList(dummyUndoableCommandOne), Collections.emptyList());
     }
 
+    @Test
+    public void push_undoLimitReached_oldestCommandDropped() {
+        DummyUndoableCommand dummyUndoableCommandThree = new DummyUndoableCommand();
+        undoRedoStack = new UndoRedoStack(2);
+        undoRedoStack.push(dummyUndoableCommandOne);
+        undoRedoStack.push(dummyUndoableCommandTwo);
+        undoRedoStack.push(dummyUndoableCommandThree);
+
+        assertStackStatus(Arrays.asList(dummyUndoableCommandTwo, dummyUndoableCommandThree), Collections.emptyList());
+    }
+
+    @Test
+    public void push_editSizeLimitReached_oldestCommandsDropped() {
+        SizedUndoableCommand smallCommand = new SizedUndoableCommand(2);
+        SizedUndoableCommand largeCommand = new SizedUndoableCommand(4);
+        SizedUndoableCommand hugeCommand = new SizedUndoableCommand(10);
+        undoRedoStack = new UndoRedoStack(UndoRedoStack.DEFAULT_UNDO_LIMIT, 6);
+
+        // within the limit -> all kept
+        undoRedoStack.push(smallCommand);
+        undoRedoStack.push(largeCommand);
+        assertStackStatus(Arrays.asList(smallCommand, largeCommand), Collections.emptyList());
+
+        // over the limit -> oldest dropped
+        undoRedoStack.push(smallCommand);
+        assertStackStatus(Arrays.asList(largeCommand, smallCommand), Collections.emptyList());
+
+        // single command over the limit -> kept alone
+        undoRedoStack.push(hugeCommand);
+        assertStackStatus(Collections.singletonList(hugeCommand), Collections.emptyList());
+    }
+
+    @Test
+    public void constructor_nonPositiveEditSizeLimit_throwsIllegalArgumentException() {
+        try {
+            new UndoRedoStack(UndoRedoStack.DEFAULT_UNDO_LIMIT, 0);
+            fail("An edit size limit of 0 should not be accepted.");
+        } catch (IllegalArgumentException iae) {
+            // expected behavior
+        }
+    }
+
+    @Test
+    public void constructor_nonPositiveUndoLimit_throwsIllegalArgumentException() {
+        try {
+            new UndoRedoStack(0);
+            fail("An undo limit of 0 should not be accepted.");
+        } catch (IllegalArgumentException iae) {
+            // expected behavior
+        }
+    }
+
     @Test
     public void canUndo() {
         // empty undo stack
@@ -244,4 +296,20 @@ public class UndoRedoStackTest {
             return new CommandResult("");
         }
     }
+
+    /**
+     * An undoable command whose recorded changes hold a fixed number of elements.
+     */
+    class SizedUndoableCommand extends DummyUndoableCommand {
+        private final int editSize;
+
+        SizedUndoableCommand(int editSize) {
+            this.editSize = editSize;
+        }
+
+        @Override
+        public int getEditSize() {
+            return editSize;
+        }
+    }
 }
@@ -10,9 +10,11 @@ import static seedu.club.testutil.TypicalTasks.BUY_CONFETTI;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -23,10 +25,12 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.ObservableList;
 import seedu.club.commons.core.index.Index;
 import seedu.club.commons.exceptions.PhotoReadException;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.logic.CommandHistory;
 import seedu.club.logic.UndoRedoStack;
 import seedu.club.logic.commands.exceptions.CommandException;
 import seedu.club.model.ClubBook;
+import seedu.club.model.ClubBookEdit;
 import seedu.club.model.Model;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.email.Body;
@@ -168,6 +172,41 @@ public class AddTaskCommandTest {
             return null;
         }
 
+        @Override
+        public ClubBookEdit startEdit() {
+            return new ClubBook().startRecording();
+        }
+
+        @Override
+        public void stopEdit(ClubBookEdit edit) {
+        }
+
+        @Override
+        public void revertEdit(ClubBookEdit edit) {
+            fail("This method should not be called");
+        }
+
+        @Override
+        public List<Task> getMyTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+            fail("This method should not be called");
+            return null;
+        }
+
+        @Override
+        public void beginBatch() {
+            fail("This method should not be called");
+        }
+
+        @Override
+        public void commitBatch() {
+            fail("This method should not be called");
+        }
+
+        @Override
+        public void rollbackBatch() {
+            fail("This method should not be called");
+        }
+
         @Override
         public void viewAllTasks() throws TasksAlreadyListedException {
             fail("This method should not be called");
@@ -202,6 +241,12 @@ public class AddTaskCommandTest {
             return;
         }
 
+        @Override
+        public Member getMemberByMatricNumber(MatricNumber matricNumber) throws MemberNotFoundException {
+            fail("This method should not be called");
+            return null;
+        }
+
         @Override
         public int updateMember(Member target, Member editedMember) throws DuplicateMatricNumberException,
                 MemberNotFoundException {
@@ -310,7 +355,8 @@ public class AddTaskCommandTest {
         }
 
         @Override
-        public void exportClubConnectMembers(File exportFilePath) {
+        public void exportClubConnectMembers(File exportFilePath, List<CsvColumn> columns,
+                                             boolean isFilteredListExported) {
             fail("This method should not be called");
         }
 
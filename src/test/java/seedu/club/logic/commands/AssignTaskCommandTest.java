@@ -12,9 +12,11 @@ import static seedu.club.testutil.TypicalTasks.BUY_CONFETTI;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -25,10 +27,12 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.ObservableList;
 import seedu.club.commons.core.index.Index;
 import seedu.club.commons.exceptions.PhotoReadException;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.logic.CommandHistory;
 import seedu.club.logic.UndoRedoStack;
 import seedu.club.logic.commands.exceptions.CommandException;
 import seedu.club.model.ClubBook;
+import seedu.club.model.ClubBookEdit;
 import seedu.club.model.Model;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.email.Body;
@@ -187,6 +191,41 @@ public class AssignTaskCommandTest {
             return null;
         }
 
+        @Override
+        public ClubBookEdit startEdit() {
+            return new ClubBook().startRecording();
+        }
+
+        @Override
+        public void stopEdit(ClubBookEdit edit) {
+        }
+
+        @Override
+        public void revertEdit(ClubBookEdit edit) {
+            fail("This method should not be called");
+        }
+
+        @Override
+        public List<Task> getMyTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+            fail("This method should not be called");
+            return null;
+        }
+
+        @Override
+        public void beginBatch() {
+            fail("This method should not be called");
+        }
+
+        @Override
+        public void commitBatch() {
+            fail("This method should not be called");
+        }
+
+        @Override
+        public void rollbackBatch() {
+            fail("This method should not be called");
+        }
+
         @Override
         public void viewAllTasks() throws TasksAlreadyListedException {
             fail("This method should not be called");
@@ -221,6 +260,12 @@ public class AssignTaskCommandTest {
             return;
         }
 
+        @Override
+        public Member getMemberByMatricNumber(MatricNumber matricNumber) throws MemberNotFoundException {
+            fail("This method should not be called");
+            return null;
+        }
+
         @Override
         public void signUpMember(Member member) throws MemberListNotEmptyException {
             fail("This method should not be called");
@@ -350,7 +395,8 @@ public class AssignTaskCommandTest {
         }
 
         @Override
-        public void exportClubConnectMembers(File exportFilePath) throws IOException {
+        public void exportClubConnectMembers(File exportFilePath, List<CsvColumn> columns,
+                                             boolean isFilteredListExported) throws IOException {
             fail("This method should not be called");
         }
 
@@ -9,7 +9,11 @@ import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -22,10 +26,12 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.club.commons.core.index.Index;
 import seedu.club.commons.exceptions.PhotoReadException;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.logic.CommandHistory;
 import seedu.club.logic.UndoRedoStack;
 import seedu.club.logic.commands.exceptions.CommandException;
 import seedu.club.model.ClubBook;
+import seedu.club.model.ClubBookEdit;
 import seedu.club.model.Model;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.email.Body;
@@ -82,6 +88,23 @@ public class ExportCommandTest {
 
         CommandResult commandResult = getExportCommand(exportFile, modelStub).execute();
         assertEquals(String.format(ExportCommand.MESSAGE_EXPORT_SUCCESS, exportFile), commandResult.feedbackToUser);
+        assertEquals(CsvColumn.ALL_COLUMNS, modelStub.exportedColumns);
+        assertFalse(modelStub.isFilteredListExported);
+    }
+
+    @Test
+    public void execute_selectedColumnsOfFilteredList_exportedWithOptions() throws Exception {
+        ModelStubAcceptingExport modelStub = new ModelStubAcceptingExport();
+        File exportFile = new File(testFolder.getRoot().getPath() + "TempClubBook.csv");
+        List<CsvColumn> columns = Arrays.asList(CsvColumn.EMAIL, CsvColumn.NAME);
+
+        ExportCommand command = new ExportCommand(exportFile, columns, true);
+        command.setData(modelStub, new CommandHistory(), new UndoRedoStack());
+        CommandResult commandResult = command.execute();
+
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORT_SUCCESS, exportFile), commandResult.feedbackToUser);
+        assertEquals(columns, modelStub.exportedColumns);
+        assertTrue(modelStub.isFilteredListExported);
     }
 
     @Test
@@ -120,6 +143,16 @@ public class ExportCommandTest {
 
         // different file -> returns false
         assertFalse(exportCommand.equals(differentFileExportCommand));
+
+        // same file and options as the default -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(exportFile, CsvColumn.ALL_COLUMNS, false)));
+
+        // different columns -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(exportFile,
+                Collections.singletonList(CsvColumn.NAME), false)));
+
+        // only the filtered list -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(exportFile, CsvColumn.ALL_COLUMNS, true)));
     }
 
     /**
@@ -214,6 +247,12 @@ public class ExportCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public Member getMemberByMatricNumber(MatricNumber matricNumber) throws MemberNotFoundException {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void addPoll(Poll poll) throws DuplicatePollException {
             fail("This method should not be called.");
@@ -255,6 +294,41 @@ public class ExportCommandTest {
             return null;
         }
 
+        @Override
+        public ClubBookEdit startEdit() {
+            return new ClubBook().startRecording();
+        }
+
+        @Override
+        public void stopEdit(ClubBookEdit edit) {
+        }
+
+        @Override
+        public void revertEdit(ClubBookEdit edit) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getMyTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void beginBatch() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackBatch() {
+            fail("This method should not be called.");
+        }
+
         @Override
         public int deleteMember(Member target) throws MemberNotFoundException {
             fail("This method should not be called.");
@@ -326,7 +400,8 @@ public class ExportCommandTest {
         }
 
         @Override
-        public void exportClubConnectMembers(File exportFilePath) throws IOException {
+        public void exportClubConnectMembers(File exportFilePath, List<CsvColumn> columns,
+                                             boolean isFilteredListExported) throws IOException {
             fail("This method should not be called");
         }
 
@@ -370,7 +445,8 @@ public class ExportCommandTest {
                 getTagSet("head"));
 
         @Override
-        public void exportClubConnectMembers(File exportFile) throws IOException {
+        public void exportClubConnectMembers(File exportFile, List<CsvColumn> columns,
+                                             boolean isFilteredListExported) throws IOException {
             throw new IOException();
         }
         //@@author th14thmusician
@@ -400,9 +476,15 @@ public class ExportCommandTest {
                 new Phone("87438807"), new Email("alexyeoh@example.com"),
                 new MatricNumber("A5215090A"), new Group("logistics"),
                 getTagSet("head"));
+        private List<CsvColumn> exportedColumns;
+        private boolean isFilteredListExported;
+
         @Override
-        public void exportClubConnectMembers(File exportFile) throws IOException {
+        public void exportClubConnectMembers(File exportFile, List<CsvColumn> columns,
+                                             boolean isFilteredListExported) throws IOException {
             requireNonNull(exportFile);
+            this.exportedColumns = columns;
+            this.isFilteredListExported = isFilteredListExported;
         }
 
         //@@author th14thmusician
@@ -22,6 +22,7 @@ import static seedu.club.testutil.TypicalMembers.getTypicalClubBook;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -36,7 +37,9 @@ import seedu.club.model.Model;
 import seedu.club.model.ModelManager;
 import seedu.club.model.UserPrefs;
 import seedu.club.model.member.FieldContainsKeywordsPredicate;
+import seedu.club.model.member.FuzzyKeywordsPredicate;
 import seedu.club.model.member.Member;
+import seedu.club.model.member.MemberQueryPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -122,6 +125,38 @@ public class FindCommandTest {
                 DANIEL, ELLE, FIONA, GEORGE));
     }
 
+    @Test
+    public void execute_fuzzyKeywords_closestMembersFirst() throws CommandException {
+        FindCommand command = new FindCommand(new FuzzyKeywordsPredicate(Collections.singletonList("Meyer")));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        assertCommandSuccess(command, String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 3),
+                Arrays.asList(ELLE, BENSON, DANIEL));
+
+        command = new FindCommand(new FuzzyKeywordsPredicate(Arrays.asList("alcie", "bost")));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        assertCommandSuccess(command, String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 2),
+                Arrays.asList(GEORGE, ALICE));
+    }
+
+    @Test
+    public void execute_query_matchingMembersFound() throws CommandException {
+        Predicate<Member> exco = new FieldContainsKeywordsPredicate(Collections.singletonList("exco"), PREFIX_GROUP);
+        Predicate<Member> benson = new FieldContainsKeywordsPredicate(Collections.singletonList("benson"), PREFIX_NAME);
+        FindCommand command = new FindCommand(MemberQueryPredicate.and(Arrays.asList(exco,
+                MemberQueryPredicate.not(benson))));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        assertCommandSuccess(command, String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 2), Arrays.asList(ALICE, CARL));
+
+        Predicate<Member> publicity =
+                new FieldContainsKeywordsPredicate(Collections.singletonList("publicity"), PREFIX_GROUP);
+        Predicate<Member> meier = new FieldContainsKeywordsPredicate(Collections.singletonList("meier"), PREFIX_NAME);
+        command = new FindCommand(MemberQueryPredicate.or(Arrays.asList(publicity,
+                MemberQueryPredicate.and(Arrays.asList(exco, MemberQueryPredicate.not(meier))))));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        assertCommandSuccess(command, String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 4),
+                Arrays.asList(ALICE, CARL, DANIEL, ELLE));
+    }
+
     /**
      * Parses {@code userInput} and {@code prefix} into a {@code FindCommand}.
      */
@@ -9,7 +9,9 @@ import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -22,10 +24,12 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.club.commons.core.index.Index;
 import seedu.club.commons.exceptions.PhotoReadException;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.logic.CommandHistory;
 import seedu.club.logic.UndoRedoStack;
 import seedu.club.logic.commands.exceptions.CommandException;
 import seedu.club.model.ClubBook;
+import seedu.club.model.ClubBookEdit;
 import seedu.club.model.Model;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.email.Body;
@@ -226,6 +230,12 @@ public class ImportCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public Member getMemberByMatricNumber(MatricNumber matricNumber) throws MemberNotFoundException {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void addPoll(Poll poll) throws DuplicatePollException {
             fail("This method should not be called.");
@@ -267,6 +277,41 @@ public class ImportCommandTest {
             return null;
         }
 
+        @Override
+        public ClubBookEdit startEdit() {
+            return new ClubBook().startRecording();
+        }
+
+        @Override
+        public void stopEdit(ClubBookEdit edit) {
+        }
+
+        @Override
+        public void revertEdit(ClubBookEdit edit) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getMyTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void beginBatch() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackBatch() {
+            fail("This method should not be called.");
+        }
+
         @Override
         public int deleteMember(Member target) throws MemberNotFoundException {
             fail("This method should not be called.");
@@ -338,7 +383,8 @@ public class ImportCommandTest {
         }
 
         @Override
-        public void exportClubConnectMembers(File exportFilePath) throws IOException {
+        public void exportClubConnectMembers(File exportFilePath, List<CsvColumn> columns,
+                                             boolean isFilteredListExported) throws IOException {
             fail("This method should not be called");
         }
 
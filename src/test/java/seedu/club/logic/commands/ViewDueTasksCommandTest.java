@@ -0,0 +1,121 @@
+package seedu.club.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.club.testutil.TypicalMembers.ALICE;
+import static seedu.club.testutil.TypicalMembers.BENSON;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.club.logic.CommandHistory;
+import seedu.club.logic.UndoRedoStack;
+import seedu.club.model.ClubBook;
+import seedu.club.model.Model;
+import seedu.club.model.ModelManager;
+import seedu.club.model.UserPrefs;
+import seedu.club.model.task.Task;
+import seedu.club.testutil.TaskBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ViewDueTasksCommand}.
+ */
+public class ViewDueTasksCommandTest {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String TIME = "12:00";
+
+    private final String aliceMatricNumber = ALICE.getMatricNumber().toString();
+    private final String bensonMatricNumber = BENSON.getMatricNumber().toString();
+
+    private Task dueInThreeDays;
+    private Task dueTomorrow;
+    private Model model;
+
+    @Before
+    public void setUp() throws Exception {
+        dueInThreeDays = buildTaskDueIn("Book Auditorium", 3, aliceMatricNumber, bensonMatricNumber);
+        dueTomorrow = buildTaskDueIn("Buy Confetti", 1, bensonMatricNumber, aliceMatricNumber);
+
+        ClubBook clubBook = new ClubBook();
+        clubBook.addMember(ALICE);
+        clubBook.addMember(BENSON);
+        clubBook.addTaskToTaskList(dueInThreeDays);
+        clubBook.addTaskToTaskList(dueTomorrow);
+        clubBook.addTaskToTaskList(buildTaskDueIn("Print Posters", 30, aliceMatricNumber, aliceMatricNumber));
+        clubBook.addTaskToTaskList(buildTaskDueIn("Order Food", 1, bensonMatricNumber, bensonMatricNumber));
+
+        model = new ModelManager(clubBook, new UserPrefs());
+        model.logsInMember(ALICE.getCredentials().getUsername().value, ALICE.getCredentials().getPassword().value);
+    }
+
+    @Test
+    public void execute_tasksDueWithinDays_listedInDueOrder() throws Exception {
+        String expectedMessage = String.format(ViewDueTasksCommand.MESSAGE_SUCCESS, 7)
+                + formatTask(1, dueTomorrow) + formatTask(2, dueInThreeDays);
+        assertEquals(expectedMessage, prepareCommand(7).execute().feedbackToUser);
+    }
+
+    @Test
+    public void execute_noOwnTasksDueWithinDays_noTasksMessage() throws Exception {
+        ClubBook clubBook = new ClubBook();
+        clubBook.addMember(ALICE);
+        clubBook.addMember(BENSON);
+        clubBook.addTaskToTaskList(buildTaskDueIn("Order Food", 1, bensonMatricNumber, bensonMatricNumber));
+        model = new ModelManager(clubBook, new UserPrefs());
+        model.logsInMember(ALICE.getCredentials().getUsername().value, ALICE.getCredentials().getPassword().value);
+
+        assertEquals(String.format(ViewDueTasksCommand.MESSAGE_NO_TASKS_DUE, 7),
+                prepareCommand(7).execute().feedbackToUser);
+    }
+
+    @Test
+    public void equals() {
+        ViewDueTasksCommand viewWeekCommand = new ViewDueTasksCommand(7);
+
+        // same object -> returns true
+        assertTrue(viewWeekCommand.equals(viewWeekCommand));
+
+        // same values -> returns true
+        assertTrue(viewWeekCommand.equals(new ViewDueTasksCommand(7)));
+
+        // different types -> returns false
+        assertFalse(viewWeekCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(viewWeekCommand.equals(null));
+
+        // different number of days -> returns false
+        assertFalse(viewWeekCommand.equals(new ViewDueTasksCommand(1)));
+    }
+
+    /**
+     * Returns a task with {@code description} due {@code days} days from today at {@code TIME}.
+     */
+    private static Task buildTaskDueIn(String description, int days, String assignor, String assignee) {
+        return new TaskBuilder().withDescription(description)
+                .withDate(LocalDate.now().plusDays(days).format(DATE_FORMATTER)).withTime(TIME)
+                .withAssignor(assignor).withAssignee(assignee).build();
+    }
+
+    /**
+     * Returns the line that lists {@code task} as the {@code position}-th task due.
+     */
+    private static String formatTask(int position, Task task) {
+        return String.format(ViewDueTasksCommand.MESSAGE_TASK_DUE, position, task.getDescription().getDescription(),
+                task.getDate().getDate(), task.getTime().getTime());
+    }
+
+    /**
+     * Returns a {@code ViewDueTasksCommand} for {@code days} with the data set up above.
+     */
+    private ViewDueTasksCommand prepareCommand(int days) {
+        ViewDueTasksCommand command = new ViewDueTasksCommand(days);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+}
@@ -50,6 +50,7 @@ import seedu.club.logic.commands.RemoveProfilePhotoCommand;
 import seedu.club.logic.commands.SelectCommand;
 import seedu.club.logic.commands.UndoCommand;
 import seedu.club.logic.commands.ViewAllTasksCommand;
+import seedu.club.logic.commands.ViewDueTasksCommand;
 import seedu.club.logic.commands.ViewMyTasksCommand;
 import seedu.club.logic.commands.ViewResultsCommand;
 import seedu.club.logic.parser.exceptions.ParseException;
@@ -207,6 +208,12 @@ public class ClubBookParserTest {
         assertTrue(parser.parseCommand(ViewMyTasksCommand.COMMAND_WORD + " 1") instanceof ViewMyTasksCommand);
     }
 
+    @Test
+    public void parseCommand_viewDueTasks() throws Exception {
+        assertEquals(new ViewDueTasksCommand(7), parser.parseCommand(ViewDueTasksCommand.COMMAND_WORD + " 7"));
+        assertEquals(new ViewDueTasksCommand(7), parser.parseCommand("duetasks 7"));
+    }
+
     @Test
     public void parseCommand_email() throws Exception {
         EmailCommand command = (EmailCommand) parser.parseCommand(
@@ -6,11 +6,13 @@ import static seedu.club.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.club.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.io.File;
+import java.util.Arrays;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.logic.commands.ExportCommand;
 
 public class ExportCommandParserTest {
@@ -31,6 +33,37 @@ public class ExportCommandParserTest {
         assertParseSuccess(parser, expectedExportFile.getAbsolutePath(), new ExportCommand(expectedExportFile));
     }
 
+    @Test
+    public void parse_columnsAndFilteredFlag_returnsExportCommandWithOptions() throws Exception {
+        File exportFile = temporaryFolder.newFile("dummy.csv");
+        String path = exportFile.getAbsolutePath();
+
+        // columns in the given order, ignoring case and repeats
+        assertParseSuccess(parser, path + " col/email col/NAME col/email",
+                new ExportCommand(exportFile, Arrays.asList(CsvColumn.EMAIL, CsvColumn.NAME), false));
+
+        // only the filtered list
+        assertParseSuccess(parser, path + " filtered/",
+                new ExportCommand(exportFile, CsvColumn.ALL_COLUMNS, true));
+
+        // both options, in any order
+        assertParseSuccess(parser, path + " filtered/ col/matric_number",
+                new ExportCommand(exportFile, Arrays.asList(CsvColumn.MATRIC_NUMBER), true));
+    }
+
+    @Test
+    public void parse_invalidOptions_throwsParseException() throws Exception {
+        String path = temporaryFolder.newFile("dummy.csv").getAbsolutePath();
+
+        // unknown column
+        assertParseFailure(parser, path + " col/address", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ParserUtil.MESSAGE_INVALID_CSV_COLUMN + ExportCommand.MESSAGE_USAGE));
+
+        // value given to the filtered flag
+        assertParseFailure(parser, path + " filtered/yes",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         //non absolute file path
@@ -11,11 +11,14 @@ import static seedu.club.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.club.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Test;
 
 import seedu.club.logic.commands.FindCommand;
 import seedu.club.model.member.FieldContainsKeywordsPredicate;
+import seedu.club.model.member.FuzzyKeywordsPredicate;
+import seedu.club.model.member.MemberQueryPredicate;
 
 public class FindCommandParserTest {
 
@@ -26,6 +29,63 @@ public class FindCommandParserTest {
         assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_fuzzyKeywords_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new FuzzyKeywordsPredicate(Arrays.asList("Alcie", "Bbo")));
+        assertParseSuccess(parser, FindCommand.FUZZY_MARKER + "Alcie Bbo", expectedFindCommand);
+
+        // marker before every keyword
+        assertParseSuccess(parser, " \n " + FindCommand.FUZZY_MARKER + "Alcie \t "
+                + FindCommand.FUZZY_MARKER + "Bbo  ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fuzzyMarkerAlone_throwsParseException() {
+        assertParseFailure(parser, FindCommand.FUZZY_MARKER + " Alcie",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_query_returnsFindCommand() {
+        FieldContainsKeywordsPredicate logistics =
+                new FieldContainsKeywordsPredicate(Collections.singletonList("logistics"), PREFIX_GROUP);
+        FieldContainsKeywordsPredicate treasurer =
+                new FieldContainsKeywordsPredicate(Collections.singletonList("treasurer"), PREFIX_TAG);
+        FieldContainsKeywordsPredicate john =
+                new FieldContainsKeywordsPredicate(Arrays.asList("john", "jon"), PREFIX_NAME);
+        FieldContainsKeywordsPredicate alice = new FieldContainsKeywordsPredicate(Arrays.asList("alice"), null);
+
+        FindCommand expectedFindCommand = new FindCommand(MemberQueryPredicate.and(Arrays.asList(logistics,
+                treasurer, MemberQueryPredicate.not(john))));
+        assertParseSuccess(parser, PREFIX_GROUP + "logistics AND " + PREFIX_TAG + "treasurer AND NOT "
+                + PREFIX_NAME + "john jon", expectedFindCommand);
+
+        // whitespace after prefixes
+        assertParseSuccess(parser, " " + PREFIX_GROUP + " logistics \t AND " + PREFIX_TAG + "  treasurer AND NOT "
+                + PREFIX_NAME + " john \n jon ", expectedFindCommand);
+
+        // AND binds tighter than OR
+        expectedFindCommand = new FindCommand(MemberQueryPredicate.or(Arrays.asList(alice,
+                MemberQueryPredicate.and(Arrays.asList(logistics, treasurer)))));
+        assertParseSuccess(parser, "alice OR " + PREFIX_GROUP + "logistics AND " + PREFIX_TAG + "treasurer",
+                expectedFindCommand);
+    }
+
+    @Test
+    public void parse_queryWithMissingClause_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // no clause before operator
+        assertParseFailure(parser, "AND " + PREFIX_TAG + "treasurer", expectedMessage);
+
+        // no clause after operator
+        assertParseFailure(parser, PREFIX_GROUP + "logistics AND NOT", expectedMessage);
+
+        // prefix without keywords
+        assertParseFailure(parser, PREFIX_GROUP + " AND " + PREFIX_TAG + "treasurer", expectedMessage);
+    }
+
     @Test
     public void parse_findNameValidArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
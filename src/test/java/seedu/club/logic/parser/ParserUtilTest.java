@@ -19,6 +19,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.club.commons.exceptions.IllegalValueException;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.model.email.Body;
 import seedu.club.model.email.Client;
 import seedu.club.model.email.Subject;
@@ -339,4 +340,21 @@ public class ParserUtilTest {
         ProfilePhoto expectedProfilePhoto = new ProfilePhoto(VALID_PHOTO_PATH);
         assertEquals(expectedProfilePhoto, ParserUtil.parseProfilePhoto(photoPathWithWhitespace));
     }
+
+    @Test
+    public void parseCsvColumns_noColumns_returnsAllColumns() throws Exception {
+        assertEquals(CsvColumn.ALL_COLUMNS, ParserUtil.parseCsvColumns(Collections.emptyList()));
+    }
+
+    @Test
+    public void parseCsvColumns_validColumns_returnsColumnsInGivenOrder() throws Exception {
+        assertEquals(Arrays.asList(CsvColumn.TAGS, CsvColumn.PHONE),
+                ParserUtil.parseCsvColumns(Arrays.asList(WHITESPACE + "tags", "Phone", "TAGS")));
+    }
+
+    @Test
+    public void parseCsvColumns_invalidColumn_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        ParserUtil.parseCsvColumns(Arrays.asList("name", "address"));
+    }
 }
@@ -0,0 +1,28 @@
+package seedu.club.logic.parser;
+
+import static seedu.club.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.club.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.club.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.club.logic.commands.ViewDueTasksCommand;
+
+public class ViewDueTasksCommandParserTest {
+    private ViewDueTasksCommandParser parser = new ViewDueTasksCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsViewDueTasksCommand() {
+        assertParseSuccess(parser, "7", new ViewDueTasksCommand(7));
+        assertParseSuccess(parser, "  30  ", new ViewDueTasksCommand(30));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewDueTasksCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " -1", expectedMessage);
+        assertParseFailure(parser, " a week", expectedMessage);
+    }
+}
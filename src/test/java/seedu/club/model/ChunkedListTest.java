@@ -0,0 +1,94 @@
+package seedu.club.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ChunkedListTest {
+    private static final int LARGE_SIZE = ChunkedList.CHUNK_SIZE * 3 + 5;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_largeList_sameElements() {
+        List<Integer> elements = getRange(0, LARGE_SIZE);
+        assertEquals(elements, ChunkedList.of(elements));
+        assertEquals(Collections.emptyList(), ChunkedList.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void replaceRange_variousRanges_sameAsArrayList() {
+        List<Integer> expected = getRange(0, LARGE_SIZE);
+        ChunkedList<Integer> list = ChunkedList.of(expected);
+
+        // replace one element
+        list = assertReplaceRange(list, expected, 70, 71, Arrays.asList(-1));
+
+        // remove elements across chunks
+        list = assertReplaceRange(list, expected, 60, 140, Collections.emptyList());
+
+        // insert more than a chunk of elements
+        list = assertReplaceRange(list, expected, 10, 10, getRange(1000, 1000 + ChunkedList.CHUNK_SIZE * 2));
+
+        // append at the end
+        list = assertReplaceRange(list, expected, expected.size(), expected.size(), Arrays.asList(-2, -3));
+
+        // remove everything
+        list = assertReplaceRange(list, expected, 0, expected.size(), Collections.emptyList());
+
+        // add to an empty list
+        assertReplaceRange(list, expected, 0, 0, Arrays.asList(-4));
+    }
+
+    @Test
+    public void replaceRange_originalListUnchanged() {
+        List<Integer> elements = getRange(0, LARGE_SIZE);
+        ChunkedList<Integer> list = ChunkedList.of(elements);
+
+        list.replaceRange(0, LARGE_SIZE / 2, Arrays.asList(-1));
+
+        assertEquals(elements, list);
+    }
+
+    @Test
+    public void replaceRange_rangeOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        ChunkedList.of(Arrays.asList(1, 2)).replaceRange(1, 3, Collections.emptyList());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        ChunkedList.of(Arrays.asList(1, 2)).get(2);
+    }
+
+    /**
+     * Replaces the elements from {@code from} to {@code to} with {@code replacement} in both {@code list} and
+     * {@code expected}, asserts that the lists are still equal, and returns the new chunked list.
+     */
+    private ChunkedList<Integer> assertReplaceRange(ChunkedList<Integer> list, List<Integer> expected, int from,
+                                                    int to, List<Integer> replacement) {
+        ChunkedList<Integer> newList = list.replaceRange(from, to, replacement);
+        expected.subList(from, to).clear();
+        expected.addAll(from, replacement);
+        assertEquals(expected, newList);
+        return newList;
+    }
+
+    /**
+     * Returns a modifiable list of the integers from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    private static List<Integer> getRange(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toCollection(ArrayList::new));
+    }
+}
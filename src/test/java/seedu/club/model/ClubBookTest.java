@@ -1,12 +1,17 @@
 package seedu.club.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static seedu.club.logic.commands.CommandTestUtil.MANDATORY_GROUP;
 import static seedu.club.logic.commands.CommandTestUtil.NON_EXISTENT_GROUP;
 import static seedu.club.logic.commands.CommandTestUtil.VALID_TAG_HEAD;
 import static seedu.club.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.club.logic.commands.CommandTestUtil.VALID_TAG_UNUSED;
+import static seedu.club.testutil.TypicalIndexes.INDEX_FIRST_ANSWER;
 import static seedu.club.testutil.TypicalMembers.ALICE;
 import static seedu.club.testutil.TypicalMembers.AMY;
 import static seedu.club.testutil.TypicalMembers.BENSON;
@@ -14,6 +19,8 @@ import static seedu.club.testutil.TypicalMembers.BOB;
 import static seedu.club.testutil.TypicalMembers.DANIEL;
 import static seedu.club.testutil.TypicalMembers.ELLE;
 import static seedu.club.testutil.TypicalMembers.getTypicalClubBook;
+import static seedu.club.testutil.TypicalPolls.POLL_WHAT;
+import static seedu.club.testutil.TypicalPolls.getTypicalClubBookWithPolls;
 import static seedu.club.testutil.TypicalTasks.BOOK_AUDITORIUM;
 import static seedu.club.testutil.TypicalTasks.BUY_CONFETTI;
 import static seedu.club.testutil.TypicalTasks.BUY_FOOD;
@@ -36,6 +43,7 @@ import seedu.club.model.group.exceptions.GroupCannotBeRemovedException;
 import seedu.club.model.group.exceptions.GroupNotFoundException;
 import seedu.club.model.member.Member;
 import seedu.club.model.member.exceptions.DuplicateMatricNumberException;
+import seedu.club.model.member.exceptions.MemberNotFoundException;
 import seedu.club.model.poll.Poll;
 import seedu.club.model.tag.Tag;
 import seedu.club.model.tag.exceptions.TagNotFoundException;
@@ -346,10 +354,295 @@ public class ClubBookTest {
         assertEquals(expectedClubBook, clubBookWithBobAndAmy);
     }
 
+    @Test
+    public void addMembers_someDuplicates_duplicatesSkipped() {
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).build();
+        Member bensonWithNewTag = new MemberBuilder(BENSON).withTags(VALID_TAG_UNUSED).build();
+
+        List<Member> duplicateMembers = clubBook.addMembers(Arrays.asList(ALICE, bensonWithNewTag, AMY,
+                new MemberBuilder(AMY).withPhone("91234567").build()));
+
+        assertEquals(Arrays.asList(ALICE, new MemberBuilder(AMY).withPhone("91234567").build()), duplicateMembers);
+        ClubBook expectedClubBook = new ClubBookBuilder().withMember(ALICE).withMember(bensonWithNewTag)
+                .withMember(AMY).build();
+        assertEquals(expectedClubBook, clubBook);
+    }
+
+    @Test
+    public void getMembersWithTag_membersAddedEditedAndRemoved_indexUpdated() throws Exception {
+        Member aliceWithHead = new MemberBuilder(ALICE).withTags(VALID_TAG_HEAD).build();
+        Member bensonWithHead = new MemberBuilder(BENSON).withTags(VALID_TAG_HEAD, VALID_TAG_HUSBAND).build();
+        ClubBook clubBook = new ClubBookBuilder().withMember(aliceWithHead).withMember(bensonWithHead).build();
+        Tag head = new Tag(VALID_TAG_HEAD);
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+        assertEquals(2, clubBook.getMembersWithTag(head).size());
+
+        Member editedBenson = new MemberBuilder(bensonWithHead).withTags(VALID_TAG_HUSBAND).build();
+        clubBook.updateMember(bensonWithHead, editedBenson);
+        assertEquals(Arrays.asList(aliceWithHead), clubBook.getMembersWithTag(head));
+        assertEquals(Arrays.asList(editedBenson), clubBook.getMembersWithTag(husband));
+
+        clubBook.removeMember(aliceWithHead);
+        assertEquals(Collections.emptyList(), clubBook.getMembersWithTag(head));
+        assertEquals(Arrays.asList(husband), clubBook.getTagList());
+    }
+
+    @Test
+    public void addMember_duplicateMatricNumber_existingMemberTagsKept() {
+        Member aliceWithHead = new MemberBuilder(ALICE).withTags(VALID_TAG_HEAD).build();
+        ClubBook clubBook = new ClubBookBuilder().withMember(aliceWithHead).build();
+
+        try {
+            clubBook.addMember(new MemberBuilder(ALICE).withName("Other Alice").withTags(VALID_TAG_HEAD).build());
+            fail("A member with the same matriculation number should not be added.");
+        } catch (DuplicateMatricNumberException dmne) {
+            assertEquals(Arrays.asList(new Tag(VALID_TAG_HEAD)), clubBook.getTagList());
+            assertEquals(Arrays.asList(aliceWithHead), clubBook.getMembersWithTag(new Tag(VALID_TAG_HEAD)));
+        }
+    }
+
+    @Test
+    public void addMember_duplicateMatricNumberWithNewTag_newTagNotKept() {
+        ClubBook clubBook = new ClubBookBuilder().withMember(new MemberBuilder(ALICE).withTags().build()).build();
+
+        try {
+            clubBook.addMember(new MemberBuilder(ALICE).withName("Other Alice").withTags(VALID_TAG_UNUSED).build());
+            fail("A member with the same matriculation number should not be added.");
+        } catch (DuplicateMatricNumberException dmne) {
+            assertEquals(Collections.emptyList(), clubBook.getTagList());
+        }
+    }
+
+    @Test
+    public void updateMember_tagDroppedByOnlyMember_onlyThatTagRemoved() throws Exception {
+        Member aliceWithTags = new MemberBuilder(ALICE).withTags(VALID_TAG_HEAD, VALID_TAG_HUSBAND).build();
+        Member bensonWithHead = new MemberBuilder(BENSON).withTags(VALID_TAG_HEAD).build();
+        ClubBook clubBook = new ClubBookBuilder().withMember(aliceWithTags).withMember(bensonWithHead).build();
+        List<Tag> tagsBeforeUpdate = new ArrayList<>(clubBook.getTagList());
+
+        clubBook.updateMember(aliceWithTags, new MemberBuilder(ALICE).withTags(VALID_TAG_HEAD).build());
+
+        // the tag still used by Benson is kept, in its place
+        tagsBeforeUpdate.remove(new Tag(VALID_TAG_HUSBAND));
+        assertEquals(tagsBeforeUpdate, clubBook.getTagList());
+
+        clubBook.removeMember(bensonWithHead);
+        assertEquals(Arrays.asList(new Tag(VALID_TAG_HEAD)), clubBook.getTagList());
+    }
+
+    @Test
+    public void deleteTag_taggedMembers_tagRemovedFromIndex() throws Exception {
+        Member aliceWithHead = new MemberBuilder(ALICE).withTags(VALID_TAG_HEAD, VALID_TAG_HUSBAND).build();
+        Member bensonWithHead = new MemberBuilder(BENSON).withTags(VALID_TAG_HEAD).build();
+        ClubBook clubBook = new ClubBookBuilder().withMember(aliceWithHead).withMember(bensonWithHead).build();
+
+        clubBook.deleteTag(new Tag(VALID_TAG_HEAD));
+
+        assertEquals(Collections.emptyList(), clubBook.getMembersWithTag(new Tag(VALID_TAG_HEAD)));
+        assertEquals(1, clubBook.getMembersWithTag(new Tag(VALID_TAG_HUSBAND)).size());
+        assertEquals(Arrays.asList(new Tag(VALID_TAG_HUSBAND)), clubBook.getTagList());
+    }
+
+    @Test
+    public void getMembersInGroup_membersAddedEditedAndRemoved_indexUpdated() throws Exception {
+        Member aliceInLogistics = new MemberBuilder(ALICE).withGroup("logistics").build();
+        Member bensonInLogistics = new MemberBuilder(BENSON).withGroup("logistics").build();
+        ClubBook clubBook = new ClubBookBuilder().withMember(aliceInLogistics).withMember(bensonInLogistics).build();
+        assertEquals(2, clubBook.getMembersInGroup(new Group("LOGISTICS")).size());
+
+        Member editedBenson = new MemberBuilder(bensonInLogistics).withGroup("marketing").build();
+        clubBook.updateMember(bensonInLogistics, editedBenson);
+        assertEquals(Arrays.asList(aliceInLogistics), clubBook.getMembersInGroup(new Group("logistics")));
+        assertEquals(Arrays.asList(editedBenson), clubBook.getMembersInGroup(new Group("marketing")));
+
+        clubBook.removeMember(aliceInLogistics);
+        assertEquals(Collections.emptyList(), clubBook.getMembersInGroup(new Group("logistics")));
+    }
+
+    @Test
+    public void deleteGroup_severalMembersInGroup_allReassignedAndIndexUpdated() throws Exception {
+        Member aliceInLogistics = new MemberBuilder(ALICE).withGroup("logistics").withTags(VALID_TAG_HEAD).build();
+        Member bensonInLogistics = new MemberBuilder(BENSON).withGroup("logistics").build();
+        ClubBook clubBook = new ClubBookBuilder().withMember(aliceInLogistics).withMember(bensonInLogistics)
+                .withMember(DANIEL).build();
+        long membersVersion = clubBook.getSectionVersion(ClubBookSection.MEMBERS);
+        List<Tag> tagsBeforeDeletion = new ArrayList<>(clubBook.getTagList());
+
+        clubBook.deleteGroup(new Group("Logistics"));
+
+        Group defaultGroup = new Group(Group.DEFAULT_GROUP);
+        ClubBook expectedClubBook = new ClubBookBuilder()
+                .withMember(new MemberBuilder(aliceInLogistics).withGroup().build())
+                .withMember(new MemberBuilder(bensonInLogistics).withGroup().build())
+                .withMember(DANIEL).build();
+        assertEquals(expectedClubBook, clubBook);
+        assertEquals(Collections.emptyList(), clubBook.getMembersInGroup(new Group("logistics")));
+        assertEquals(2, clubBook.getMembersInGroup(defaultGroup).size());
+        assertEquals(defaultGroup, clubBook.getMemberByMatricNumber(ALICE.getMatricNumber()).getGroup());
+        assertEquals(tagsBeforeDeletion, clubBook.getTagList());
+        assertNotEquals(membersVersion, clubBook.getSectionVersion(ClubBookSection.MEMBERS));
+    }
+
+    @Test
+    public void getSectionVersion_addTask_onlyTasksModified() throws Exception {
+        ClubBook clubBook = getTypicalClubBook();
+        ClubBook unmodified = new ClubBook(clubBook);
+        long membersVersion = clubBook.getSectionVersion(ClubBookSection.MEMBERS);
+        long tagsVersion = clubBook.getSectionVersion(ClubBookSection.TAGS);
+        long pollsVersion = clubBook.getSectionVersion(ClubBookSection.POLLS);
+        long tasksVersion = clubBook.getSectionVersion(ClubBookSection.TASKS);
+
+        clubBook.addTaskToTaskList(BOOK_AUDITORIUM);
+        assertEquals(membersVersion, clubBook.getSectionVersion(ClubBookSection.MEMBERS));
+        assertEquals(tagsVersion, clubBook.getSectionVersion(ClubBookSection.TAGS));
+        assertEquals(pollsVersion, clubBook.getSectionVersion(ClubBookSection.POLLS));
+        assertNotEquals(tasksVersion, clubBook.getSectionVersion(ClubBookSection.TASKS));
+
+        // a copy of the club book is given new versions
+        assertNotEquals(tasksVersion, unmodified.getSectionVersion(ClubBookSection.TASKS));
+    }
+
+    @Test
+    public void getSectionVersion_voteInPoll_onlyPollsModified() throws Exception {
+        ClubBook clubBook = getTypicalClubBookWithPolls();
+        long membersVersion = clubBook.getSectionVersion(ClubBookSection.MEMBERS);
+        long tagsVersion = clubBook.getSectionVersion(ClubBookSection.TAGS);
+        long pollsVersion = clubBook.getSectionVersion(ClubBookSection.POLLS);
+
+        clubBook.voteInPoll(POLL_WHAT, INDEX_FIRST_ANSWER, ALICE.getMatricNumber());
+        assertEquals(membersVersion, clubBook.getSectionVersion(ClubBookSection.MEMBERS));
+        assertEquals(tagsVersion, clubBook.getSectionVersion(ClubBookSection.TAGS));
+        assertNotEquals(pollsVersion, clubBook.getSectionVersion(ClubBookSection.POLLS));
+    }
+
+    @Test
+    public void getSnapshot_clubBookModified_snapshotUnchanged() throws Exception {
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withTask(BUY_FOOD).build();
+        ReadOnlyClubBook snapshot = clubBook.getSnapshot();
+
+        clubBook.addMember(BENSON);
+        clubBook.deleteTask(BUY_FOOD);
+
+        assertEquals(Arrays.asList(ALICE), snapshot.getMemberList());
+        assertEquals(Arrays.asList(BUY_FOOD), snapshot.getTaskList());
+        clubBook.resetData(snapshot);
+        assertEquals(new ClubBookBuilder().withMember(ALICE).withTask(BUY_FOOD).build(), clubBook);
+    }
+
+    @Test
+    public void getSnapshot_someSectionsModified_unmodifiedSectionsShared() throws Exception {
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withTask(BUY_FOOD).build();
+        ReadOnlyClubBook firstSnapshot = clubBook.getSnapshot();
+        assertSame(firstSnapshot, clubBook.getSnapshot());
+
+        clubBook.deleteTask(BUY_FOOD);
+        ReadOnlyClubBook secondSnapshot = clubBook.getSnapshot();
+
+        assertNotSame(firstSnapshot, secondSnapshot);
+        assertSame(firstSnapshot.getMemberList(), secondSnapshot.getMemberList());
+        assertSame(firstSnapshot.getTagList(), secondSnapshot.getTagList());
+        assertNotSame(firstSnapshot.getTaskList(), secondSnapshot.getTaskList());
+        assertEquals(Collections.emptyList(), secondSnapshot.getTaskList());
+    }
+
+    @Test
+    public void getSnapshot_madeFromChangesSincePreviousSnapshot_matchesClubBook() throws Exception {
+        ClubBook clubBook = new ClubBookBuilder(getTypicalClubBook()).withTask(BUY_FOOD).build();
+        ReadOnlyClubBook firstSnapshot = clubBook.getSnapshot();
+
+        clubBook.addMember(AMY);
+        clubBook.updateMember(ALICE, new MemberBuilder(ALICE).withTags(VALID_TAG_UNUSED).build());
+        clubBook.removeMember(BENSON);
+        clubBook.addTaskToTaskList(BUY_CONFETTI);
+        ReadOnlyClubBook secondSnapshot = clubBook.getSnapshot();
+
+        assertEquals(new ArrayList<>(clubBook.getMemberList()), new ArrayList<>(secondSnapshot.getMemberList()));
+        assertEquals(new ArrayList<>(clubBook.getTagList()), new ArrayList<>(secondSnapshot.getTagList()));
+        assertEquals(new ArrayList<>(clubBook.getTaskList()), new ArrayList<>(secondSnapshot.getTaskList()));
+        assertEquals(getTypicalClubBook().getMemberList(), firstSnapshot.getMemberList());
+        assertEquals(Arrays.asList(BUY_FOOD), firstSnapshot.getTaskList());
+    }
+
+    @Test
+    public void getChangesSince_snapshotsOfSameClubBook_changesInOrder() throws Exception {
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withTask(BUY_FOOD).build();
+        ClubBookSnapshot firstSnapshot = clubBook.getSnapshot();
+        clubBook.addMember(BENSON);
+        clubBook.getSnapshot();
+        clubBook.deleteTask(BUY_FOOD);
+        ClubBookSnapshot thirdSnapshot = clubBook.getSnapshot();
+
+        List<ClubBookEdit> changes = thirdSnapshot.getChangesSince(firstSnapshot);
+        assertEquals(2, changes.size());
+        List<ClubBookEdit.Change> firstChanges = changes.get(0).getChanges();
+        assertEquals(Arrays.asList(BENSON), firstChanges.get(firstChanges.size() - 1).getAdded());
+        assertEquals(Arrays.asList(BUY_FOOD), changes.get(1).getChanges().get(0).getRemoved());
+        assertEquals(Collections.emptyList(), thirdSnapshot.getChangesSince(thirdSnapshot));
+
+        // snapshot of another club book
+        assertNull(thirdSnapshot.getChangesSince(new ClubBook(clubBook).getSnapshot()));
+    }
+
+    @Test
+    public void resetData_snapshotWithSomeSectionsModified_onlyThoseSectionsReplaced() throws Exception {
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withTask(BUY_FOOD).build();
+        ReadOnlyClubBook snapshot = clubBook.getSnapshot();
+        clubBook.deleteTask(BUY_FOOD);
+        long membersVersion = clubBook.getSectionVersion(ClubBookSection.MEMBERS);
+        long tasksVersion = clubBook.getSectionVersion(ClubBookSection.TASKS);
+
+        clubBook.resetData(snapshot);
+
+        assertEquals(membersVersion, clubBook.getSectionVersion(ClubBookSection.MEMBERS));
+        assertNotEquals(tasksVersion, clubBook.getSectionVersion(ClubBookSection.TASKS));
+        assertEquals(Arrays.asList(BUY_FOOD), clubBook.getTaskList());
+    }
+
+    @Test
+    public void revert_membersTagsAndTasksChanged_originalStateRestored() throws Exception {
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withMember(BENSON).withTask(BUY_FOOD).build();
+        ClubBook expectedClubBook = new ClubBookBuilder().withMember(ALICE).withMember(BENSON).withTask(BUY_FOOD)
+                .build();
+        Member editedAlice = new MemberBuilder(ALICE).withTags(VALID_TAG_UNUSED).build();
+
+        ClubBookEdit edit = clubBook.startRecording();
+        clubBook.addMember(DANIEL);
+        clubBook.updateMember(ALICE, editedAlice);
+        clubBook.removeMember(BENSON);
+        clubBook.deleteTask(BUY_FOOD);
+        clubBook.revert(edit);
+
+        assertEquals(expectedClubBook, clubBook);
+        assertEquals(expectedClubBook.getMemberList(), clubBook.getMemberList());
+        assertEquals(Arrays.asList(BUY_FOOD), clubBook.getTaskList());
+        assertEquals(Collections.emptyList(), clubBook.getMembersWithTag(new Tag(VALID_TAG_UNUSED)));
+        assertEquals(BENSON, clubBook.getMemberByMatricNumber(BENSON.getMatricNumber()));
+        thrown.expect(MemberNotFoundException.class);
+        clubBook.getMemberByMatricNumber(DANIEL.getMatricNumber());
+    }
+
+    @Test
+    public void startRecording_onlyChangedElementsRecorded() throws Exception {
+        ClubBook clubBook = new ClubBookBuilder(getTypicalClubBook()).withTask(BUY_FOOD).build();
+        ClubBookEdit edit = clubBook.startRecording();
+
+        clubBook.deleteTask(BUY_FOOD);
+        clubBook.stopRecording(edit);
+        clubBook.addTaskToTaskList(BUY_FOOD);
+
+        // only the removed task is held, however large the club book is
+        assertEquals(1, edit.size());
+        assertEquals(1, edit.getChanges().size());
+        assertEquals(Arrays.asList(BUY_FOOD), edit.getChanges().get(0).getRemoved());
+    }
+
     /**
      * A stub ReadOnlyClubBook whose members and tags lists can violate interface constraints.
      */
     private static class ClubBookStub implements ReadOnlyClubBook {
+        /** A version that no club book section has, so that every section of the stub is seen as changed. */
+        private static final long NO_VERSION = 0;
+
         private final ObservableList<Member> members = FXCollections.observableArrayList();
         private final ObservableList<Tag> tags = FXCollections.observableArrayList();
         private final ObservableList<Poll> polls = FXCollections.observableArrayList();
@@ -380,6 +673,17 @@ public class ClubBookTest {
             return tasks;
         }
 
+        @Override
+        public long getSectionVersion(ClubBookSection section) {
+            return NO_VERSION;
+        }
+
+        @Override
+        public ReadOnlyClubBook getSnapshot() {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void setPolls(Set<Poll> polls) {
             fail("This method should not be called.");
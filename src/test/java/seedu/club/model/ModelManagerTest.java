@@ -27,6 +27,10 @@ import static seedu.club.testutil.TypicalTasks.BUY_FOOD;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -34,7 +38,14 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.club.commons.events.model.ClubBookChangedEvent;
+import seedu.club.commons.events.model.MemberUpdatedEvent;
+import seedu.club.commons.events.model.MembersAddedEvent;
 import seedu.club.commons.events.model.NewExportDataAvailableEvent;
+import seedu.club.commons.events.model.TagRemovedEvent;
+import seedu.club.commons.events.model.TaskChangedEvent;
+import seedu.club.commons.util.CsvColumn;
+import seedu.club.commons.util.CsvUtil;
+import seedu.club.commons.util.FileUtil;
 import seedu.club.logic.commands.ViewMyTasksCommand;
 import seedu.club.model.email.Body;
 import seedu.club.model.email.Client;
@@ -84,6 +95,31 @@ public class ModelManagerTest {
         modelManager.getFilteredMemberList().remove(0);
     }
 
+    @Test
+    public void updateFilteredMemberList_samePredicateOnUnchangedList_listNotRefiltered() throws Exception {
+        Member benson = new MemberBuilder(BENSON).build();
+        ModelManager modelManager = new ModelManager(new ClubBookBuilder().withMember(ALICE).withMember(benson)
+                .build(), new UserPrefs());
+        AtomicInteger testCount = new AtomicInteger();
+
+        modelManager.updateFilteredMemberList(new CountingPredicate(testCount));
+        assertEquals(2, testCount.get());
+
+        // equal predicate -> list not filtered again
+        modelManager.updateFilteredMemberList(new CountingPredicate(testCount));
+        assertEquals(2, testCount.get());
+
+        // list changed -> predicate applied again
+        modelManager.deleteMember(benson);
+        testCount.set(0);
+        modelManager.updateFilteredMemberList(new CountingPredicate(testCount));
+        assertEquals(1, testCount.get());
+
+        // different predicate -> predicate applied
+        modelManager.updateFilteredMemberList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+        assertTrue(modelManager.getFilteredMemberList().isEmpty());
+    }
+
     //@@author yash-chowdhary
     @Test
     public void removeGroup_nonExistentGroup_modelUnchanged() throws Exception {
@@ -194,7 +230,7 @@ public class ModelManagerTest {
         ModelManager modelManager = new ModelManager(clubBook, userPrefs);
         modelManager.logsInMember(ALICE.getCredentials().getUsername().value,
                 ALICE.getCredentials().getPassword().value);
-        modelManager.addTaskToTaskList(BUY_FOOD);
+        modelManager.addTaskToTaskList(new TaskBuilder(BUY_FOOD).build());
 
         ModelManager expectedModel = new ModelManager(clubBook, userPrefs);
         expectedModel.logsInMember(ALICE.getCredentials().getUsername().value,
@@ -214,7 +250,7 @@ public class ModelManagerTest {
         expectedModel.logsInMember(ALICE.getCredentials().getUsername().value,
                 ALICE.getCredentials().getPassword().value);
         try {
-            modelManager.addTaskToTaskList(BUY_CONFETTI);
+            modelManager.addTaskToTaskList(new TaskBuilder(BUY_CONFETTI).build());
         } catch (DuplicateTaskException dte) {
             assertEquals(expectedModel, modelManager);
         }
@@ -228,7 +264,7 @@ public class ModelManagerTest {
         ModelManager modelManager = new ModelManager(clubBook, userPrefs);
         modelManager.logsInMember(ALICE.getCredentials().getUsername().value,
                 ALICE.getCredentials().getPassword().value);
-        modelManager.assignTask(BUY_FOOD, BOB.getMatricNumber());
+        modelManager.assignTask(new TaskBuilder(BUY_FOOD).build(), BOB.getMatricNumber());
 
 
         ModelManager expectedModel = new ModelManager(clubBook, userPrefs);
@@ -256,7 +292,7 @@ public class ModelManagerTest {
         ModelManager expectedModel = new ModelManager(clubBook, userPrefs);
         expectedModel.logsInMember(AMY.getCredentials().getUsername().value, AMY.getCredentials().getPassword().value);
         try {
-            modelManager.assignTask(BUY_FOOD, BOB.getMatricNumber());
+            modelManager.assignTask(new TaskBuilder(BUY_FOOD).build(), BOB.getMatricNumber());
         } catch (DuplicateTaskException dte) {
             assertEquals(expectedModel, modelManager);
         } catch (MemberNotFoundException | TaskAlreadyAssignedException e) {
@@ -274,7 +310,7 @@ public class ModelManagerTest {
         ModelManager expectedModel = new ModelManager(clubBook, userPrefs);
         expectedModel.logsInMember(AMY.getCredentials().getUsername().value, AMY.getCredentials().getPassword().value);
         try {
-            modelManager.assignTask(BUY_CONFETTI, BOB.getMatricNumber());
+            modelManager.assignTask(new TaskBuilder(BUY_CONFETTI).build(), BOB.getMatricNumber());
         } catch (DuplicateTaskException | TaskAlreadyAssignedException e) {
             fail("This exception should not be caught");
         } catch (MemberNotFoundException mnfe) {
@@ -293,7 +329,7 @@ public class ModelManagerTest {
         expectedModel.logsInMember(BOB.getCredentials().getUsername().value, BOB.getCredentials().getPassword().value);
 
         try {
-            modelManager.assignTask(BUY_CONFETTI, BOB.getMatricNumber());
+            modelManager.assignTask(new TaskBuilder(BUY_CONFETTI).build(), BOB.getMatricNumber());
         } catch (DuplicateTaskException | MemberNotFoundException | TaskAlreadyAssignedException e) {
             fail("This exception should not be caught");
         }
@@ -619,6 +655,169 @@ public class ModelManagerTest {
         assertEquals(expectedModel, modelManager);
     }
 
+    @Test
+    public void deleteTag_tagUsedByMultipleMembers_tagRemovedEventRaised() throws Exception {
+        Member amy = new MemberBuilder(AMY).withTags(VALID_TAG_HEAD).build();
+        Member bob = new MemberBuilder(BOB).withTags(VALID_TAG_HUSBAND, VALID_TAG_HEAD).build();
+        Member carl = new MemberBuilder(CARL).withTags().build();
+        ClubBook clubBook = new ClubBookBuilder().withMember(amy).withMember(bob).withMember(carl).build();
+        ModelManager modelManager = new ModelManager(clubBook, new UserPrefs());
+        Tag head = new Tag(VALID_TAG_HEAD);
+
+        modelManager.deleteTag(head);
+
+        TagRemovedEvent event = (TagRemovedEvent) eventsCollectorRule.eventsCollector.getSecondMostRecent();
+        assertEquals(head, event.tag);
+        assertEquals(2, event.affectedMembers.size());
+        for (Member member : event.affectedMembers) {
+            assertFalse(member.getTags().contains(head));
+            assertTrue(modelManager.getClubBook().getMemberList().contains(member));
+        }
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ClubBookChangedEvent);
+    }
+
+    @Test
+    public void addMember_newMember_membersAddedEventRaised() throws Exception {
+        ModelManager modelManager = new ModelManager(new ClubBookBuilder().withMember(ALICE).build(),
+                new UserPrefs());
+
+        modelManager.addMember(BENSON);
+
+        MembersAddedEvent event = (MembersAddedEvent) eventsCollectorRule.eventsCollector.getSecondMostRecent();
+        assertEquals(Arrays.asList(BENSON), event.members);
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ClubBookChangedEvent);
+    }
+
+    @Test
+    public void deleteTask_validTask_taskChangedEventRaised() throws Exception {
+        Task task = new TaskBuilder().withAssignor(ALICE.getMatricNumber().toString())
+                .withAssignee(ALICE.getMatricNumber().toString()).build();
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withTask(task).build();
+        ModelManager modelManager = new ModelManager(clubBook, new UserPrefs());
+        modelManager.logsInMember(ALICE.getCredentials().getUsername().value,
+                ALICE.getCredentials().getPassword().value);
+
+        modelManager.deleteTask(task);
+
+        TaskChangedEvent event = (TaskChangedEvent) eventsCollectorRule.eventsCollector.getSecondMostRecent();
+        assertEquals(task, event.oldTask);
+        assertEquals(null, event.newTask);
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ClubBookChangedEvent);
+    }
+
+    @Test
+    public void commitBatch_severalChanges_singleClubBookChangedEventRaised() throws Exception {
+        ModelManager modelManager = new ModelManager(new ClubBookBuilder().withMember(ALICE).build(),
+                new UserPrefs());
+
+        modelManager.beginBatch();
+        modelManager.addMember(BENSON);
+        modelManager.addMember(CARL);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.commitBatch();
+        assertEquals(3, eventsCollectorRule.eventsCollector.getSize());
+        MembersAddedEvent event = (MembersAddedEvent) eventsCollectorRule.eventsCollector.getSecondMostRecent();
+        assertEquals(Arrays.asList(CARL), event.members);
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ClubBookChangedEvent);
+    }
+
+    @Test
+    public void commitBatch_noChanges_noEventRaised() {
+        ModelManager modelManager = new ModelManager(new ClubBookBuilder().withMember(ALICE).build(),
+                new UserPrefs());
+
+        modelManager.beginBatch();
+        modelManager.commitBatch();
+
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void rollbackBatch_severalChanges_changesReverted() throws Exception {
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withMember(BENSON).build();
+        ModelManager modelManager = new ModelManager(clubBook, new UserPrefs());
+
+        modelManager.beginBatch();
+        modelManager.addMember(CARL);
+        modelManager.deleteTag(new Tag("head"));
+        modelManager.rollbackBatch();
+
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertEquals(clubBook.getMemberList(), modelManager.getClubBook().getMemberList());
+        assertEquals(new HashSet<>(clubBook.getTagList()), new HashSet<>(modelManager.getClubBook().getTagList()));
+    }
+
+    @Test
+    public void updateMember_updatedTaskWouldBeDuplicate_nothingUpdated() throws Exception {
+        String newMatricNumber = "A0000000Z";
+        Task taskForBenson = new TaskBuilder(BUY_CONFETTI).withAssignor(ALICE.getMatricNumber().toString())
+                .withAssignee(BENSON.getMatricNumber().toString()).build();
+        Task sameTaskByNewMatricNumber = new TaskBuilder(taskForBenson).withAssignor(newMatricNumber).build();
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withMember(BENSON).withTask(taskForBenson)
+                .withTask(sameTaskByNewMatricNumber).build();
+        ModelManager modelManager = new ModelManager(clubBook, new UserPrefs());
+        Member editedAlice = new MemberBuilder(ALICE).withMatricNumber(newMatricNumber).build();
+
+        try {
+            modelManager.updateMember(ALICE, editedAlice);
+            fail("The expected DuplicateTaskException was not thrown.");
+        } catch (DuplicateTaskException dte) {
+            // the tasks added in the other order are kept in the same order
+            ClubBook expectedClubBook = new ClubBookBuilder().withMember(ALICE).withMember(BENSON)
+                    .withTask(sameTaskByNewMatricNumber).withTask(taskForBenson).build();
+            assertEquals(expectedClubBook.getMemberList(), modelManager.getClubBook().getMemberList());
+            assertEquals(expectedClubBook.getTaskList(), modelManager.getClubBook().getTaskList());
+        }
+    }
+
+    @Test
+    public void updateMember_newMatricNumber_relatedTasksUpdated() throws Exception {
+        String newMatricNumber = "A0000000Z";
+        Task task = new TaskBuilder(BUY_CONFETTI).withAssignor(ALICE.getMatricNumber().toString())
+                .withAssignee(ALICE.getMatricNumber().toString()).build();
+        ModelManager modelManager = new ModelManager(new ClubBookBuilder().withMember(ALICE).withTask(task).build(),
+                new UserPrefs());
+        modelManager.logsInMember(ALICE.getCredentials().getUsername().value,
+                ALICE.getCredentials().getPassword().value);
+
+        int numberOfTasksUpdated = modelManager.updateMember(ALICE,
+                new MemberBuilder(ALICE).withMatricNumber(newMatricNumber).build());
+
+        assertEquals(1, numberOfTasksUpdated);
+        assertEquals(Arrays.asList(new TaskBuilder(task).withAssignor(newMatricNumber).withAssignee(newMatricNumber)
+                .build()), modelManager.getClubBook().getTaskList());
+    }
+
+    @Test
+    public void rollbackBatch_readOnlyBatch_nothingChanged() {
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withMember(BENSON).build();
+        ModelManager modelManager = new ModelManager(clubBook, new UserPrefs());
+        long membersVersion = modelManager.getClubBook().getSectionVersion(ClubBookSection.MEMBERS);
+
+        modelManager.beginBatch();
+        modelManager.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
+        modelManager.rollbackBatch();
+
+        assertEquals(membersVersion, modelManager.getClubBook().getSectionVersion(ClubBookSection.MEMBERS));
+        assertEquals(clubBook.getMemberList(), modelManager.getClubBook().getMemberList());
+    }
+
+    @Test
+    public void beginBatch_batchInProgress_throwsIllegalStateException() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.beginBatch();
+
+        thrown.expect(IllegalStateException.class);
+        modelManager.beginBatch();
+    }
+
+    @Test
+    public void commitBatch_noBatchInProgress_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        new ModelManager().commitBatch();
+    }
+
     //@@author amrut-prabhu
     @Test
     public void addProfilePhoto_eventRaised() throws Exception {
@@ -637,8 +836,9 @@ public class ModelManagerTest {
 
         modelManager.addProfilePhoto(photoDirectory + photoFileName);
 
-        //2 events are raised: ProfilePhotoChangedEvent and ClubBookChangedEvent
-        assertTrue(eventsCollectorRule.eventsCollector.getSize() == 2);
+        //3 events are raised: ProfilePhotoChangedEvent, MemberUpdatedEvent and ClubBookChangedEvent
+        assertTrue(eventsCollectorRule.eventsCollector.getSize() == 3);
+        assertTrue(eventsCollectorRule.eventsCollector.getSecondMostRecent() instanceof MemberUpdatedEvent);
         //Last event raised is ClubBookChangedEvent
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ClubBookChangedEvent);
 
@@ -660,6 +860,39 @@ public class ModelManagerTest {
         assertEquals(defaultPhoto, modelManager.getLoggedInMember().getProfilePhoto());
     }
 
+    @Test
+    public void getMemberByMatricNumber_existingMember_success() throws Exception {
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withMember(BENSON).build();
+        ModelManager modelManager = new ModelManager(clubBook, new UserPrefs());
+
+        assertEquals(BENSON, modelManager.getMemberByMatricNumber(BENSON.getMatricNumber()));
+    }
+
+    @Test
+    public void getMemberByMatricNumber_missingMember_throwsMemberNotFoundException() throws Exception {
+        ModelManager modelManager = new ModelManager(new ClubBookBuilder().withMember(ALICE).build(), new UserPrefs());
+
+        thrown.expect(MemberNotFoundException.class);
+        modelManager.getMemberByMatricNumber(BENSON.getMatricNumber());
+    }
+
+    @Test
+    public void importMembers_duplicateMembers_duplicatesSkipped() throws Exception {
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).build();
+        ModelManager modelManager = new ModelManager(clubBook, new UserPrefs());
+        Member bensonWithOtherName = new MemberBuilder(BENSON).withName("Other Benson").build();
+
+        File importFile = temporaryFolder.newFile("import.csv");
+        FileUtil.writeToFile(importFile, CsvUtil.getHeaders() + CsvUtil.toCsvFormat(ALICE)
+                + CsvUtil.toCsvFormat(BENSON) + CsvUtil.toCsvFormat(bensonWithOtherName) + CsvUtil.toCsvFormat(CARL));
+
+        assertEquals(2, modelManager.importMembers(importFile));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getClubBook().getMemberList());
+        MembersAddedEvent event = (MembersAddedEvent) eventsCollectorRule.eventsCollector.getSecondMostRecent();
+        assertEquals(Arrays.asList(BENSON, CARL), event.members);
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ClubBookChangedEvent);
+    }
+
     @Test
     public void exportClubConnectMembers_eventRaised() throws Exception {
         ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withMember(BENSON).build();
@@ -668,10 +901,26 @@ public class ModelManagerTest {
 
         File exportFile = temporaryFolder.newFile("actual.csv");
 
-        modelManager.exportClubConnectMembers(exportFile);
+        modelManager.exportClubConnectMembers(exportFile, CsvColumn.ALL_COLUMNS, false);
 
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof NewExportDataAvailableEvent);
     }
+
+    @Test
+    public void exportClubConnectMembers_filteredList_onlyFilteredMembersExported() throws Exception {
+        ClubBook clubBook = new ClubBookBuilder().withMember(ALICE).withMember(BENSON).build();
+        ModelManager modelManager = new ModelManager(clubBook, new UserPrefs());
+        String[] keywords = ALICE.getName().fullName.split("\\s+");
+        modelManager.updateFilteredMemberList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        List<CsvColumn> columns = Arrays.asList(CsvColumn.NAME, CsvColumn.EMAIL);
+
+        modelManager.exportClubConnectMembers(temporaryFolder.newFile("actual.csv"), columns, true);
+
+        NewExportDataAvailableEvent event =
+                (NewExportDataAvailableEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Arrays.asList(ALICE), event.members);
+        assertEquals(columns, event.columns);
+    }
     //@@author
 
     @Test
@@ -714,4 +963,32 @@ public class ModelManagerTest {
         expectedMode1.updateFilteredMemberList(expectedMode1.PREDICATE_SHOW_ALL_MEMBERS);
         assertTrue(modelManager.equals(expectedMode1));
     }
+
+    /**
+     * A predicate that accepts every member and counts the members it tests.
+     * All {@code CountingPredicate}s are equal.
+     */
+    private static class CountingPredicate implements Predicate<Member> {
+        private final AtomicInteger testCount;
+
+        CountingPredicate(AtomicInteger testCount) {
+            this.testCount = testCount;
+        }
+
+        @Override
+        public boolean test(Member member) {
+            testCount.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CountingPredicate;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
 }
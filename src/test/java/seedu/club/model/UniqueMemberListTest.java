@@ -1,10 +1,25 @@
 package seedu.club.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.club.testutil.TypicalMembers.ALICE;
+import static seedu.club.testutil.TypicalMembers.BENSON;
+import static seedu.club.testutil.TypicalMembers.CARL;
+
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.club.model.member.MatricNumber;
+import seedu.club.model.member.Member;
 import seedu.club.model.member.UniqueMemberList;
+import seedu.club.model.member.exceptions.DuplicateMatricNumberException;
+import seedu.club.model.member.exceptions.MemberNotFoundException;
+import seedu.club.testutil.MemberBuilder;
 
 public class UniqueMemberListTest {
     @Rule
@@ -16,4 +31,83 @@ public class UniqueMemberListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniqueMemberList.asObservableList().remove(0);
     }
+
+    @Test
+    public void add_sameMatricNumber_throwsDuplicateMatricNumberException() throws Exception {
+        UniqueMemberList uniqueMemberList = new UniqueMemberList();
+        uniqueMemberList.add(ALICE);
+
+        thrown.expect(DuplicateMatricNumberException.class);
+        uniqueMemberList.add(new MemberBuilder(ALICE).withName("Other Alice").build());
+    }
+
+    @Test
+    public void getMemberByMatricNumber_existingMember_success() throws Exception {
+        UniqueMemberList uniqueMemberList = new UniqueMemberList();
+        uniqueMemberList.setMembers(Arrays.asList(ALICE, BENSON));
+
+        assertSame(BENSON, uniqueMemberList.getMemberByMatricNumber(new MatricNumber(BENSON.getMatricNumber().value)));
+    }
+
+    @Test
+    public void getMemberByMatricNumber_missingMember_throwsMemberNotFoundException() throws Exception {
+        UniqueMemberList uniqueMemberList = new UniqueMemberList();
+        uniqueMemberList.add(ALICE);
+
+        thrown.expect(MemberNotFoundException.class);
+        uniqueMemberList.getMemberByMatricNumber(BENSON.getMatricNumber());
+    }
+
+    @Test
+    public void setMember_changedMatricNumber_indexUpdated() throws Exception {
+        UniqueMemberList uniqueMemberList = new UniqueMemberList();
+        uniqueMemberList.add(ALICE);
+        Member editedAlice = new MemberBuilder(ALICE).withMatricNumber(CARL.getMatricNumber().value).build();
+
+        uniqueMemberList.setMember(ALICE, editedAlice);
+
+        assertFalse(uniqueMemberList.contains(ALICE));
+        assertSame(editedAlice, uniqueMemberList.getMemberByMatricNumber(CARL.getMatricNumber()));
+        uniqueMemberList.add(ALICE);
+        assertEquals(2, uniqueMemberList.asObservableList().size());
+    }
+
+    @Test
+    public void remove_existingMember_indexUpdated() throws Exception {
+        UniqueMemberList uniqueMemberList = new UniqueMemberList();
+        uniqueMemberList.setMembers(Arrays.asList(ALICE, BENSON));
+
+        uniqueMemberList.remove(ALICE);
+
+        assertFalse(uniqueMemberList.contains(ALICE));
+        assertTrue(uniqueMemberList.contains(BENSON));
+        uniqueMemberList.add(ALICE);
+    }
+
+    @Test
+    public void setMembers_replacementList_indexReplaced() throws Exception {
+        UniqueMemberList uniqueMemberList = new UniqueMemberList();
+        uniqueMemberList.setMembers(Arrays.asList(ALICE, BENSON));
+
+        uniqueMemberList.setMembers(Arrays.asList(CARL));
+
+        assertFalse(uniqueMemberList.contains(ALICE));
+        assertTrue(uniqueMemberList.contains(CARL));
+
+        uniqueMemberList.clear();
+        assertFalse(uniqueMemberList.contains(CARL));
+    }
+
+    @Test
+    public void asObservableList_membersAddedAndRenamed_sortedByName() throws Exception {
+        UniqueMemberList uniqueMemberList = new UniqueMemberList();
+        uniqueMemberList.add(CARL);
+        uniqueMemberList.add(ALICE);
+        uniqueMemberList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniqueMemberList.asObservableList());
+
+        Member renamedAlice = new MemberBuilder(ALICE).withName("Zed Alice").build();
+        uniqueMemberList.setMember(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, renamedAlice), uniqueMemberList.asObservableList());
+    }
 }
@@ -0,0 +1,45 @@
+package seedu.club.model.member;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void add_duplicateWord_wordAddedOnce() {
+        BkTree tree = new BkTree();
+        tree.add("alice");
+        tree.add("alice");
+        tree.add("bob");
+
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_emptyTree_noWordsFound() {
+        assertTrue(new BkTree().search("alice", 2).isEmpty());
+    }
+
+    @Test
+    public void search_wordsAtDifferentDistances_onlyCloseWordsFound() {
+        BkTree tree = new BkTree();
+        for (String word : new String[] {"meier", "meyer", "mueller", "kunz", "kurz", "best", "book"}) {
+            tree.add(word);
+        }
+
+        Map<String, Integer> expectedMatches = new HashMap<>();
+        expectedMatches.put("meyer", 0);
+        expectedMatches.put("meier", 1);
+        assertEquals(expectedMatches, tree.search("meyer", 1));
+
+        expectedMatches.clear();
+        expectedMatches.put("kunz", 1);
+        expectedMatches.put("kurz", 1);
+        assertEquals(expectedMatches, tree.search("kuz", 1));
+    }
+}
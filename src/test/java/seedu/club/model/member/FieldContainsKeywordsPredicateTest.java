@@ -13,12 +13,23 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import seedu.club.testutil.MemberBuilder;
 
 public class FieldContainsKeywordsPredicateTest {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_blankKeyword_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new FieldContainsKeywordsPredicate(Arrays.asList("alice", "  "), PREFIX_NAME);
+    }
+
     @Test
     public void equals_namePrefix() {
         List<String> firstPredicateKeywordList = Collections.singletonList("first");
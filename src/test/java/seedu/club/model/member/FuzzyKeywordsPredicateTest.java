@@ -0,0 +1,69 @@
+package seedu.club.model.member;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.club.testutil.MemberBuilder;
+
+public class FuzzyKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        FuzzyKeywordsPredicate firstPredicate = new FuzzyKeywordsPredicate(Collections.singletonList("first"));
+        FuzzyKeywordsPredicate secondPredicate = new FuzzyKeywordsPredicate(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values, ignoring case -> returns true
+        FuzzyKeywordsPredicate upperCasePredicate = new FuzzyKeywordsPredicate(Collections.singletonList("FIRST"));
+        assertTrue(firstPredicate.equals(upperCasePredicate));
+        assertEquals(firstPredicate.hashCode(), upperCasePredicate.hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_closeKeywords_returnsTrue() {
+        Member member = new MemberBuilder().withName("Alice Pauline").withEmail("alice@example.com")
+                .withTags("treasurer").build();
+
+        // misspelt name
+        assertTrue(new FuzzyKeywordsPredicate(Collections.singletonList("Alcie")).test(member));
+
+        // misspelt email and tag
+        assertTrue(new FuzzyKeywordsPredicate(Collections.singletonList("exmple")).test(member));
+        assertTrue(new FuzzyKeywordsPredicate(Collections.singletonList("tresurer")).test(member));
+
+        // only one close keyword
+        assertTrue(new FuzzyKeywordsPredicate(Arrays.asList("Bob", "Paulin")).test(member));
+    }
+
+    @Test
+    public void test_distantKeywords_returnsFalse() {
+        Member member = new MemberBuilder().withName("Alice Pauline").withEmail("alice@example.com")
+                .withPhone("12345").build();
+
+        // short keywords must match exactly
+        assertFalse(new FuzzyKeywordsPredicate(Collections.singletonList("al")).test(member));
+
+        // too many edits
+        assertFalse(new FuzzyKeywordsPredicate(Collections.singletonList("Alex")).test(member));
+
+        // phone is not searched
+        assertFalse(new FuzzyKeywordsPredicate(Collections.singletonList("12345")).test(member));
+    }
+}
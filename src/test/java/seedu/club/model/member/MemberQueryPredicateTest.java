@@ -0,0 +1,107 @@
+package seedu.club.model.member;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.club.testutil.MemberBuilder;
+
+public class MemberQueryPredicateTest {
+
+    private final Member alice = new MemberBuilder().withName("Alice Pauline").withMatricNumber("A0123456A")
+            .withGroup("logistics").withTags("treasurer").build();
+    private final Member bob = new MemberBuilder().withName("Bob Choo").withMatricNumber("A0123457A")
+            .withGroup("logistics").withTags("treasurer", "friends").build();
+    private final Member carol = new MemberBuilder().withName("Carol John").withMatricNumber("A0123458A")
+            .withGroup("publicity").withTags("friends").build();
+
+    private final Predicate<Member> logistics =
+            new FieldContainsKeywordsPredicate(Collections.singletonList("logistics"), PREFIX_GROUP);
+    private final Predicate<Member> treasurer =
+            new FieldContainsKeywordsPredicate(Collections.singletonList("treasurer"), PREFIX_TAG);
+    private final Predicate<Member> friends =
+            new FieldContainsKeywordsPredicate(Collections.singletonList("friends"), PREFIX_TAG);
+    private final Predicate<Member> bobName =
+            new FieldContainsKeywordsPredicate(Collections.singletonList("bob"), PREFIX_NAME);
+
+    @Test
+    public void equals() {
+        MemberQueryPredicate firstQuery = MemberQueryPredicate.and(Arrays.asList(logistics, treasurer));
+
+        // same object -> returns true
+        assertTrue(firstQuery.equals(firstQuery));
+
+        // same values -> returns true
+        assertTrue(firstQuery.equals(MemberQueryPredicate.and(Arrays.asList(logistics, treasurer))));
+
+        // null -> returns false
+        assertFalse(firstQuery.equals(null));
+
+        // different operator -> returns false
+        assertFalse(firstQuery.equals(MemberQueryPredicate.or(Arrays.asList(logistics, treasurer))));
+
+        // different clauses -> returns false
+        assertFalse(firstQuery.equals(MemberQueryPredicate.and(Arrays.asList(logistics, friends))));
+    }
+
+    @Test
+    public void test_query_matchingMembersPass() {
+        MemberQueryPredicate query = MemberQueryPredicate.and(Arrays.asList(logistics, treasurer,
+                MemberQueryPredicate.not(bobName)));
+        assertTrue(query.test(alice));
+        assertFalse(query.test(bob));
+        assertFalse(query.test(carol));
+
+        query = MemberQueryPredicate.or(Arrays.asList(bobName, MemberQueryPredicate.not(logistics)));
+        assertFalse(query.test(alice));
+        assertTrue(query.test(bob));
+        assertTrue(query.test(carol));
+    }
+
+    @Test
+    public void withIndex_queries_sameResultsAsQuery() {
+        MemberSearchIndex index = new MemberSearchIndex();
+        List<Member> members = Arrays.asList(alice, bob, carol);
+        members.forEach(index::add);
+        Predicate<Member> unindexed = member -> member.getName().fullName.startsWith("C");
+
+        List<MemberQueryPredicate> queries = Arrays.asList(
+                MemberQueryPredicate.and(Arrays.asList(logistics, treasurer, MemberQueryPredicate.not(bobName))),
+                MemberQueryPredicate.and(Arrays.asList(friends, logistics)),
+                MemberQueryPredicate.and(Arrays.asList(bobName, MemberQueryPredicate.not(friends))),
+                MemberQueryPredicate.or(Arrays.asList(bobName, MemberQueryPredicate.not(logistics))),
+                MemberQueryPredicate.or(Arrays.asList(unindexed, MemberQueryPredicate.and(Arrays.asList(
+                        treasurer, MemberQueryPredicate.not(bobName))))),
+                MemberQueryPredicate.not(MemberQueryPredicate.and(Arrays.asList(friends, unindexed))));
+        for (MemberQueryPredicate query : queries) {
+            Predicate<Member> plannedQuery = query.withIndex(index);
+            for (Member member : members) {
+                assertEquals(query.toString() + " on " + member, query.test(member), plannedQuery.test(member));
+            }
+        }
+    }
+
+    @Test
+    public void withIndex_indexChanged_planUpdated() {
+        MemberSearchIndex index = new MemberSearchIndex();
+        index.add(alice);
+        Predicate<Member> plannedQuery = MemberQueryPredicate.and(Arrays.asList(treasurer, friends)).withIndex(index);
+        assertFalse(plannedQuery.test(bob));
+
+        index.add(bob);
+        assertTrue(plannedQuery.test(bob));
+
+        index.remove(bob.getMatricNumber());
+        assertFalse(plannedQuery.test(bob));
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.club.model.member;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.club.testutil.MemberBuilder;
+
+public class MemberSearchIndexTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Member alice = new MemberBuilder().withName("Alice Pauline").withMatricNumber("A0123456A")
+            .withEmail("alice@example.com").withTags("friends").build();
+    private final Member bob = new MemberBuilder().withName("Bob Choo").withMatricNumber("A0123457A")
+            .withEmail("bob@example.com").withTags("owesMoney").build();
+
+    @Test
+    public void getCandidates_keywordsOfDifferentLengths_allMatchingMembersFound() {
+        MemberSearchIndex index = new MemberSearchIndex();
+        index.add(alice);
+        index.add(bob);
+
+        assertEquals(Collections.singleton(alice.getMatricNumber()), index.getCandidates("LIC", PREFIX_NAME));
+        assertEquals(Collections.singleton(alice.getMatricNumber()), index.getCandidates("pauLINE", PREFIX_NAME));
+        assertEquals(new HashSet<>(Arrays.asList(alice.getMatricNumber(), bob.getMatricNumber())),
+                index.getCandidates("o", null));
+        assertEquals(Collections.singleton(bob.getMatricNumber()), index.getCandidates("money", PREFIX_TAG));
+        assertTrue(index.getCandidates("money", PREFIX_NAME).isEmpty());
+        assertTrue(index.getCandidates("zzz", null).isEmpty());
+    }
+
+    @Test
+    public void getCandidates_keywordGramsInDifferentFields_memberNotFound() {
+        MemberSearchIndex index = new MemberSearchIndex();
+        index.add(alice);
+
+        // "ali" is in the name and "ice" in the email, but the name does not contain "alice@".
+        assertTrue(index.getCandidates("alice@", PREFIX_NAME).isEmpty());
+        assertEquals(Collections.singleton(alice.getMatricNumber()), index.getCandidates("alice@", PREFIX_EMAIL));
+    }
+
+    @Test
+    public void add_memberWithSameMatricNumber_memberReplaced() {
+        MemberSearchIndex index = new MemberSearchIndex();
+        index.add(alice);
+        long version = index.getVersion();
+
+        index.add(new MemberBuilder(alice).withName("Carol").build());
+
+        assertTrue(index.getCandidates("alice", PREFIX_NAME).isEmpty());
+        assertEquals(Collections.singleton(alice.getMatricNumber()), index.getCandidates("carol", PREFIX_NAME));
+        assertFalse(version == index.getVersion());
+    }
+
+    @Test
+    public void remove_indexedMember_memberNotFound() {
+        MemberSearchIndex index = new MemberSearchIndex();
+        index.add(alice);
+        index.add(bob);
+
+        index.remove(alice.getMatricNumber());
+
+        assertTrue(index.getCandidates("alice", null).isEmpty());
+        assertEquals(Collections.singleton(bob.getMatricNumber()), index.getCandidates("bob", null));
+    }
+
+    @Test
+    public void getFuzzyMatches_misspeltKeywords_closestMembersFirst() {
+        MemberSearchIndex index = new MemberSearchIndex();
+        index.add(alice);
+        index.add(bob);
+
+        Map<MatricNumber, Integer> matches = index.getFuzzyMatches(Arrays.asList("alcie", "choa"), 10);
+        assertEquals(Arrays.asList(bob.getMatricNumber(), alice.getMatricNumber()),
+                new ArrayList<>(matches.keySet()));
+        assertEquals(Integer.valueOf(2), matches.get(alice.getMatricNumber()));
+
+        // only the closest members are returned
+        assertEquals(Collections.singleton(bob.getMatricNumber()),
+                index.getFuzzyMatches(Arrays.asList("alcie", "choa"), 1).keySet());
+
+        // removed members are not found, although their words are still in the vocabulary
+        index.remove(alice.getMatricNumber());
+        assertTrue(index.getFuzzyMatches(Collections.singletonList("alcie"), 10).isEmpty());
+    }
+
+    @Test
+    public void withSearchIndex_listChanged_sameResultsAsPredicate() throws Exception {
+        UniqueMemberList members = new UniqueMemberList();
+        members.add(alice);
+        FieldContainsKeywordsPredicate predicate =
+                new FieldContainsKeywordsPredicate(Arrays.asList("choo", "PAUL"), null);
+        Predicate<Member> indexedPredicate = members.withSearchIndex(predicate);
+
+        assertTrue(indexedPredicate.test(alice));
+        assertFalse(indexedPredicate.test(bob));
+
+        members.add(bob);
+        assertTrue(indexedPredicate.test(bob));
+
+        Member renamedAlice = new MemberBuilder(alice).withName("Alice Tan").build();
+        members.setMember(alice, renamedAlice);
+        assertFalse(indexedPredicate.test(renamedAlice));
+        assertEquals(predicate.test(renamedAlice), indexedPredicate.test(renamedAlice));
+    }
+
+    @Test
+    public void getCandidates_blankKeyword_throwsIllegalArgumentException() {
+        MemberSearchIndex index = new MemberSearchIndex();
+        index.add(alice);
+
+        thrown.expect(IllegalArgumentException.class);
+        index.getCandidates("  ", PREFIX_NAME);
+    }
+
+    @Test
+    public void withSearchIndex_equalPredicates_equal() {
+        UniqueMemberList members = new UniqueMemberList();
+        FieldContainsKeywordsPredicate predicate =
+                new FieldContainsKeywordsPredicate(Collections.singletonList("alice"), PREFIX_NAME);
+        Predicate<Member> indexedPredicate = members.withSearchIndex(predicate);
+
+        // equal predicate on the same list -> returns true
+        Predicate<Member> otherIndexedPredicate = members.withSearchIndex(
+                new FieldContainsKeywordsPredicate(Collections.singletonList("alice"), PREFIX_NAME));
+        assertTrue(indexedPredicate.equals(otherIndexedPredicate));
+        assertEquals(indexedPredicate.hashCode(), otherIndexedPredicate.hashCode());
+
+        // different predicate -> returns false
+        assertFalse(indexedPredicate.equals(members.withSearchIndex(
+                new FieldContainsKeywordsPredicate(Collections.singletonList("bob"), PREFIX_NAME))));
+
+        // equal predicate on a different list -> returns false
+        assertFalse(indexedPredicate.equals(new UniqueMemberList().withSearchIndex(predicate)));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.club.model.member;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_MATRIC_NUMBER;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.club.testutil.MemberBuilder;
+
+public class SearchableFieldsTest {
+
+    private final Member alice = new MemberBuilder().withName("Alice Pauline").withPhone("85355255")
+            .withEmail("Alice.P@example.com").withMatricNumber("A0123456A").withGroup("logistics")
+            .withTags("treasurer").build();
+
+    @Test
+    public void getValues_eachField_lowerCaseValues() {
+        SearchableFields fields = new SearchableFields(alice);
+
+        assertEquals(Collections.singletonList("alice pauline"), fields.getValues(PREFIX_NAME));
+        assertEquals(Collections.singletonList("85355255"), fields.getValues(PREFIX_PHONE));
+        assertEquals(Collections.singletonList("alice.p@example.com"), fields.getValues(PREFIX_EMAIL));
+        assertEquals(Collections.singletonList("a0123456a"), fields.getValues(PREFIX_MATRIC_NUMBER));
+        assertEquals(Collections.singletonList("logistics"), fields.getValues(PREFIX_GROUP));
+        assertEquals(Collections.singletonList("[treasurer]"), fields.getValues(PREFIX_TAG));
+        assertEquals(Arrays.asList("alice pauline", "85355255", "alice.p@example.com", "a0123456a", "logistics",
+                "[treasurer]"), fields.getValues(null));
+    }
+
+    @Test
+    public void getWords_nameEmailAndTags_lowerCaseWords() {
+        assertEquals(new HashSet<>(Arrays.asList("alice", "pauline", "p", "example", "com", "treasurer")),
+                new SearchableFields(alice).getWords());
+    }
+
+    @Test
+    public void getSearchableFields_calledTwice_sameFields() {
+        assertSame(alice.getSearchableFields(), alice.getSearchableFields());
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.club.logic.commands.CommandTestUtil.VALID_TASK_DATE_1;
 
+import java.time.LocalDate;
+
 import org.junit.Test;
 
 public class DateTest {
@@ -68,4 +70,10 @@ public class DateTest {
         String expectedDate = VALID_TASK_DATE_1;
         assertEquals(expectedDate.hashCode(), date.hashCode());
     }
+
+    @Test
+    public void toLocalDate_mixedSeparators_parsedDayFirst() {
+        assertEquals(LocalDate.of(2019, 1, 2), new Date("2.1-2019").toLocalDate());
+        assertEquals(LocalDate.of(2018, 12, 31), new Date("31/12/2018").toLocalDate());
+    }
 }
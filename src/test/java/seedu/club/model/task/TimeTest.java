@@ -6,6 +6,8 @@ import static org.junit.Assert.assertTrue;
 import static seedu.club.logic.commands.CommandTestUtil.VALID_TASK_TIME_1;
 import static seedu.club.logic.commands.CommandTestUtil.VALID_TASK_TIME_2;
 
+import java.time.LocalTime;
+
 import org.junit.Test;
 
 public class TimeTest {
@@ -53,4 +55,9 @@ public class TimeTest {
         String expectedTime = VALID_TASK_TIME_1;
         assertEquals(expectedTime.hashCode(), time.hashCode());
     }
+
+    @Test
+    public void toLocalTime_validTime_parsed() {
+        assertEquals(LocalTime.of(9, 5), new Time("09:05").toLocalTime());
+    }
 }
@@ -1,16 +1,24 @@
 package seedu.club.model.task;
 
 //@@author yash-chowdhary
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.club.testutil.TypicalTasks.BOOK_AUDITORIUM;
 import static seedu.club.testutil.TypicalTasks.BUY_CONFETTI;
 import static seedu.club.testutil.TypicalTasks.BUY_FOOD;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.club.model.task.exceptions.DuplicateTaskException;
+import seedu.club.testutil.TaskBuilder;
 
 public class UniqueTaskListTest {
     @Rule
@@ -57,4 +65,94 @@ public class UniqueTaskListTest {
         uniqueTaskList.add(BUY_CONFETTI);
     }
 
+    @Test
+    public void getTasksDueBetween_tasksInRange_returnedInDueOrder() throws Exception {
+        UniqueTaskList uniqueTaskList = new UniqueTaskList(new HashSet<>(Arrays.asList(BUY_FOOD, BOOK_AUDITORIUM,
+                BUY_CONFETTI)));
+
+        assertEquals(Arrays.asList(BUY_CONFETTI, BOOK_AUDITORIUM), uniqueTaskList.getTasksDueBetween(
+                LocalDateTime.of(2018, 5, 1, 0, 0), LocalDateTime.of(2018, 5, 2, 13, 0)));
+        assertEquals(Collections.emptyList(), uniqueTaskList.getTasksDueBetween(
+                LocalDateTime.of(2018, 5, 3, 0, 0), LocalDateTime.of(2018, 5, 1, 0, 0)));
+    }
+
+    @Test
+    public void getTasksDueBetween_tasksDueAtSameTime_returnedInTaskOrder() throws Exception {
+        Task firstTask = new TaskBuilder().withDescription("Book hall").withDate("02/05/2018").withTime("10:00")
+                .build();
+        Task secondTask = new TaskBuilder(firstTask).withDescription("Call caterer").build();
+        Task thirdTask = new TaskBuilder(secondTask).withAssignee("A5215090A").build();
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        uniqueTaskList.add(thirdTask);
+        uniqueTaskList.add(firstTask);
+        uniqueTaskList.add(secondTask);
+
+        assertEquals(uniqueTaskList.asObservableList(), uniqueTaskList.getTasksDueBetween(
+                LocalDateTime.of(2018, 5, 2, 0, 0), LocalDateTime.of(2018, 5, 2, 23, 59)));
+    }
+
+    @Test
+    public void removeTasksAssignedTo_someTasksAssigned_onlyThoseRemoved() throws Exception {
+        Task ownTask = new TaskBuilder().withAssignor("A8389539B").withAssignee("A8389539B").build();
+        Task assignedTask = new TaskBuilder(ownTask).withAssignee("A9210701B").build();
+        Task otherTask = new TaskBuilder().withDescription("Buy Food").withAssignor("A9210701B")
+                .withAssignee("A9210701B").build();
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        uniqueTaskList.add(ownTask);
+        uniqueTaskList.add(assignedTask);
+        uniqueTaskList.add(otherTask);
+
+        assertEquals(2, uniqueTaskList.removeTasksAssignedTo("a9210701b"));
+
+        assertEquals(Arrays.asList(ownTask), uniqueTaskList.asObservableList());
+        assertEquals(Collections.emptyList(), uniqueTaskList.getTasksAssignedTo("A9210701B"));
+        assertEquals(Arrays.asList(ownTask), uniqueTaskList.getTasksRelatedTo("A8389539B"));
+    }
+
+    @Test
+    public void setTaskIgnoreStatus_newAssignee_indexUpdated() throws Exception {
+        Task task = new TaskBuilder().withAssignor("A8389539B").withAssignee("A8389539B").build();
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        uniqueTaskList.add(task);
+        Task reassignedTask = new TaskBuilder(task).withAssignee("A9210701B").build();
+
+        uniqueTaskList.setTaskIgnoreStatus(task, reassignedTask);
+
+        assertFalse(uniqueTaskList.contains(task));
+        assertTrue(uniqueTaskList.contains(reassignedTask));
+        Task completedTask = new TaskBuilder(reassignedTask).withStatus(Status.COMPLETED_STATUS).build();
+        assertTrue(uniqueTaskList.containsIgnoreStatus(completedTask));
+        assertEquals(Arrays.asList(reassignedTask), uniqueTaskList.getTasksAssignedTo("A9210701B"));
+        assertEquals(Collections.emptyList(), uniqueTaskList.getTasksAssignedTo("A8389539B"));
+    }
+
+    @Test
+    public void asObservableList_tasksInDifferentYears_sortedChronologically() throws Exception {
+        Task laterTask = new TaskBuilder().withDescription("Later").withDate("10/01/2019").withTime("09:00").build();
+        Task earlierTask = new TaskBuilder().withDescription("Earlier").withDate("2/01/2018").withTime("10:00")
+                .build();
+        Task earliestTask = new TaskBuilder().withDescription("Earliest").withDate("02/01/2018").withTime("09:30")
+                .build();
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        uniqueTaskList.add(laterTask);
+        uniqueTaskList.add(earlierTask);
+        uniqueTaskList.add(earliestTask);
+
+        assertEquals(Arrays.asList(earliestTask, earlierTask, laterTask), uniqueTaskList.asObservableList());
+    }
+
+    @Test
+    public void asObservableList_tasksDifferingOnlyInAssignor_sameOrderWhateverTheInsertionOrder() throws Exception {
+        Task firstTask = new TaskBuilder().withAssignor("A0123456H").build();
+        Task secondTask = new TaskBuilder().withAssignor("A5215090A").build();
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        uniqueTaskList.add(secondTask);
+        uniqueTaskList.add(firstTask);
+        UniqueTaskList otherTaskList = new UniqueTaskList();
+        otherTaskList.add(firstTask);
+        otherTaskList.add(secondTask);
+
+        assertEquals(Arrays.asList(firstTask, secondTask), uniqueTaskList.asObservableList());
+        assertEquals(otherTaskList, uniqueTaskList);
+    }
 }
@@ -0,0 +1,211 @@
+package seedu.club.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.club.testutil.TypicalMembers.ALICE;
+import static seedu.club.testutil.TypicalMembers.HOON;
+import static seedu.club.testutil.TypicalMembers.IDA;
+import static seedu.club.testutil.TypicalMembers.getTypicalClubBook;
+import static seedu.club.testutil.TypicalPolls.getTypicalClubBookWithPolls;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.club.commons.exceptions.DataConversionException;
+import seedu.club.commons.util.FileUtil;
+import seedu.club.model.ClubBook;
+import seedu.club.model.ReadOnlyClubBook;
+import seedu.club.testutil.TypicalTasks;
+
+public class BinaryClubBookStorageTest {
+
+    private static final String NOT_BINARY_FILE =
+            FileUtil.getPath("src/test/data/XmlSerializableClubBookTest/typicalMembersClubBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readClubBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryClubBookStorage("dummy").readClubBook(null);
+    }
+
+    @Test
+    public void readClubBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryClubBookStorage(getTempFilePath("missing.bin")).readClubBook().isPresent());
+    }
+
+    @Test
+    public void readClubBook_notBinaryFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new BinaryClubBookStorage(NOT_BINARY_FILE).readClubBook();
+    }
+
+    @Test
+    public void readClubBook_newerFormatVersion_throwsDataConversionException() throws Exception {
+        String filePath = getTempFilePath("TempClubBook.bin");
+        new BinaryClubBookStorage(filePath).saveClubBook(getTypicalClubBook());
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "rw")) {
+            file.seek(Integer.BYTES);
+            file.writeShort(BinaryClubBookStorage.FORMAT_VERSION + 1);
+        }
+
+        thrown.expect(DataConversionException.class);
+        new BinaryClubBookStorage(filePath).readClubBook();
+    }
+
+    @Test
+    public void readClubBook_truncatedFile_throwsDataConversionException() throws Exception {
+        String filePath = getTempFilePath("TempClubBook.bin");
+        new BinaryClubBookStorage(filePath).saveClubBook(getTypicalClubBook());
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "rw")) {
+            file.setLength(file.length() / 2);
+        }
+
+        thrown.expect(DataConversionException.class);
+        new BinaryClubBookStorage(filePath).readClubBook();
+    }
+
+    @Test
+    public void readClubBook_sectionLongerThanFile_throwsDataConversionException() throws Exception {
+        String filePath = getTempFilePath("TempClubBook.bin");
+        new BinaryClubBookStorage(filePath).saveClubBook(getTypicalClubBook());
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "rw")) {
+            file.seek(Integer.BYTES + Short.BYTES + 1);
+            file.writeInt(Integer.MAX_VALUE);
+        }
+
+        thrown.expect(DataConversionException.class);
+        new BinaryClubBookStorage(filePath).readClubBook();
+    }
+
+    @Test
+    public void readClubBook_dictionaryLargerThanSection_throwsDataConversionException() throws Exception {
+        String filePath = getTempFilePath("TempClubBook.bin");
+        new BinaryClubBookStorage(filePath).saveClubBook(getTypicalClubBook());
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "rw")) {
+            // the dictionary is the first section, and its size follows the section type and length
+            file.seek(Integer.BYTES + Short.BYTES + 1 + Integer.BYTES);
+            file.write(new byte[] {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07});
+        }
+
+        thrown.expect(DataConversionException.class);
+        new BinaryClubBookStorage(filePath).readClubBook();
+    }
+
+    @Test
+    public void readClubBook_unknownSection_sectionSkipped() throws Exception {
+        String filePath = getTempFilePath("TempClubBook.bin");
+        ClubBook original = getTypicalClubBook();
+        new BinaryClubBookStorage(filePath).saveClubBook(original);
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(filePath, true))) {
+            out.writeByte(99);
+            out.writeInt(3);
+            out.write(new byte[] {1, 2, 3});
+        }
+
+        assertEquals(original, new ClubBook(new BinaryClubBookStorage(filePath).readClubBook().get()));
+    }
+
+    @Test
+    public void readAndSaveClubBook_allInOrder_success() throws Exception {
+        String filePath = getTempFilePath("TempClubBook.bin");
+        ClubBook original = getTypicalClubBookWithPolls();
+        original.addTaskToTaskList(TypicalTasks.BOOK_AUDITORIUM);
+        BinaryClubBookStorage binaryClubBookStorage = new BinaryClubBookStorage(filePath);
+
+        //Save in new file and read back
+        binaryClubBookStorage.saveClubBook(original, filePath);
+        ReadOnlyClubBook readBack = binaryClubBookStorage.readClubBook(filePath).get();
+        assertEquals(original, new ClubBook(readBack));
+        assertEquals(original.getPollList(), readBack.getPollList());
+        assertEquals(original.getTaskList(), readBack.getTaskList());
+
+        //Modify data, overwrite existing file, and read back
+        original.addMember(HOON);
+        original.removeMember(ALICE);
+        binaryClubBookStorage.saveClubBook(original, filePath);
+        readBack = binaryClubBookStorage.readClubBook(filePath).get();
+        assertEquals(original, new ClubBook(readBack));
+
+        //Save and read without specifying file path
+        original.addMember(IDA);
+        binaryClubBookStorage.saveClubBook(original);
+        readBack = binaryClubBookStorage.readClubBook().get();
+        assertEquals(original, new ClubBook(readBack));
+    }
+
+    @Test
+    public void saveClubBook_typicalClubBook_smallerThanXml() throws Exception {
+        String xmlFilePath = getTempFilePath("TempClubBook.xml");
+        String binaryFilePath = getTempFilePath("TempClubBook.bin");
+        new XmlClubBookStorage(xmlFilePath).saveClubBook(getTypicalClubBookWithPolls());
+        new BinaryClubBookStorage(binaryFilePath).saveClubBook(getTypicalClubBookWithPolls());
+
+        assertTrue(new File(binaryFilePath).length() * 2 < new File(xmlFilePath).length());
+    }
+
+    @Test
+    public void migrateFrom_noBinaryFile_xmlDataCopied() throws Exception {
+        String xmlFilePath = getTempFilePath("TempClubBook.xml");
+        ClubBook original = getTypicalClubBook();
+        new XmlClubBookStorage(xmlFilePath).saveClubBook(original);
+
+        BinaryClubBookStorage binaryClubBookStorage =
+                new BinaryClubBookStorage(BinaryClubBookStorage.getBinaryFilePath(xmlFilePath));
+        assertTrue(binaryClubBookStorage.migrateFrom(new XmlClubBookStorage(xmlFilePath)));
+        assertEquals(original, new ClubBook(binaryClubBookStorage.readClubBook().get()));
+    }
+
+    @Test
+    public void migrateFrom_binaryFileExists_notCopied() throws Exception {
+        String xmlFilePath = getTempFilePath("TempClubBook.xml");
+        new XmlClubBookStorage(xmlFilePath).saveClubBook(getTypicalClubBook());
+        BinaryClubBookStorage binaryClubBookStorage =
+                new BinaryClubBookStorage(BinaryClubBookStorage.getBinaryFilePath(xmlFilePath));
+        ClubBook binaryClubBook = new ClubBook();
+        binaryClubBook.addMember(HOON);
+        binaryClubBookStorage.saveClubBook(binaryClubBook);
+
+        assertFalse(binaryClubBookStorage.migrateFrom(new XmlClubBookStorage(xmlFilePath)));
+        assertEquals(binaryClubBook, new ClubBook(binaryClubBookStorage.readClubBook().get()));
+    }
+
+    @Test
+    public void migrateFrom_noXmlFile_notCopied() throws Exception {
+        BinaryClubBookStorage binaryClubBookStorage = new BinaryClubBookStorage(getTempFilePath("TempClubBook.bin"));
+        assertFalse(binaryClubBookStorage.migrateFrom(new XmlClubBookStorage(getTempFilePath("missing.xml"))));
+        assertFalse(new File(binaryClubBookStorage.getClubBookFilePath()).exists());
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals("data" + File.separator + "clubbook.bin",
+                BinaryClubBookStorage.getBinaryFilePath("data" + File.separator + "clubbook.xml"));
+        assertEquals("data.d" + File.separator + "clubbook.bin",
+                BinaryClubBookStorage.getBinaryFilePath("data.d" + File.separator + "clubbook"));
+    }
+
+    @Test
+    public void saveClubBook_nullClubBook_throwsNullPointerException() throws IOException {
+        thrown.expect(NullPointerException.class);
+        new BinaryClubBookStorage(getTempFilePath("TempClubBook.bin")).saveClubBook(null);
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+}
@@ -11,6 +11,7 @@ import static seedu.club.testutil.TypicalMembers.getTypicalMembers;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Rule;
@@ -19,7 +20,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.club.commons.events.storage.DataReadingExceptionEvent;
-import seedu.club.commons.util.CsvUtil;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.commons.util.FileUtil;
 import seedu.club.model.member.Member;
 import seedu.club.model.member.UniqueMemberList;
@@ -98,58 +99,71 @@ public class CsvClubBookStorageTest {
         assertTrue(importedMembers.asObservableList().size() == 1); //No members imported
     }
 
+    @Test
+    public void readMembers_invalidAndValidMemberClubBook_invalidRowReported() throws Exception {
+        CsvClubBookStorage csvClubBookStorage =
+                new CsvClubBookStorage(new File(TEST_DATA_FOLDER + "invalidAndValidMemberClubBook.csv"));
+        List<Member> importedMembers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+
+        assertEquals(2, csvClubBookStorage.readMembers(importedMembers::addAll, errors::add));
+        assertEquals(1, importedMembers.size());
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).startsWith("Skipped line 3"));
+    }
+
+    @Test
+    public void readMembers_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        new CsvClubBookStorage(new File("NonExistentFile.csv")).readMembers(members -> { }, errors -> { });
+    }
+
     @Test
     public void readAndSaveClubBook_allInOrder_success() throws Exception {
         File exportFile = temp.newFile(FILE_NAME);
         List<Member> originalMemberList = getTypicalMembers();
-        StringBuilder dataToExport = new StringBuilder();
         CsvClubBookStorage csvClubBookStorage = new CsvClubBookStorage();
         csvClubBookStorage.setClubBookFile(exportFile);
 
         //Save in new file and read back
-        originalMemberList.forEach(member -> dataToExport.append(CsvUtil.toCsvFormat(member)));
-        csvClubBookStorage.saveData(dataToExport.toString());
+        csvClubBookStorage.saveMembers(originalMemberList, CsvColumn.ALL_COLUMNS);
         UniqueMemberList readBack = csvClubBookStorage.readClubBook(exportFile);
         assertEquals(originalMemberList, readBack.asObservableList());
 
         //Modify data, overwrite exiting file, and read back
         originalMemberList.add(HOON);
         originalMemberList.remove(ALICE);
-        dataToExport.setLength(0); //Clear buffer
-        dataToExport.trimToSize();
-        originalMemberList.forEach(member -> dataToExport.append(CsvUtil.toCsvFormat(member)));
-        csvClubBookStorage.saveData(dataToExport.toString());
+        csvClubBookStorage.saveMembers(originalMemberList, CsvColumn.ALL_COLUMNS);
         readBack = csvClubBookStorage.readClubBook(exportFile);
         assertEquals(originalMemberList, readBack.asObservableList());
 
         //Save and read without specifying file path
         originalMemberList.add(IDA);
-        originalMemberList.forEach(member -> dataToExport.append(CsvUtil.toCsvFormat(member)));
-        csvClubBookStorage.saveData(dataToExport.toString()); //file path not specified
+        csvClubBookStorage.saveMembers(originalMemberList, CsvColumn.ALL_COLUMNS); //file path not specified
         readBack = csvClubBookStorage.readClubBook(); //file path not specified
         assertEquals(originalMemberList, readBack.asObservableList());
     }
 
     @Test
-    public void saveData_nullData_throwsNullPointerException() {
+    public void saveMembers_nullMembers_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
-        saveData(null, new File("SomeFile.csv"));
+        saveMembers(null, new File("SomeFile.csv"));
     }
 
     @Test
-    public void saveData_nullFile_throwsNullPointerException() {
+    public void saveMembers_nullFile_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
-        saveData("dummy data", null);
+        saveMembers(getTypicalMembers(), null);
     }
 
     /**
-     * Saves {@code data} at the specified {@code file}.
+     * Saves {@code members} at the specified {@code file}.
      */
-    private void saveData(String data, File file) {
+    private void saveMembers(List<Member> members, File file) {
         try {
             CsvClubBookStorage csvClubBookStorage = new CsvClubBookStorage();
             csvClubBookStorage.setClubBookFile(file);
-            csvClubBookStorage.saveData(data, addToTestDataFileIfNotNull(file));
+            csvClubBookStorage.saveMembers(members, CsvColumn.ALL_COLUMNS, addToTestDataFileIfNotNull(file));
         } catch (IOException ioe) {
             throw new AssertionError("There should not be an error writing to the file.", ioe);
         }
@@ -0,0 +1,204 @@
+package seedu.club.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.club.testutil.TypicalMembers.ALICE;
+import static seedu.club.testutil.TypicalMembers.BENSON;
+import static seedu.club.testutil.TypicalMembers.HOON;
+import static seedu.club.testutil.TypicalMembers.IDA;
+import static seedu.club.testutil.TypicalMembers.getTypicalClubBook;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.club.model.ClubBook;
+import seedu.club.model.ReadOnlyClubBook;
+import seedu.club.testutil.MemberBuilder;
+import seedu.club.testutil.PollBuilder;
+
+public class JournaledClubBookStorageTest {
+
+    private static final String NEW_PHOTO_PATH = "photos/newPhoto.png";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().getPath() + File.separator + "TempClubBook.xml";
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new JournaledClubBookStorage(null);
+    }
+
+    @Test
+    public void readClubBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledClubBookStorage(new XmlClubBookStorage(filePath)).readClubBook().isPresent());
+    }
+
+    @Test
+    public void saveClubBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournaledClubBookStorage storage = new JournaledClubBookStorage(new XmlClubBookStorage(filePath));
+        ClubBook clubBook = getTypicalClubBook();
+        ClubBook original = new ClubBook(clubBook);
+        storage.saveClubBook(clubBook);
+        assertEquals(0, storage.getJournalRecordCount());
+
+        clubBook.addMember(HOON);
+        storage.saveClubBook(clubBook);
+        clubBook.updateMember(ALICE, new MemberBuilder(ALICE).withPhone("91234567").build());
+        storage.saveClubBook(clubBook);
+        clubBook.removeMember(BENSON);
+        storage.saveClubBook(clubBook);
+        clubBook.addPoll(new PollBuilder().withQuestion("Where shall we meet?")
+                .withAnswers("Canteen", "Library").build());
+        storage.saveClubBook(clubBook);
+        assertTrue(storage.getJournalRecordCount() > 0);
+
+        // The snapshot is left as it was after the first save
+        assertEquals(original, new ClubBook(new XmlClubBookStorage(filePath).readClubBook().get()));
+
+        ReadOnlyClubBook readBack = new JournaledClubBookStorage(new XmlClubBookStorage(filePath)).readClubBook().get();
+        assertEquals(clubBook, new ClubBook(readBack));
+        assertEquals(clubBook.getPollList(), readBack.getPollList());
+    }
+
+    @Test
+    public void saveClubBook_memberChangedInPlace_appendedToJournal() throws Exception {
+        JournaledClubBookStorage storage = new JournaledClubBookStorage(new XmlClubBookStorage(filePath));
+        ClubBook clubBook = getTypicalClubBook();
+        clubBook.setLoggedInMember(clubBook.getMemberList().get(0));
+        storage.saveClubBook(clubBook);
+
+        clubBook.changeLoggedInMemberProfilePhoto(NEW_PHOTO_PATH);
+        storage.saveClubBook(clubBook);
+        assertEquals(2, storage.getJournalRecordCount());
+
+        ReadOnlyClubBook readBack = new JournaledClubBookStorage(new XmlClubBookStorage(filePath)).readClubBook().get();
+        assertEquals(NEW_PHOTO_PATH, readBack.getMemberList().get(0).getProfilePhoto().getPhotoPath());
+    }
+
+    @Test
+    public void saveClubBook_otherClubBook_writesSnapshot() throws Exception {
+        JournaledClubBookStorage storage = new JournaledClubBookStorage(new XmlClubBookStorage(filePath));
+        storage.saveClubBook(getTypicalClubBook());
+        ClubBook clubBook = getTypicalClubBook();
+        clubBook.addMember(HOON);
+        storage.saveClubBook(clubBook);
+        assertEquals(0, storage.getJournalRecordCount());
+
+        // The changes made to the other club book are not known, so all of it is written
+        assertEquals(clubBook, new ClubBook(new XmlClubBookStorage(filePath).readClubBook().get()));
+    }
+
+    @Test
+    public void saveClubBook_journalFull_writesSnapshot() throws Exception {
+        JournaledClubBookStorage storage = new JournaledClubBookStorage(new XmlClubBookStorage(filePath), 1);
+        ClubBook clubBook = getTypicalClubBook();
+        storage.saveClubBook(clubBook);
+
+        clubBook.addMember(HOON);
+        storage.saveClubBook(clubBook);
+        assertEquals(1, storage.getJournalRecordCount());
+
+        clubBook.addMember(IDA);
+        storage.saveClubBook(clubBook);
+        assertEquals(0, storage.getJournalRecordCount());
+        assertEquals(clubBook, new ClubBook(new XmlClubBookStorage(filePath).readClubBook().get()));
+    }
+
+    @Test
+    public void flushClubBook_journalNotEmpty_writesSnapshot() throws Exception {
+        JournaledClubBookStorage storage = new JournaledClubBookStorage(new XmlClubBookStorage(filePath));
+        ClubBook clubBook = getTypicalClubBook();
+        storage.saveClubBook(clubBook);
+        clubBook.addMember(HOON);
+        storage.saveClubBook(clubBook);
+
+        storage.flushClubBook();
+        assertEquals(0, storage.getJournalRecordCount());
+        assertEquals(clubBook, new ClubBook(new XmlClubBookStorage(filePath).readClubBook().get()));
+    }
+
+    @Test
+    public void readClubBook_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        JournaledClubBookStorage storage = new JournaledClubBookStorage(new XmlClubBookStorage(filePath));
+        ClubBook clubBook = getTypicalClubBook();
+        storage.saveClubBook(clubBook);
+        clubBook.addMember(HOON);
+        storage.saveClubBook(clubBook);
+
+        ClubBook newerSnapshot = getTypicalClubBook();
+        newerSnapshot.addMember(IDA);
+        new XmlClubBookStorage(filePath).saveClubBook(newerSnapshot);
+
+        ReadOnlyClubBook readBack = new JournaledClubBookStorage(new XmlClubBookStorage(filePath)).readClubBook().get();
+        assertEquals(newerSnapshot, new ClubBook(readBack));
+    }
+
+    @Test
+    public void readClubBook_partlyWrittenSave_lastCommittedSaveRead() throws Exception {
+        JournaledClubBookStorage storage = new JournaledClubBookStorage(new XmlClubBookStorage(filePath));
+        ClubBook clubBook = getTypicalClubBook();
+        storage.saveClubBook(clubBook);
+        clubBook.addMember(HOON);
+        storage.saveClubBook(clubBook);
+
+        try (FileOutputStream journal = new FileOutputStream(
+                JournaledClubBookStorage.getJournalFilePath(filePath), true)) {
+            journal.write("- members 0\n+ members 0 <members><na"
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        JournaledClubBookStorage reopenedStorage = new JournaledClubBookStorage(new XmlClubBookStorage(filePath));
+        assertEquals(clubBook, new ClubBook(reopenedStorage.readClubBook().get()));
+
+        // The damaged journal is replaced by a new snapshot on the next save
+        clubBook.addMember(IDA);
+        reopenedStorage.saveClubBook(clubBook);
+        assertEquals(0, reopenedStorage.getJournalRecordCount());
+        assertEquals(clubBook, new ClubBook(reopenedStorage.readClubBook().get()));
+    }
+
+    @Test
+    public void saveClubBook_otherFilePath_writesSnapshotOnly() throws Exception {
+        String otherFilePath = testFolder.getRoot().getPath() + File.separator + "OtherClubBook.xml";
+        JournaledClubBookStorage storage = new JournaledClubBookStorage(new XmlClubBookStorage(filePath));
+        ClubBook clubBook = getTypicalClubBook();
+
+        storage.saveClubBook(clubBook, otherFilePath);
+        assertFalse(new File(JournaledClubBookStorage.getJournalFilePath(otherFilePath)).exists());
+        assertEquals(clubBook, new ClubBook(storage.readClubBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveClubBook_writeFails_throwsIoException() throws Exception {
+        JournaledClubBookStorage storage = new JournaledClubBookStorage(new XmlClubBookStorage(filePath));
+        ClubBook clubBook = getTypicalClubBook();
+        storage.saveClubBook(clubBook);
+        File journalFile = new File(JournaledClubBookStorage.getJournalFilePath(filePath));
+        assertTrue(journalFile.delete());
+        assertTrue(journalFile.mkdir());
+
+        clubBook.addMember(HOON);
+        thrown.expect(IOException.class);
+        storage.saveClubBook(clubBook);
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.club.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.club.testutil.TypicalIndexes.INDEX_FIRST_ANSWER;
+import static seedu.club.testutil.TypicalMembers.ALICE;
+import static seedu.club.testutil.TypicalMembers.HOON;
+import static seedu.club.testutil.TypicalMembers.getTypicalClubBook;
+import static seedu.club.testutil.TypicalPolls.POLL_WHAT;
+import static seedu.club.testutil.TypicalPolls.getTypicalClubBookWithPolls;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.club.commons.exceptions.DataConversionException;
+import seedu.club.commons.util.FileUtil;
+import seedu.club.model.ClubBook;
+import seedu.club.model.ClubBookSection;
+import seedu.club.model.ReadOnlyClubBook;
+import seedu.club.testutil.TypicalTasks;
+
+public class SectionedClubBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+
+    @Before
+    public void setUp() {
+        filePath = getTempFilePath("TempClubBook.manifest");
+    }
+
+    @Test
+    public void readClubBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new SectionedClubBookStorage("dummy").readClubBook(null);
+    }
+
+    @Test
+    public void readClubBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SectionedClubBookStorage(filePath).readClubBook().isPresent());
+    }
+
+    @Test
+    public void readClubBook_notManifest_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(new File(filePath), "<clubbook></clubbook>");
+
+        thrown.expect(DataConversionException.class);
+        new SectionedClubBookStorage(filePath).readClubBook();
+    }
+
+    @Test
+    public void readClubBook_sectionNotMatchingManifest_throwsDataConversionException() throws Exception {
+        new SectionedClubBookStorage(filePath).saveClubBook(getTypicalClubBook());
+        new XmlClubBookStorage(getSectionFilePath(ClubBookSection.MEMBERS, 1)).saveClubBook(new ClubBook());
+
+        thrown.expect(DataConversionException.class);
+        new SectionedClubBookStorage(filePath).readClubBook();
+    }
+
+    @Test
+    public void readAndSaveClubBook_allInOrder_success() throws Exception {
+        ClubBook original = getTypicalClubBookWithPolls();
+        original.addTaskToTaskList(TypicalTasks.BOOK_AUDITORIUM);
+        SectionedClubBookStorage sectionedClubBookStorage = new SectionedClubBookStorage(filePath);
+
+        //Save in new file and read back
+        sectionedClubBookStorage.saveClubBook(original);
+        ReadOnlyClubBook readBack = new SectionedClubBookStorage(filePath).readClubBook().get();
+        assertEquals(original, new ClubBook(readBack));
+        assertEquals(original.getPollList(), readBack.getPollList());
+        assertEquals(original.getTaskList(), readBack.getTaskList());
+
+        //Modify data, overwrite existing file, and read back
+        original.addMember(HOON);
+        sectionedClubBookStorage.saveClubBook(original);
+        readBack = new SectionedClubBookStorage(filePath).readClubBook().get();
+        assertEquals(original, new ClubBook(readBack));
+        assertEquals(original.getPollList(), readBack.getPollList());
+    }
+
+    @Test
+    public void saveClubBook_voteInPoll_onlyPollsRewritten() throws Exception {
+        ClubBook clubBook = getTypicalClubBookWithPolls();
+        SectionedClubBookStorage sectionedClubBookStorage = new SectionedClubBookStorage(filePath);
+        sectionedClubBookStorage.saveClubBook(clubBook);
+
+        clubBook.voteInPoll(POLL_WHAT, INDEX_FIRST_ANSWER, ALICE.getMatricNumber());
+        sectionedClubBookStorage.saveClubBook(clubBook);
+
+        assertTrue(new File(getSectionFilePath(ClubBookSection.MEMBERS, 1)).exists());
+        assertTrue(new File(getSectionFilePath(ClubBookSection.TAGS, 1)).exists());
+        assertTrue(new File(getSectionFilePath(ClubBookSection.TASKS, 1)).exists());
+        assertFalse(new File(getSectionFilePath(ClubBookSection.POLLS, 1)).exists());
+        assertTrue(new File(getSectionFilePath(ClubBookSection.POLLS, 2)).exists());
+
+        ReadOnlyClubBook readBack = new SectionedClubBookStorage(filePath).readClubBook().get();
+        assertEquals(clubBook.getPollList(), readBack.getPollList());
+    }
+
+    @Test
+    public void saveClubBook_unknownLastSave_allSectionsRewritten() throws Exception {
+        ClubBook clubBook = getTypicalClubBook();
+        new SectionedClubBookStorage(filePath).saveClubBook(clubBook);
+        new SectionedClubBookStorage(filePath).saveClubBook(clubBook);
+
+        for (ClubBookSection section : ClubBookSection.values()) {
+            assertFalse(new File(getSectionFilePath(section, 1)).exists());
+            assertTrue(new File(getSectionFilePath(section, 2)).exists());
+        }
+        assertEquals(clubBook, new ClubBook(new SectionedClubBookStorage(filePath).readClubBook().get()));
+    }
+
+    @Test
+    public void saveClubBook_otherFilePath_success() throws Exception {
+        String otherFilePath = getTempFilePath("OtherClubBook.manifest");
+        SectionedClubBookStorage sectionedClubBookStorage = new SectionedClubBookStorage(filePath);
+        ClubBook clubBook = getTypicalClubBook();
+
+        sectionedClubBookStorage.saveClubBook(clubBook, otherFilePath);
+        assertFalse(new File(filePath).exists());
+        assertEquals(clubBook, new ClubBook(sectionedClubBookStorage.readClubBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void migrateFrom_noManifest_xmlDataCopied() throws Exception {
+        String xmlFilePath = getTempFilePath("TempClubBook.xml");
+        ClubBook original = getTypicalClubBook();
+        new XmlClubBookStorage(xmlFilePath).saveClubBook(original);
+
+        SectionedClubBookStorage sectionedClubBookStorage =
+                new SectionedClubBookStorage(SectionedClubBookStorage.getManifestFilePath(xmlFilePath));
+        assertTrue(sectionedClubBookStorage.migrateFrom(new XmlClubBookStorage(xmlFilePath)));
+        assertFalse(sectionedClubBookStorage.migrateFrom(new XmlClubBookStorage(xmlFilePath)));
+        assertEquals(original, new ClubBook(sectionedClubBookStorage.readClubBook().get()));
+    }
+
+    @Test
+    public void saveClubBook_nullClubBook_throwsNullPointerException() throws IOException {
+        thrown.expect(NullPointerException.class);
+        new SectionedClubBookStorage(filePath).saveClubBook(null);
+    }
+
+    @Test
+    public void getSectionFilePath_manifestFilePath_success() {
+        assertEquals("data" + File.separator + "clubbook.members.3.xml",
+                SectionedClubBookStorage.getSectionFilePath("data" + File.separator + "clubbook.manifest",
+                        ClubBookSection.MEMBERS, 3));
+    }
+
+    private String getSectionFilePath(ClubBookSection section, long version) {
+        return SectionedClubBookStorage.getSectionFilePath(filePath, section, version);
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+}
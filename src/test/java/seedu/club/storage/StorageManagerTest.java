@@ -4,9 +4,11 @@ import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.club.testutil.TypicalMembers.getTypicalClubBook;
+import static seedu.club.testutil.TypicalMembers.getTypicalMembers;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -20,9 +22,11 @@ import seedu.club.commons.events.storage.DataReadingExceptionEvent;
 import seedu.club.commons.events.storage.DataSavingExceptionEvent;
 import seedu.club.commons.exceptions.PhotoReadException;
 import seedu.club.commons.exceptions.PhotoWriteException;
+import seedu.club.commons.util.CsvColumn;
 import seedu.club.model.ClubBook;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.UserPrefs;
+import seedu.club.model.member.Member;
 import seedu.club.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -126,7 +130,8 @@ public class StorageManagerTest {
                 new CsvClubBookStorageExceptionThrowingStub());
 
         File dummyFile = new File("./src/test/data/CsvClubBookStorageTest/exportFile.csv");
-        storage.handleExportDataEvent(new NewExportDataAvailableEvent(dummyFile, "dummy data"));
+        storage.handleExportDataEvent(new NewExportDataAvailableEvent(dummyFile, getTypicalMembers(),
+                CsvColumn.ALL_COLUMNS));
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
@@ -160,7 +165,7 @@ public class StorageManagerTest {
     class CsvClubBookStorageExceptionThrowingStub extends CsvClubBookStorage {
 
         @Override
-        public void saveData(String data) throws IOException {
+        public void saveMembers(List<Member> members, List<CsvColumn> columns) throws IOException {
             throw new IOException("dummy exception");
         }
     }
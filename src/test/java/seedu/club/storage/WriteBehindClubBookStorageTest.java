@@ -0,0 +1,174 @@
+package seedu.club.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.club.testutil.TypicalMembers.ALICE;
+import static seedu.club.testutil.TypicalMembers.HOON;
+import static seedu.club.testutil.TypicalMembers.IDA;
+import static seedu.club.testutil.TypicalMembers.getTypicalClubBook;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.club.model.ClubBook;
+import seedu.club.model.ReadOnlyClubBook;
+
+public class WriteBehindClubBookStorageTest {
+
+    private static final long LONG_SAVE_DELAY = 60 * 60 * 1000;
+    private static final long BACKGROUND_SAVE_TIMEOUT = 10 * 1000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new WriteBehindClubBookStorage(null, LONG_SAVE_DELAY);
+    }
+
+    @Test
+    public void saveClubBook_nullClubBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new WriteBehindClubBookStorage(new RecordingClubBookStorage(), LONG_SAVE_DELAY).saveClubBook(null);
+    }
+
+    @Test
+    public void saveClubBook_burstOfSaves_coalescedIntoOneWrite() throws Exception {
+        RecordingClubBookStorage recordingStorage = new RecordingClubBookStorage();
+        WriteBehindClubBookStorage storage = new WriteBehindClubBookStorage(recordingStorage, LONG_SAVE_DELAY);
+        ClubBook clubBook = getTypicalClubBook();
+
+        storage.saveClubBook(clubBook);
+        clubBook.addMember(HOON);
+        storage.saveClubBook(clubBook);
+        clubBook.addMember(IDA);
+        storage.saveClubBook(clubBook);
+
+        assertEquals(3, storage.getPendingSaveCount());
+        assertEquals(0, recordingStorage.savedClubBooks.size());
+
+        storage.flushClubBook();
+        assertEquals(0, storage.getPendingSaveCount());
+        assertEquals(1, storage.getCompletedSaveCount());
+        assertEquals(1, recordingStorage.savedClubBooks.size());
+        assertEquals(clubBook, new ClubBook(recordingStorage.savedClubBooks.get(0)));
+    }
+
+    @Test
+    public void saveClubBook_clubBookChangedAfterSave_changeNotWritten() throws Exception {
+        RecordingClubBookStorage recordingStorage = new RecordingClubBookStorage();
+        WriteBehindClubBookStorage storage = new WriteBehindClubBookStorage(recordingStorage, LONG_SAVE_DELAY);
+        ClubBook clubBook = getTypicalClubBook();
+        ClubBook expectedClubBook = getTypicalClubBook();
+
+        storage.saveClubBook(clubBook);
+        clubBook.addMember(HOON);
+        storage.flushClubBook();
+
+        assertEquals(expectedClubBook, new ClubBook(recordingStorage.savedClubBooks.get(0)));
+    }
+
+    @Test
+    public void saveClubBook_noDelay_writtenInBackground() throws Exception {
+        RecordingClubBookStorage recordingStorage = new RecordingClubBookStorage();
+        WriteBehindClubBookStorage storage = new WriteBehindClubBookStorage(recordingStorage, 0);
+
+        storage.saveClubBook(getTypicalClubBook());
+
+        long deadline = System.currentTimeMillis() + BACKGROUND_SAVE_TIMEOUT;
+        while (storage.getCompletedSaveCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, storage.getCompletedSaveCount());
+        assertEquals(0, storage.getPendingSaveCount());
+        assertTrue(storage.getAverageSaveLatency() >= 0);
+    }
+
+    @Test
+    public void readClubBook_pendingSave_writtenBeforeRead() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempClubBook.xml";
+        WriteBehindClubBookStorage storage =
+                new WriteBehindClubBookStorage(new XmlClubBookStorage(filePath), LONG_SAVE_DELAY);
+        ClubBook original = getTypicalClubBook();
+
+        storage.saveClubBook(original);
+        ReadOnlyClubBook readBack = storage.readClubBook().get();
+        assertEquals(original, new ClubBook(readBack));
+
+        original.removeMember(ALICE);
+        storage.saveClubBook(original, filePath);
+        readBack = storage.readClubBook(filePath).get();
+        assertEquals(original, new ClubBook(readBack));
+    }
+
+    @Test
+    public void flushClubBook_writeFails_throwsIoExceptionAndKeepsSave() throws Exception {
+        RecordingClubBookStorage recordingStorage = new RecordingClubBookStorage();
+        recordingStorage.isFailing = true;
+        WriteBehindClubBookStorage storage = new WriteBehindClubBookStorage(recordingStorage, LONG_SAVE_DELAY);
+        ClubBook clubBook = getTypicalClubBook();
+        storage.saveClubBook(clubBook);
+
+        try {
+            storage.flushClubBook();
+            throw new AssertionError("The write should have failed.");
+        } catch (IOException ioe) {
+            assertEquals(1, storage.getPendingSaveCount());
+        }
+
+        recordingStorage.isFailing = false;
+        storage.flushClubBook();
+        assertEquals(1, storage.getCompletedSaveCount());
+        assertEquals(clubBook, new ClubBook(recordingStorage.savedClubBooks.get(0)));
+    }
+
+    /**
+     * A {@code ClubBookStorage} that keeps every club book saved to it, and fails every save when asked to.
+     */
+    private class RecordingClubBookStorage implements ClubBookStorage {
+        private final List<ReadOnlyClubBook> savedClubBooks = new ArrayList<>();
+        private volatile boolean isFailing = false;
+
+        @Override
+        public String getClubBookFilePath() {
+            return "dummy";
+        }
+
+        @Override
+        public Optional<ReadOnlyClubBook> readClubBook() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyClubBook> readClubBook(String filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public synchronized void saveClubBook(ReadOnlyClubBook clubBook) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            savedClubBooks.add(clubBook);
+        }
+
+        @Override
+        public void saveClubBook(ReadOnlyClubBook clubBook, String filePath) throws IOException {
+            saveClubBook(clubBook);
+        }
+
+        @Override
+        public void flushClubBook() {}
+    }
+}
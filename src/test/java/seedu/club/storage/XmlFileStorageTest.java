@@ -0,0 +1,104 @@
+package seedu.club.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.club.testutil.TypicalPolls.getTypicalClubBookWithPolls;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.club.commons.exceptions.DataConversionException;
+import seedu.club.commons.exceptions.IllegalValueException;
+import seedu.club.commons.util.FileUtil;
+import seedu.club.commons.util.XmlUtil;
+import seedu.club.model.ClubBook;
+import seedu.club.testutil.TypicalMembers;
+import seedu.club.testutil.TypicalTasks;
+
+public class XmlFileStorageTest {
+
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("src/test/data/XmlFileStorageTest/");
+    private static final String CLUB_BOOK_DATA_FOLDER = FileUtil.getPath("src/test/data/XmlSerializableClubBookTest/");
+    private static final File TYPICAL_MEMBERS_FILE = new File(CLUB_BOOK_DATA_FOLDER + "typicalMembersClubBook.xml");
+    private static final File TYPICAL_TASKS_FILE = new File(CLUB_BOOK_DATA_FOLDER + "typicalTasksClubBook.xml");
+    private static final File TYPICAL_POLLS_FILE = new File(CLUB_BOOK_DATA_FOLDER + "typicalPollsClubBook.xml");
+    private static final File INVALID_MEMBER_FILE = new File(CLUB_BOOK_DATA_FOLDER + "invalidMemberClubBook.xml");
+    private static final File DUPLICATE_TAG_FILE = new File(TEST_DATA_FOLDER + "duplicateTagClubBook.xml");
+    private static final File UNKNOWN_ELEMENT_FILE = new File(TEST_DATA_FOLDER + "unknownElementClubBook.xml");
+    private static final File NOT_XML_FILE = new File(
+            FileUtil.getPath("src/test/data/XmlClubBookStorageTest/NotXmlFormatClubBook.xml"));
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void loadClubBookFromSaveFile_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlFileStorage.loadClubBookFromSaveFile(new File(TEST_DATA_FOLDER + "missing.xml"));
+    }
+
+    @Test
+    public void loadClubBookFromSaveFile_notXmlFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlFileStorage.loadClubBookFromSaveFile(NOT_XML_FILE);
+    }
+
+    @Test
+    public void loadClubBookFromSaveFile_typicalFiles_sameAsXmlSerializableClubBook() throws Exception {
+        assertEquals(TypicalMembers.getTypicalClubBook(),
+                XmlFileStorage.loadClubBookFromSaveFile(TYPICAL_MEMBERS_FILE));
+        assertEquals(TypicalTasks.getTypicalClubBookWithTasks(),
+                XmlFileStorage.loadClubBookFromSaveFile(TYPICAL_TASKS_FILE));
+
+        ClubBook pollsFromFile = XmlFileStorage.loadClubBookFromSaveFile(TYPICAL_POLLS_FILE);
+        ClubBook expectedPolls = XmlUtil.getDataFromFile(TYPICAL_POLLS_FILE, XmlSerializableClubBook.class)
+                .toModelType();
+        assertEquals(expectedPolls, pollsFromFile);
+        assertEquals(expectedPolls.getPollList(), pollsFromFile.getPollList());
+    }
+
+    @Test
+    public void loadClubBookFromSaveFile_invalidMemberFile_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        XmlFileStorage.loadClubBookFromSaveFile(INVALID_MEMBER_FILE);
+    }
+
+    @Test
+    public void loadClubBookFromSaveFile_duplicateTagFile_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlFileStorage.MESSAGE_DUPLICATE_TAG);
+        XmlFileStorage.loadClubBookFromSaveFile(DUPLICATE_TAG_FILE);
+    }
+
+    @Test
+    public void loadClubBookFromSaveFile_unknownElement_elementIgnored() throws Exception {
+        ClubBook clubBookFromFile = XmlFileStorage.loadClubBookFromSaveFile(UNKNOWN_ELEMENT_FILE);
+        assertEquals(1, clubBookFromFile.getMemberList().size());
+        assertEquals(TypicalMembers.ALICE, clubBookFromFile.getMemberList().get(0));
+    }
+
+    @Test
+    public void saveClubBookToFile_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlFileStorage.saveClubBookToFile(new File(testFolder.getRoot(), "missing.xml"), new ClubBook());
+    }
+
+    @Test
+    public void saveClubBookToFile_typicalClubBook_readableAsXmlSerializableClubBook() throws Exception {
+        File file = testFolder.newFile("TempClubBook.xml");
+        ClubBook original = getTypicalClubBookWithPolls();
+        original.addTaskToTaskList(TypicalTasks.BOOK_AUDITORIUM);
+
+        XmlFileStorage.saveClubBookToFile(file, original);
+        assertEquals(new XmlSerializableClubBook(original),
+                XmlUtil.getDataFromFile(file, XmlSerializableClubBook.class));
+        assertEquals(original, XmlFileStorage.loadClubBookFromSaveFile(file));
+    }
+}
@@ -76,6 +76,17 @@ public class EventsCollectorRule implements TestRule {
             return events.get(events.size() - 1);
         }
 
+        /**
+         * Returns the event collected just before the most recent one
+         */
+        public BaseEvent getSecondMostRecent() {
+            if (events.size() < 2) {
+                return null;
+            }
+
+            return events.get(events.size() - 2);
+        }
+
         /**
          * Returns true if the collector did not receive any events
          */